@@ -47,9 +47,16 @@ then
 fi
 
 LOCAL_CONFIG="${INSTALL_DIR}/config/${SERVER_NAME}.local.props"
+# The AppCDS archive may be set explicitly with CDS_ARCHIVE (here or in the config file).
+# Create it with a training run: start.sh <server> cds
+CDS_ARCHIVE_DEFAULT="${INSTALL_DIR}/run/${SERVER_NAME}.jsa"
 CONSOLE_LOG="${INSTALL_DIR}/logs/${SERVER_NAME}.log"
 PID_FILE="${SERVER_NAME}.pid"
 source "$INSTALL_DIR/config/$CONFIG_FILE"
+if [ -z "$CDS_ARCHIVE" ]
+then
+  CDS_ARCHIVE="$CDS_ARCHIVE_DEFAULT"
+fi
 export CLASSPATH="${INSTALL_DIR}/target/${SERVER_JAR}:${INSTALL_DIR}/target/dependency/*"
 
 echo "CLASSPATH: $CLASSPATH"
@@ -57,6 +64,9 @@ echo "CLASSPATH: $CLASSPATH"
 if [ -z $2 ]
 then
   DEBUG="false"
+elif [ $2 == "cds" ]
+then
+  DEBUG="cds"
 else
   DEBUG="debug"
 fi
@@ -67,18 +77,35 @@ then
 	exit 0
 fi
 
-if [ $DEBUG == "debug" ]
+CDS_OPTS=()
+if [ -f "$CDS_ARCHIVE" ]
+then
+  echo "Using CDS archive: $CDS_ARCHIVE"
+  CDS_OPTS=("-XX:SharedArchiveFile=$CDS_ARCHIVE" "-Xshare:auto")
+fi
+
+if [ $DEBUG == "cds" ]
+then
+ # Training run: start, send warm-up requests, stop, and write the archive on exit.
+ echo "Creating CDS archive: $CDS_ARCHIVE"
+ rm -f "$CDS_ARCHIVE"
+ if [ -f "$LOCAL_CONFIG" ]; then
+  $JAVA_EXE -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" -cp "${CLASSPATH}" -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS $LOCAL_CONFIG -cds.dump="$CDS_ARCHIVE"
+ else
+  $JAVA_EXE -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" -cp "${CLASSPATH}" -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS -cds.dump="$CDS_ARCHIVE"
+ fi
+elif [ $DEBUG == "debug" ]
 then
  if [ -f "$LOCAL_CONFIG" ]; then
-  $JAVA_EXE -cp "${CLASSPATH}" -Dserver.debug=true -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS $LOCAL_CONFIG
+  $JAVA_EXE "${CDS_OPTS[@]}" -cp "${CLASSPATH}" -Dserver.debug=true -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS $LOCAL_CONFIG
  else
-  $JAVA_EXE -cp "${CLASSPATH}" -Dserver.debug=true -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS
+  $JAVA_EXE "${CDS_OPTS[@]}" -cp "${CLASSPATH}" -Dserver.debug=true -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS
  fi
 else
  if [ -f "$LOCAL_CONFIG" ]; then
-  nohup $JAVA_EXE -cp "${CLASSPATH}" -Dcom.sun.security.enableCRLDP=true -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS $LOCAL_CONFIG 1> $CONSOLE_LOG 2>&1 &
+  nohup $JAVA_EXE "${CDS_OPTS[@]}" -cp "${CLASSPATH}" -Dcom.sun.security.enableCRLDP=true -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS $LOCAL_CONFIG 1> $CONSOLE_LOG 2>&1 &
  else
-  nohup $JAVA_EXE -cp "${CLASSPATH}" -Dcom.sun.security.enableCRLDP=true -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS 1> $CONSOLE_LOG 2>&1 &
+  nohup $JAVA_EXE "${CDS_OPTS[@]}" -cp "${CLASSPATH}" -Dcom.sun.security.enableCRLDP=true -Dserver.install.dir="$INSTALL_DIR" $SERVER_CLASS 1> $CONSOLE_LOG 2>&1 &
  fi
  echo $! > $INSTALL_DIR/run/$PID_FILE
 fi
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+
+import java.io.IOException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maps static files to URLs that include a hash of their content, so they may be cached forever.
+ * <p>
+ *    For example, {@code /js/app.js} maps to {@code /js/app.3f9a2c1b.js}. When the content changes, so does the URL.
+ *    Templates resolve logical paths with {@link #url(String)}. Files are hashed in the background:
+ *    when started, all files below the resource directory are hashed, and until a file is hashed, its logical path is used.
+ *    As a {@link DirectoryWatcher.Listener}, changed files are hashed again as soon as they change.
+ *    A file found to have changed when requested is also queued. Files at or above the maximum size are never hashed.
+ * </p>
+ */
+public class AssetManifest extends AbstractLifeCycle implements DirectoryWatcher.Listener {
+
+   /**
+    * A fingerprinted file.
+    */
+   public static final class Asset {
+
+      Asset(final String path, final String hash, final long size, final long lastModifiedMillis) {
+         this.path = path;
+         this.hash = hash;
+         this.fingerprintedPath = fingerprintedPath(path, hash);
+         this.size = size;
+         this.lastModifiedMillis = lastModifiedMillis;
+      }
+
+      /**
+       * The logical path relative to the resource directory, e.g. {@code /js/app.js}.
+       */
+      public final String path;
+
+      /**
+       * The content hash.
+       */
+      public final String hash;
+
+      /**
+       * The fingerprinted path, e.g. {@code /js/app.3f9a2c1b.js}.
+       */
+      public final String fingerprintedPath;
+
+      /**
+       * The size when hashed.
+       */
+      public final long size;
+
+      /**
+       * The last modified time when hashed.
+       */
+      public final long lastModifiedMillis;
+   }
+
+   /**
+    * Creates an empty manifest that hashes files of any size.
+    * @param resolver Resolves paths to files.
+    */
+   public AssetManifest(final StaticAssetResolver resolver) {
+      this(resolver, 0L);
+   }
+
+   /**
+    * Creates an empty manifest.
+    * @param resolver Resolves paths to files.
+    * @param maxFileSize Files at or above this size are not hashed. If {@code 0}, files of any size are hashed.
+    */
+   public AssetManifest(final StaticAssetResolver resolver, final long maxFileSize) {
+      this.resolver = resolver;
+      this.maxFileSize = maxFileSize;
+   }
+
+   /**
+    * Hashes all files below the resource directory on the calling thread, replacing the current manifest.
+    * @return A self-reference.
+    * @throws IOException on read error.
+    */
+   public synchronized AssetManifest build() throws IOException {
+      Map<String, Asset> assets = new HashMap<>();
+      hashTree(resolver.getResourceDirectory(), assets);
+      replace(assets);
+      return this;
+   }
+
+   /**
+    * Gets the fingerprinted URL path for a logical path.
+    * @param path The logical path, e.g. {@code /js/app.js}.
+    * @return The fingerprinted path, or the logical path if the file is not in the manifest.
+    */
+   public String url(final String path) {
+      Asset asset = snapshot.byPath.get(path);
+      return asset != null ? asset.fingerprintedPath : path;
+   }
+
+   /**
+    * Gets an asset by its logical path.
+    * @param path The logical path.
+    * @return The asset or {@code null} if none.
+    */
+   public Asset forPath(final String path) {
+      return snapshot.byPath.get(path);
+   }
+
+   /**
+    * Gets the asset for a fingerprinted path.
+    * @param fingerprintedPath The fingerprinted path.
+    * @return The asset or {@code null} if the path is not the current fingerprinted path of any file.
+    */
+   public Asset forFingerprintedPath(final String fingerprintedPath) {
+      return snapshot.byFingerprintedPath.get(fingerprintedPath);
+   }
+
+   /**
+    * Is an asset unchanged since it was hashed?
+    * <p>
+    *    If not, the file is queued to be hashed again.
+    * </p>
+    * @param asset The asset.
+    * @return {@code true} if the file is unchanged.
+    */
+   public boolean isCurrent(final Asset asset) {
+      try {
+         Path file = resolver.resolve(asset.path);
+         BasicFileAttributes attributes = file != null ? resolver.attributes(file) : null;
+         if(attributes != null && attributes.isRegularFile() && attributes.size() == asset.size &&
+                 attributes.lastModifiedTime().toMillis() == asset.lastModifiedMillis) {
+            return true;
+         }
+      } catch(IOException ioe) {
+         //Queued. The refresh removes it if it can't be read.
+      }
+      queue(asset.path);
+      return false;
+   }
+
+   /**
+    * Gets all logical paths mapped to fingerprinted paths.
+    * @return The map of fingerprinted path vs logical path.
+    */
+   public ImmutableMap<String, String> mappings() {
+      ImmutableMap.Builder<String, String> mappings = ImmutableMap.builder();
+      snapshot.byPath.forEach((path, asset) -> mappings.put(path, asset.fingerprintedPath));
+      return mappings.build();
+   }
+
+   @Override
+   protected void doStart() throws Exception {
+      this.executor = Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder().setNameFormat("asset-manifest-%d").setDaemon(true).build());
+      executor.execute(this::buildAll);
+      super.doStart();
+   }
+
+   @Override
+   protected void doStop() throws Exception {
+      if(executor != null) {
+         executor.shutdownNow();
+         executor.awaitTermination(STOP_WAIT_SECONDS, TimeUnit.SECONDS);
+      }
+      pending.clear();
+      super.doStop();
+   }
+
+   @Override
+   public void changed(final Set<String> paths) {
+      paths.forEach(this::queue);
+   }
+
+   @Override
+   public void reset() {
+      if(executor != null) {
+         try {
+            executor.execute(this::buildAll);
+         } catch(RejectedExecutionException ree) {
+            //Stopped.
+         }
+      }
+   }
+
+   /**
+    * Queues a path to be hashed again, unless already queued.
+    * @param path The logical path.
+    */
+   private void queue(final String path) {
+      if(executor != null && pending.add(path)) {
+         try {
+            executor.execute(() -> {
+               pending.remove(path);
+               refresh(path);
+            });
+         } catch(RejectedExecutionException ree) {
+            pending.remove(path); //Stopped.
+         }
+      }
+   }
+
+   /**
+    * Hashes all files below the resource directory, or empties the manifest if the directory can't be read.
+    */
+   private void buildAll() {
+      try {
+         build();
+      } catch(IOException ioe) {
+         replace(new HashMap<>());
+      }
+   }
+
+   /**
+    * Hashes a file or directory tree again, or removes it from the manifest if it no longer exists.
+    * @param path The logical path.
+    */
+   private synchronized void refresh(final String path) {
+      Map<String, Asset> assets = new HashMap<>(snapshot.byPath);
+      String prefix = path.endsWith("/") ? path : path + "/";
+      assets.keySet().removeIf(key -> key.equals(path) || key.startsWith(prefix));
+      try {
+         Path file = resolver.resolve(path);
+         BasicFileAttributes attributes = file != null ? resolver.attributes(file) : null;
+         if(attributes != null && attributes.isDirectory()) {
+            hashTree(file, assets);
+         } else {
+            Asset asset = hash(path);
+            if(asset != null) {
+               assets.put(asset.path, asset);
+            }
+         }
+      } catch(IOException ioe) {
+         //Removed from the manifest. Requests use the logical path.
+      }
+      replace(assets);
+   }
+
+   /**
+    * Hashes all files below a directory.
+    * <p>
+    *    Links are followed here, but only files the resolver accepts are added.
+    * </p>
+    * @param start The directory.
+    * @param assets The assets vs logical path.
+    * @throws IOException on walk error.
+    */
+   private void hashTree(final Path start, final Map<String, Asset> assets) throws IOException {
+      final Path root = resolver.getResourceDirectory();
+      Files.walkFileTree(start, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+         @Override
+         public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            if(Thread.currentThread().isInterrupted()) {
+               return FileVisitResult.TERMINATE;
+            }
+            try {
+               Asset asset = hash(DirectoryWatcher.relativePath(root, file));
+               if(asset != null) {
+                  assets.put(asset.path, asset);
+               }
+            } catch(IOException ioe) {
+               //Not added. Requests use the logical path.
+            }
+            return FileVisitResult.CONTINUE;
+         }
+
+         @Override
+         public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+            return FileVisitResult.CONTINUE;
+         }
+      });
+   }
+
+   /**
+    * Hashes a file.
+    * @param path The logical path.
+    * @return The asset or {@code null} if the path is not a regular file or is too large.
+    * @throws IOException on read error.
+    */
+   private Asset hash(final String path) throws IOException {
+      Path file = resolver.resolve(path);
+      BasicFileAttributes attributes = file != null ? resolver.attributes(file) : null;
+      if(attributes == null || !attributes.isRegularFile() || (maxFileSize > 0L && attributes.size() >= maxFileSize)) {
+         return null;
+      }
+      String hash = MoreFiles.asByteSource(file).hash(Hashing.sha256()).toString().substring(0, HASH_LENGTH);
+      return new Asset(path, hash, attributes.size(), attributes.lastModifiedTime().toMillis());
+   }
+
+   /**
+    * Replaces the current manifest.
+    * @param assets The assets vs logical path.
+    */
+   private synchronized void replace(final Map<String, Asset> assets) {
+      ImmutableMap.Builder<String, Asset> byFingerprintedPath = ImmutableMap.builder();
+      assets.values().forEach(asset -> byFingerprintedPath.put(asset.fingerprintedPath, asset));
+      this.snapshot = new Snapshot(ImmutableMap.copyOf(assets), byFingerprintedPath.buildKeepingLast());
+   }
+
+   /**
+    * Inserts a hash into a path, before the extension of the file name, if any.
+    * @param path The path.
+    * @param hash The hash.
+    * @return The fingerprinted path.
+    */
+   static String fingerprintedPath(final String path, final String hash) {
+      int nameStart = path.lastIndexOf('/') + 1;
+      int extensionStart = path.lastIndexOf('.');
+      if(extensionStart <= nameStart) {
+         return path + "." + hash;
+      }
+      return path.substring(0, extensionStart) + "." + hash + path.substring(extensionStart);
+   }
+
+   /**
+    * An immutable view of the manifest.
+    */
+   private static final class Snapshot {
+
+      Snapshot(final ImmutableMap<String, Asset> byPath, final ImmutableMap<String, Asset> byFingerprintedPath) {
+         this.byPath = byPath;
+         this.byFingerprintedPath = byFingerprintedPath;
+      }
+
+      final ImmutableMap<String, Asset> byPath;
+      final ImmutableMap<String, Asset> byFingerprintedPath;
+   }
+
+   /**
+    * The number of hex characters of the content hash in a fingerprinted path ({@value}).
+    */
+   public static final int HASH_LENGTH = 8;
+
+   /**
+    * The maximum time to wait for hashing to stop ({@value}).
+    */
+   private static final long STOP_WAIT_SECONDS = 10L;
+
+   private final StaticAssetResolver resolver;
+   private final long maxFileSize;
+
+   /**
+    * Paths queued to be hashed.
+    */
+   private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+   private volatile ExecutorService executor;
+
+   /**
+    * The current manifest.
+    */
+   private volatile Snapshot snapshot = new Snapshot(ImmutableMap.of(), ImmutableMap.of());
+}
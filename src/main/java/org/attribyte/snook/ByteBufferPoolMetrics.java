@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import org.eclipse.jetty.io.ArrayByteBufferPool;
+import org.eclipse.jetty.io.ByteBufferPool;
+
+import java.util.Map;
+
+/**
+ * Reports memory pooled and in-use for the server buffer pool.
+ * <p>
+ *    Only {@code ArrayByteBufferPool} reports usage. Metrics are empty for other pools.
+ * </p>
+ */
+public class ByteBufferPoolMetrics implements MetricSet {
+
+   /**
+    * Creates buffer pool metrics.
+    * @param byteBufferPool The buffer pool.
+    */
+   public ByteBufferPoolMetrics(final ByteBufferPool byteBufferPool) {
+      this.byteBufferPool = byteBufferPool;
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      if(!(byteBufferPool instanceof ArrayByteBufferPool)) {
+         return ImmutableMap.of();
+      }
+
+      final ArrayByteBufferPool pool = (ArrayByteBufferPool)byteBufferPool;
+      return ImmutableMap.<String, Metric>builder()
+              .put("heap-bytes", (Gauge<Long>)pool::getHeapMemory)
+              .put("heap-pooled-bytes", (Gauge<Long>)pool::getAvailableHeapMemory)
+              .put("heap-in-use-bytes", (Gauge<Long>)() -> pool.getHeapMemory() - pool.getAvailableHeapMemory())
+              .put("direct-bytes", (Gauge<Long>)pool::getDirectMemory)
+              .put("direct-pooled-bytes", (Gauge<Long>)pool::getAvailableDirectMemory)
+              .put("direct-in-use-bytes", (Gauge<Long>)() -> pool.getDirectMemory() - pool.getAvailableDirectMemory())
+              .put("heap-buffers", (Gauge<Long>)pool::getHeapByteBufferCount)
+              .put("direct-buffers", (Gauge<Long>)pool::getDirectByteBufferCount)
+              .build();
+   }
+
+   /**
+    * The buffer pool.
+    */
+   private final ByteBufferPool byteBufferPool;
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A satisfiable byte range of a representation, as requested with the {@code Range} header.
+ */
+public class ByteRange {
+
+   /**
+    * Creates a range.
+    * @param start The first byte position.
+    * @param end The last byte position, inclusive.
+    */
+   public ByteRange(final long start, final long end) {
+      this.start = start;
+      this.end = end;
+   }
+
+   /**
+    * Gets the number of bytes in the range.
+    * @return The length.
+    */
+   public long length() {
+      return end - start + 1L;
+   }
+
+   /**
+    * Gets the {@code Content-Range} header value for this range.
+    * @param size The size of the representation.
+    * @return The header value.
+    */
+   public String contentRange(final long size) {
+      return "bytes " + start + "-" + end + "/" + size;
+   }
+
+   @Override
+   public boolean equals(final Object o) {
+      if(this == o) return true;
+      if(!(o instanceof ByteRange)) return false;
+      ByteRange other = (ByteRange)o;
+      return start == other.start && end == other.end;
+   }
+
+   @Override
+   public int hashCode() {
+      return Long.hashCode(start) * 31 + Long.hashCode(end);
+   }
+
+   @Override
+   public String toString() {
+      return start + "-" + end;
+   }
+
+   /**
+    * Parses a {@code Range} header.
+    * <p>
+    *    Overlapping and adjacent ranges are coalesced, so the result is in ascending order.
+    * </p>
+    * @param header The header value.
+    * @param size The size of the representation.
+    * @param maxRanges The maximum number of ranges allowed.
+    * @return The satisfiable ranges, an empty list if none are satisfiable, or {@code null} if the
+    * header is invalid or has too many ranges and should be ignored.
+    */
+   public static ImmutableList<ByteRange> parse(final String header, final long size, final int maxRanges) {
+      if(header == null) {
+         return null;
+      }
+      String value = header.trim();
+      if(!value.regionMatches(true, 0, UNIT_PREFIX, 0, UNIT_PREFIX.length())) {
+         return null;
+      }
+
+      List<ByteRange> ranges = new ArrayList<>();
+      int count = 0;
+      for(String spec : rangeSplitter.split(value.substring(UNIT_PREFIX.length()))) {
+         if(++count > maxRanges) {
+            return null;
+         }
+         int dash = spec.indexOf('-');
+         if(dash < 0) {
+            return null;
+         }
+         String first = spec.substring(0, dash).trim();
+         String last = spec.substring(dash + 1).trim();
+         try {
+            if(first.isEmpty()) {
+               long suffixLength = position(last);
+               if(suffixLength > 0L && size > 0L) {
+                  ranges.add(new ByteRange(Math.max(0L, size - suffixLength), size - 1L));
+               }
+            } else {
+               long start = position(first);
+               long end = last.isEmpty() ? Long.MAX_VALUE : position(last);
+               if(end < start) {
+                  return null;
+               }
+               if(start < size) {
+                  ranges.add(new ByteRange(start, Math.min(end, size - 1L)));
+               }
+            }
+         } catch(NumberFormatException nfe) {
+            return null;
+         }
+      }
+
+      if(count == 0) {
+         return null;
+      }
+      return coalesce(ranges);
+   }
+
+   /**
+    * Parses a byte position.
+    * @param str The string.
+    * @return The position.
+    * @throws NumberFormatException if not a non-negative number.
+    */
+   private static long position(final String str) throws NumberFormatException {
+      for(int i = 0; i < str.length(); i++) {
+         if(!Character.isDigit(str.charAt(i))) {
+            throw new NumberFormatException(str);
+         }
+      }
+      return Long.parseLong(str);
+   }
+
+   /**
+    * Sorts ranges and merges those that overlap or are adjacent.
+    * @param ranges The ranges.
+    * @return The coalesced ranges.
+    */
+   private static ImmutableList<ByteRange> coalesce(final List<ByteRange> ranges) {
+      ranges.sort(Comparator.comparingLong(range -> range.start));
+      ImmutableList.Builder<ByteRange> coalesced = ImmutableList.builder();
+      ByteRange current = null;
+      for(ByteRange range : ranges) {
+         if(current == null) {
+            current = range;
+         } else if(range.start <= current.end + 1L) {
+            current = new ByteRange(current.start, Math.max(current.end, range.end));
+         } else {
+            coalesced.add(current);
+            current = range;
+         }
+      }
+      if(current != null) {
+         coalesced.add(current);
+      }
+      return coalesced.build();
+   }
+
+   /**
+    * The range unit prefix ({@value}).
+    */
+   private static final String UNIT_PREFIX = "bytes=";
+
+   /**
+    * Splits range specs.
+    */
+   private static final Splitter rangeSplitter = Splitter.on(',').trimResults().omitEmptyStrings();
+
+   /**
+    * The first byte position.
+    */
+   public final long start;
+
+   /**
+    * The last byte position, inclusive.
+    */
+   public final long end;
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import org.attribyte.api.Logger;
+
+import javax.management.ObjectName;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * Produces an AppCDS (application class data sharing) archive at the end of a training run.
+ * <p>
+ *    The JVM must be started with either {@code -XX:ArchiveClassesAtExit=<path>}, in which case the archive
+ *    is written when the JVM exits, or {@code -XX:+RecordDynamicDumpInfo}, in which case the archive is
+ *    written on request. Start later runs with {@code -XX:SharedArchiveFile=<path>} to use the archive.
+ *    See {@code bin/start.sh}.
+ * </p>
+ */
+public class CDSTraining {
+
+   /**
+    * Writes the archive or verifies it will be written at exit.
+    * @param path The archive path.
+    * @param logger The logger.
+    * @return {@code true} if the archive was, or will be, written.
+    */
+   public static boolean dump(final String path, final Logger logger) {
+      List<String> jvmArgs = ManagementFactory.getRuntimeMXBean().getInputArguments();
+      if(archivesAtExit(jvmArgs)) {
+         logger.info("CDS archive will be written on exit");
+         return true;
+      }
+
+      if(!recordsDynamicDumpInfo(jvmArgs)) {
+         logger.error(String.format("Unable to write CDS archive, '%s': start the JVM with -XX:ArchiveClassesAtExit=<path> or -XX:+RecordDynamicDumpInfo", path));
+         return false;
+      }
+
+      try {
+         String archivePath = new File(path).getAbsolutePath();
+         Object result = ManagementFactory.getPlatformMBeanServer().invoke(
+                 new ObjectName(DIAGNOSTIC_COMMAND_MBEAN), "vmCds",
+                 new Object[] {new String[] {"dynamic_dump", archivePath}},
+                 new String[] {String[].class.getName()});
+         logger.info(String.format("CDS archive written, '%s' %s", archivePath, result != null ? result.toString().trim() : ""));
+         return new File(archivePath).exists();
+      } catch(Exception e) {
+         logger.error(String.format("Unable to write CDS archive, '%s'", path), e);
+         return false;
+      }
+   }
+
+   /**
+    * Was the JVM started to write an archive on exit?
+    * @param jvmArgs The JVM arguments.
+    * @return {@code true} if an archive is written on exit.
+    */
+   static boolean archivesAtExit(final List<String> jvmArgs) {
+      return jvmArgs.stream().anyMatch(arg -> arg.startsWith("-XX:ArchiveClassesAtExit="));
+   }
+
+   /**
+    * Was the JVM started to allow an archive to be written on request?
+    * @param jvmArgs The JVM arguments.
+    * @return {@code true} if an archive may be written on request.
+    */
+   static boolean recordsDynamicDumpInfo(final List<String> jvmArgs) {
+      return jvmArgs.contains("-XX:+RecordDynamicDumpInfo");
+   }
+
+   /**
+    * The diagnostic command management bean name ({@value}).
+    */
+   private static final String DIAGNOSTIC_COMMAND_MBEAN = "com.sun.management:type=DiagnosticCommand";
+}
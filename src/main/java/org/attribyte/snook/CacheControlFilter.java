@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.base.Strings;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Sets the {@code Cache-Control} header for static assets.
+ * <p>
+ *    The value may be changed while the server is running.
+ * </p>
+ */
+public class CacheControlFilter implements Filter {
+
+   /**
+    * Creates the filter.
+    * @param cacheControl The header value. If empty, no header is set.
+    */
+   public CacheControlFilter(final String cacheControl) {
+      this.cacheControl = Strings.nullToEmpty(cacheControl);
+   }
+
+   @Override
+   public void doFilter(final ServletRequest request, final ServletResponse response,
+                        final FilterChain chain) throws IOException, ServletException {
+      String cacheControl = this.cacheControl;
+      if(!cacheControl.isEmpty()) {
+         ((HttpServletResponse)response).setHeader("Cache-Control", cacheControl);
+      }
+      chain.doFilter(request, response);
+   }
+
+   /**
+    * Sets the header value.
+    * @param cacheControl The value. If empty, no header is set.
+    */
+   public void setCacheControl(final String cacheControl) {
+      this.cacheControl = Strings.nullToEmpty(cacheControl);
+   }
+
+   /**
+    * Gets the header value.
+    * @return The value.
+    */
+   public String getCacheControl() {
+      return cacheControl;
+   }
+
+   private volatile String cacheControl;
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.gson.Gson;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Reloads configuration on {@code POST} and reports the result as JSON.
+ * <p>
+ *    {@code GET} reports the result of the last reload. For example:
+ *    {@code {"applied":["log4j","assets.css"],"notApplied":["server.httpPort"]}}
+ * </p>
+ */
+@SuppressWarnings("serial")
+public class ConfigReloadServlet extends HttpServlet {
+
+   private static final Gson GSON = new Gson();
+
+   /**
+    * Creates the servlet.
+    * @param reloader The reloader.
+    */
+   public ConfigReloadServlet(final ConfigReloader reloader) {
+      this.reloader = reloader;
+   }
+
+   @Override
+   protected void doPost(final HttpServletRequest request,
+                         final HttpServletResponse response) throws IOException {
+      ConfigReloader.Result result = reloader.reload();
+      write(result, result.error == null ? 200 : 500, response);
+   }
+
+   @Override
+   protected void doGet(final HttpServletRequest request,
+                        final HttpServletResponse response) throws IOException {
+      ConfigReloader.Result result = reloader.lastResult();
+      if(result == null) {
+         response.sendError(404, "No reload has been attempted");
+      } else {
+         write(result, 200, response);
+      }
+   }
+
+   private void write(final ConfigReloader.Result result, final int status,
+                      final HttpServletResponse response) throws IOException {
+      response.setStatus(status);
+      response.setContentType("application/json;charset=UTF-8");
+      response.setHeader("Cache-Control", "no-cache");
+      PrintWriter writer = response.getWriter();
+      writer.write(GSON.toJson(result));
+      writer.flush();
+   }
+
+   private final ConfigReloader reloader;
+}
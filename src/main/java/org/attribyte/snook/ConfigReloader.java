@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.attribyte.api.InitializationException;
+import org.attribyte.api.Logger;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads configuration and applies changes to registered components without a restart.
+ * <p>
+ *    On reload, properties are loaded, compared with the previous properties, and each component
+ *    registered for a changed property prepares its new configuration. If every component prepares
+ *    without error, all changes are applied together. Otherwise, none are. Changed properties that
+ *    no component handles are reported as requiring a restart.
+ * </p>
+ */
+public class ConfigReloader {
+
+   /**
+    * A component that applies reloaded configuration.
+    */
+   public interface Reloadable {
+
+      /**
+       * Validates new properties and prepares to apply them.
+       * @param props The new properties.
+       * @return The action that applies the properties. Must not throw.
+       * @throws InitializationException if the properties are invalid.
+       */
+      public Runnable prepare(final Properties props) throws InitializationException;
+   }
+
+   /**
+    * The result of a reload.
+    */
+   public static class Result {
+
+      Result(final ImmutableList<String> applied, final ImmutableList<String> notApplied, final String error) {
+         this.applied = applied;
+         this.notApplied = notApplied;
+         this.error = error;
+      }
+
+      @Override
+      public String toString() {
+         return MoreObjects.toStringHelper(this)
+                 .add("applied", applied)
+                 .add("notApplied", notApplied)
+                 .add("error", error)
+                 .omitNullValues()
+                 .toString();
+      }
+
+      /**
+       * The names of the components that applied new configuration.
+       */
+      public final ImmutableList<String> applied;
+
+      /**
+       * The changed properties that could not be applied without a restart.
+       */
+      public final ImmutableList<String> notApplied;
+
+      /**
+       * The error that prevented the reload, or {@code null} if none.
+       */
+      public final String error;
+   }
+
+   /**
+    * Creates the reloader.
+    * @param loader Loads the current properties.
+    * @param props The properties in use. A copy is retained for comparison.
+    * @param logger The logger.
+    */
+   public ConfigReloader(final Callable<Properties> loader, final Properties props, final Logger logger) {
+      this.loader = loader;
+      this.props = (Properties)props.clone();
+      this.logger = logger;
+   }
+
+   /**
+    * Registers a component.
+    * @param name The component name, for reports.
+    * @param prefixes The prefixes of the properties the component applies.
+    * @param reloadable The component.
+    * @return A self-reference.
+    */
+   public ConfigReloader register(final String name, final Collection<String> prefixes, final Reloadable reloadable) {
+      registrations.add(new Registration(name, ImmutableList.copyOf(prefixes), reloadable));
+      return this;
+   }
+
+   /**
+    * Loads properties and applies any changes.
+    * @return The result.
+    */
+   public synchronized Result reload() {
+
+      final Properties newProps;
+      try {
+         newProps = loader.call();
+      } catch(Exception e) {
+         logger.error("Configuration reload failed", e);
+         return lastResult = new Result(ImmutableList.of(), ImmutableList.of(), "Load failed: " + e.getMessage());
+      }
+
+      PropertiesDiff diff = PropertiesDiff.of(props, newProps);
+      if(diff.isEmpty()) {
+         return lastResult = new Result(ImmutableList.of(), ImmutableList.of(), null);
+      }
+
+      List<String> handledPrefixes = Lists.newArrayList();
+      List<String> applied = Lists.newArrayList();
+      List<Runnable> actions = Lists.newArrayList();
+      for(Registration registration : registrations) {
+         handledPrefixes.addAll(registration.prefixes);
+         if(diff.anyChanged(registration.prefixes)) {
+            try {
+               actions.add(registration.reloadable.prepare(newProps));
+               applied.add(registration.name);
+            } catch(InitializationException | RuntimeException e) {
+               logger.error(String.format("Configuration reload failed for '%s'", registration.name), e);
+               return lastResult = new Result(ImmutableList.of(), ImmutableList.of(),
+                       String.format("Invalid configuration for '%s': %s", registration.name, e.getMessage()));
+            }
+         }
+      }
+
+      actions.forEach(Runnable::run);
+      this.props = (Properties)newProps.clone();
+
+      Result result = new Result(ImmutableList.copyOf(applied), diff.changedExcept(handledPrefixes).asList(), null);
+      logger.info(String.format("Configuration reloaded: %s", result));
+      if(!result.notApplied.isEmpty()) {
+         logger.warn(String.format("Configuration changes require a restart: %s", result.notApplied));
+      }
+      return lastResult = result;
+   }
+
+   /**
+    * Gets the result of the last reload.
+    * @return The result or {@code null} if no reload has been attempted.
+    */
+   public Result lastResult() {
+      return lastResult;
+   }
+
+   /**
+    * Checks files for changes at an interval and reloads when any changes.
+    * @param files The files.
+    * @param intervalMillis The interval.
+    */
+   public synchronized void watch(final List<File> files, final long intervalMillis) {
+      if(scheduledExecutorService != null || files.isEmpty() || intervalMillis < 1L) {
+         return;
+      }
+
+      final long[] lastModified = new long[files.size()];
+      for(int i = 0; i < lastModified.length; i++) {
+         lastModified[i] = files.get(i).lastModified();
+      }
+
+      this.scheduledExecutorService =
+              MoreExecutors.getExitingScheduledExecutorService(
+                      new ScheduledThreadPoolExecutor(1,
+                              new ThreadFactoryBuilder().setNameFormat("ConfigReloader-Thread-%d").build())
+              );
+      this.scheduledExecutorService.scheduleWithFixedDelay(() -> {
+         boolean changed = false;
+         for(int i = 0; i < lastModified.length; i++) {
+            long modified = files.get(i).lastModified();
+            if(modified != lastModified[i]) {
+               lastModified[i] = modified;
+               changed = true;
+            }
+         }
+         if(changed) {
+            reload();
+         }
+      }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+   }
+
+   /**
+    * Stops checking files for changes.
+    */
+   public synchronized void shutdown() {
+      if(scheduledExecutorService != null) {
+         scheduledExecutorService.shutdownNow();
+         scheduledExecutorService = null;
+      }
+   }
+
+   private static class Registration {
+
+      Registration(final String name, final ImmutableList<String> prefixes, final Reloadable reloadable) {
+         this.name = name;
+         this.prefixes = prefixes;
+         this.reloadable = reloadable;
+      }
+
+      final String name;
+      final ImmutableList<String> prefixes;
+      final Reloadable reloadable;
+   }
+
+   /**
+    * Loads the current properties.
+    */
+   private final Callable<Properties> loader;
+
+   /**
+    * The logger.
+    */
+   private final Logger logger;
+
+   /**
+    * The registered components.
+    */
+   private final List<Registration> registrations = new CopyOnWriteArrayList<>();
+
+   /**
+    * The properties in use.
+    */
+   private Properties props;
+
+   /**
+    * The result of the last reload.
+    */
+   private volatile Result lastResult;
+
+   /**
+    * Checks files for changes, if watching.
+    */
+   private ScheduledExecutorService scheduledExecutorService;
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import org.eclipse.jetty.io.ConnectionStatistics;
+import org.eclipse.jetty.server.ConnectionLimit;
+import org.eclipse.jetty.server.Connector;
+import org.eclipse.jetty.server.LowResourceMonitor;
+
+import java.util.Map;
+
+/**
+ * Reports connection counts, the connection limit and low resource transitions for a server.
+ */
+public class ConnectionMetrics implements MetricSet {
+
+   /**
+    * A low resource monitor that meters transitions to the low resource state.
+    */
+   public static class MeteredLowResourceMonitor extends LowResourceMonitor {
+
+      /**
+       * Creates the monitor.
+       * @param server The server.
+       */
+      public MeteredLowResourceMonitor(final org.eclipse.jetty.server.Server server) {
+         super(server);
+      }
+
+      @Override
+      protected void setLowResources() {
+         super.setLowResources();
+         lowResourceTransitions.mark();
+      }
+
+      /**
+       * Meters transitions to the low resource state.
+       */
+      final Meter lowResourceTransitions = new Meter();
+   }
+
+   /**
+    * Creates connection metrics for a server.
+    * <p>
+    *    Statistics are collected for all connectors configured when this is called.
+    * </p>
+    * @param server The server.
+    */
+   public ConnectionMetrics(final org.eclipse.jetty.server.Server server) {
+      for(Connector connector : server.getConnectors()) {
+         connector.addBean(connectionStatistics);
+      }
+      this.connectionLimit = server.getBean(ConnectionLimit.class);
+      this.lowResourceMonitor = server.getBean(MeteredLowResourceMonitor.class);
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      ImmutableMap.Builder<String, Metric> metrics = ImmutableMap.builder();
+      metrics.put("current", (Gauge<Long>)connectionStatistics::getConnections);
+      metrics.put("peak", (Gauge<Long>)connectionStatistics::getConnectionsMax);
+      metrics.put("total", (Gauge<Long>)connectionStatistics::getConnectionsTotal);
+      if(connectionLimit != null) {
+         metrics.put("max", (Gauge<Integer>)connectionLimit::getMaxConnections);
+      }
+      if(lowResourceMonitor != null) {
+         metrics.put("low-resources", (Gauge<Boolean>)lowResourceMonitor::isLowOnResources);
+         metrics.put("low-resource-transitions", lowResourceMonitor.lowResourceTransitions);
+      }
+      return metrics.build();
+   }
+
+   /**
+    * Statistics for all monitored connectors.
+    */
+   private final ConnectionStatistics connectionStatistics = new ConnectionStatistics();
+
+   /**
+    * The connection limit, or {@code null} if none.
+    */
+   private final ConnectionLimit connectionLimit;
+
+   /**
+    * The low resource monitor, or {@code null} if none.
+    */
+   private final MeteredLowResourceMonitor lowResourceMonitor;
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.attribyte.api.InitializationException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A content coding for compressed variants of static files.
+ * <p>
+ *    Gzip is always available. Brotli requires {@code com.aayushatharva.brotli4j:brotli4j} and
+ *    zstd requires {@code com.github.luben:zstd-jni}. Both are optional dependencies that bundle
+ *    native codecs for common platforms.
+ * </p>
+ */
+public enum ContentEncoding {
+
+   /**
+    * Brotli ({@code br}).
+    */
+   BROTLI("br", ".br"),
+
+   /**
+    * Zstandard ({@code zstd}).
+    */
+   ZSTD("zstd", ".zst"),
+
+   /**
+    * Gzip ({@code gzip}).
+    */
+   GZIP("gzip", ".gz");
+
+   ContentEncoding(final String token, final String extension) {
+      this.token = token;
+      this.extension = extension;
+   }
+
+   /**
+    * Is the codec for this encoding available?
+    * @return {@code true} if the codec is on the classpath and loaded.
+    */
+   public boolean isAvailable() {
+      try {
+         switch(this) {
+            case BROTLI:
+               return BrotliCodec.isAvailable();
+            case ZSTD:
+               return ZstdCodec.isAvailable();
+            default:
+               return true;
+         }
+      } catch(LinkageError e) {
+         return false; //Not on the classpath or the native library did not load.
+      }
+   }
+
+   /**
+    * Creates a stream that compresses at the maximum practical level.
+    * @param os The stream that receives compressed content.
+    * @return The compressing stream.
+    * @throws IOException on create error.
+    */
+   public OutputStream compress(final OutputStream os) throws IOException {
+      switch(this) {
+         case BROTLI:
+            return BrotliCodec.compress(os);
+         case ZSTD:
+            return ZstdCodec.compress(os);
+         default:
+            return new GZIPOutputStream(os, BUFFER_SIZE) {
+               {
+                  def.setLevel(Deflater.BEST_COMPRESSION);
+               }
+            };
+      }
+   }
+
+   /**
+    * Gets an encoding from its {@code Content-Encoding} token.
+    * @param token The token, e.g. {@code br}.
+    * @return The encoding or {@code null} if none.
+    */
+   public static ContentEncoding fromToken(final String token) {
+      String trimmed = Strings.nullToEmpty(token).trim();
+      for(ContentEncoding encoding : values()) {
+         if(encoding.token.equalsIgnoreCase(trimmed)) {
+            return encoding;
+         }
+      }
+      return null;
+   }
+
+   /**
+    * Parses a comma-separated list of tokens.
+    * @param tokens The tokens, e.g. {@code br, zstd, gzip}.
+    * @return The encodings, in order, without duplicates.
+    * @throws InitializationException on an unknown token.
+    */
+   public static ImmutableList<ContentEncoding> parseList(final String tokens) throws InitializationException {
+      ImmutableSet.Builder<ContentEncoding> encodings = ImmutableSet.builder();
+      for(String token : Splitter.on(',').omitEmptyStrings().trimResults().split(Strings.nullToEmpty(tokens))) {
+         ContentEncoding encoding = fromToken(token);
+         if(encoding == null) {
+            throw new InitializationException(String.format("Unknown content encoding, '%s'", token));
+         }
+         encodings.add(encoding);
+      }
+      return encodings.build().asList();
+   }
+
+   /**
+    * The {@code Content-Encoding} header value.
+    */
+   public final String token;
+
+   /**
+    * The file extension of compressed variants.
+    */
+   public final String extension;
+
+   /**
+    * The compression stream buffer size ({@value}).
+    */
+   private static final int BUFFER_SIZE = 64 * 1024;
+
+   /**
+    * Brotli via brotli4j. Loaded only when used, so the dependency is optional.
+    */
+   private static final class BrotliCodec {
+
+      static boolean isAvailable() {
+         return com.aayushatharva.brotli4j.Brotli4jLoader.isAvailable();
+      }
+
+      static OutputStream compress(final OutputStream os) throws IOException {
+         com.aayushatharva.brotli4j.Brotli4jLoader.ensureAvailability();
+         return new com.aayushatharva.brotli4j.encoder.BrotliOutputStream(os,
+                 new com.aayushatharva.brotli4j.encoder.Encoder.Parameters().setQuality(BROTLI_QUALITY), BUFFER_SIZE);
+      }
+
+      /**
+       * The maximum brotli quality ({@value}).
+       */
+      private static final int BROTLI_QUALITY = 11;
+   }
+
+   /**
+    * Zstandard via zstd-jni. Loaded only when used, so the dependency is optional.
+    */
+   private static final class ZstdCodec {
+
+      static boolean isAvailable() {
+         com.github.luben.zstd.util.Native.load();
+         return com.github.luben.zstd.util.Native.isLoaded();
+      }
+
+      static OutputStream compress(final OutputStream os) throws IOException {
+         return new com.github.luben.zstd.ZstdOutputStream(os, ZSTD_LEVEL);
+      }
+
+      /**
+       * The highest zstd level that does not need the large "ultra" windows ({@value}).
+       */
+      private static final int ZSTD_LEVEL = 19;
+   }
+}
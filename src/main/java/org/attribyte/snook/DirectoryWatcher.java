@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableSet;
+import org.attribyte.api.Logger;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a directory tree for changes and notifies listeners.
+ * <p>
+ *    Changes are collected until no new change is seen for the debounce time, so a bulk copy
+ *    results in a single notification. Listeners are notified at least every ten debounce periods
+ *    while changes continue. Directories created while watching are watched.
+ *    If symbolic links are followed, linked directories are watched too.
+ * </p>
+ */
+public class DirectoryWatcher extends AbstractLifeCycle {
+
+   /**
+    * Receives change notifications.
+    */
+   public interface Listener {
+
+      /**
+       * Called when files or directories have changed.
+       * @param paths The changed paths relative to the watched directory, starting with {@code /}.
+       */
+      void changed(Set<String> paths);
+
+      /**
+       * Called when changes may have been missed. Anything may have changed.
+       */
+      void reset();
+   }
+
+   /**
+    * Creates the watcher.
+    * @param directory The directory.
+    * @param followLinks Are symbolic links to directories followed?
+    * @param debounceMillis The time to wait for further changes before notifying listeners.
+    * @param logger The logger.
+    */
+   public DirectoryWatcher(final Path directory, final boolean followLinks,
+                           final long debounceMillis, final Logger logger) {
+      this.directory = directory.toAbsolutePath().normalize();
+      this.followLinks = followLinks;
+      this.debounceMillis = debounceMillis;
+      this.logger = logger;
+   }
+
+   /**
+    * Adds a listener.
+    * @param listener The listener.
+    * @return A self-reference.
+    */
+   public DirectoryWatcher addListener(final Listener listener) {
+      listeners.add(listener);
+      return this;
+   }
+
+   /**
+    * Gets the watched directory.
+    * @return The directory.
+    */
+   public Path getDirectory() {
+      return directory;
+   }
+
+   @Override
+   protected void doStart() throws Exception {
+      this.watchService = directory.getFileSystem().newWatchService();
+      registerTree(directory);
+      this.watchThread = new Thread(this::run, "directory-watcher-" + directory.getFileName());
+      this.watchThread.setDaemon(true);
+      this.watchThread.start();
+      super.doStart();
+   }
+
+   @Override
+   protected void doStop() throws Exception {
+      if(watchService != null) {
+         watchService.close();
+      }
+      if(watchThread != null) {
+         watchThread.join(STOP_WAIT_MILLIS);
+      }
+      keys.clear();
+      super.doStop();
+   }
+
+   /**
+    * Waits for events, notifying listeners after changes stop for the debounce time.
+    */
+   private void run() {
+      Set<String> changed = new HashSet<>();
+      boolean reset = false;
+      long firstChangeNanos = 0L;
+      final long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis * MAX_DELAY_DEBOUNCE_PERIODS);
+      try {
+         while(true) {
+            boolean pending = !changed.isEmpty() || reset;
+            WatchKey key = pending ? watchService.poll(debounceMillis, TimeUnit.MILLISECONDS) : watchService.take();
+            if(key == null || pending && System.nanoTime() - firstChangeNanos >= maxDelayNanos) {
+               notifyListeners(changed, reset);
+               changed = new HashSet<>();
+               reset = false;
+               if(key == null) {
+                  continue;
+               }
+            }
+
+            if(changed.isEmpty() && !reset) {
+               firstChangeNanos = System.nanoTime();
+            }
+
+            Path dir = keys.get(key);
+            for(WatchEvent<?> event : key.pollEvents()) {
+               if(event.kind() == StandardWatchEventKinds.OVERFLOW || dir == null) {
+                  reset = true;
+                  continue;
+               }
+               Path path = dir.resolve((Path)event.context());
+               changed.add(relativePath(directory, path));
+               if(event.kind() == StandardWatchEventKinds.ENTRY_CREATE && isDirectory(path)) {
+                  try {
+                     registerTree(path);
+                  } catch(IOException ioe) {
+                     logger.error(String.format("Unable to watch '%s'", path), ioe);
+                     reset = true;
+                  }
+               }
+            }
+
+            if(!key.reset()) {
+               keys.remove(key);
+            }
+         }
+      } catch(InterruptedException | ClosedWatchServiceException e) {
+         //Stopped.
+      }
+   }
+
+   /**
+    * Notifies all listeners.
+    * @param changed The changed paths.
+    * @param reset Were changes missed?
+    */
+   private void notifyListeners(final Set<String> changed, final boolean reset) {
+      ImmutableSet<String> paths = ImmutableSet.copyOf(changed);
+      for(Listener listener : listeners) {
+         try {
+            if(reset) {
+               listener.reset();
+            } else {
+               listener.changed(paths);
+            }
+         } catch(Throwable t) {
+            logger.error(String.format("Directory change listener failed for '%s'", directory), t);
+         }
+      }
+   }
+
+   /**
+    * Registers a directory and all directories below it.
+    * @param start The directory.
+    * @throws IOException on registration error.
+    */
+   private void registerTree(final Path start) throws IOException {
+      Set<FileVisitOption> options = followLinks ? EnumSet.of(FileVisitOption.FOLLOW_LINKS) : EnumSet.noneOf(FileVisitOption.class);
+      Files.walkFileTree(start, options, Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+         @Override
+         public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) throws IOException {
+            keys.put(dir.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE,
+                    StandardWatchEventKinds.ENTRY_MODIFY), dir);
+            return FileVisitResult.CONTINUE;
+         }
+
+         @Override
+         public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+            if(!(exc instanceof FileSystemLoopException)) {
+               logger.warn(String.format("Unable to watch '%s': %s", file, exc.getMessage()));
+            }
+            return FileVisitResult.CONTINUE;
+         }
+      });
+   }
+
+   /**
+    * Is a path a directory, following links only if configured?
+    * @param path The path.
+    * @return {@code true} if a directory.
+    */
+   private boolean isDirectory(final Path path) {
+      return followLinks ? Files.isDirectory(path) : Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS);
+   }
+
+   /**
+    * Gets a path relative to a directory, starting with {@code /} and separated with {@code /}.
+    * @param directory The directory.
+    * @param path The path.
+    * @return The relative path.
+    */
+   static String relativePath(final Path directory, final Path path) {
+      StringBuilder buf = new StringBuilder();
+      for(Path component : directory.relativize(path)) {
+         buf.append('/').append(component);
+      }
+      return buf.length() > 0 ? buf.toString() : "/";
+   }
+
+   /**
+    * The maximum delay before listeners are notified, in debounce periods ({@value}).
+    */
+   private static final long MAX_DELAY_DEBOUNCE_PERIODS = 10L;
+
+   /**
+    * The maximum time to wait for the watch thread on stop ({@value}).
+    */
+   private static final long STOP_WAIT_MILLIS = 5000L;
+
+   private final Path directory;
+   private final boolean followLinks;
+   private final long debounceMillis;
+   private final Logger logger;
+   private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+   /**
+    * The directory for each registered watch key.
+    */
+   private final Map<WatchKey, Path> keys = new ConcurrentHashMap<>();
+
+   private WatchService watchService;
+   private Thread watchThread;
+}
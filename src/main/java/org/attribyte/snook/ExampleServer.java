@@ -32,10 +32,10 @@ public class ExampleServer extends Server {
 
    public static void main(String[] args) throws Exception {
       ExampleServer server = new ExampleServer(args);
-      server.rootContext.addServlet(new ServletHolder(new UptimeServlet()), "/uptime/*");
+      server.operationalContext().addServlet(new ServletHolder(new UptimeServlet()), "/uptime/*");
       server.rootContext.addServlet(new ServletHolder(new FailServlet()), "/fail/*");
-      server.httpServer.start();
-      server.httpServer.join();
+      server.start();
+      server.join();
    }
 
    protected void shutdown() {
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.base.Strings;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Serves fingerprinted paths from an {@link AssetManifest} as their logical paths, with a long-lived,
+ * immutable {@code Cache-Control} header.
+ * <p>
+ *    The request is forwarded to the logical path. Paths that are not the current fingerprinted path
+ *    of a file continue down the chain. If the file has changed since it was hashed, it is served
+ *    without the header until the manifest is updated in the background.
+ * </p>
+ */
+public class FingerprintFilter implements Filter {
+
+   /**
+    * Creates the filter.
+    * @param manifest The manifest.
+    * @param cacheControl The {@code Cache-Control} header value for fingerprinted paths.
+    */
+   public FingerprintFilter(final AssetManifest manifest, final String cacheControl) {
+      this.manifest = manifest;
+      this.cacheControl = Strings.nullToEmpty(cacheControl);
+   }
+
+   @Override
+   public void doFilter(final ServletRequest request, final ServletResponse response,
+                        final FilterChain chain) throws IOException, ServletException {
+      HttpServletRequest httpRequest = (HttpServletRequest)request;
+      AssetManifest.Asset asset = manifest.forFingerprintedPath(HTTPUtil.pathInContext(httpRequest));
+      if(asset == null) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      if(manifest.isCurrent(asset) && !cacheControl.isEmpty()) {
+         ((HttpServletResponse)response).setHeader("Cache-Control", cacheControl);
+      }
+      request.getRequestDispatcher(asset.path).forward(request, response);
+   }
+
+   /**
+    * The default {@code Cache-Control} header value for fingerprinted paths ({@value}).
+    */
+   public static final String DEFAULT_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+   private final AssetManifest manifest;
+   private final String cacheControl;
+}
@@ -20,6 +20,9 @@ package org.attribyte.snook;
 
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.net.HttpHeaders;
 import org.attribyte.api.http.Response;
 import org.eclipse.jetty.http.HttpHeader;
@@ -27,7 +30,14 @@ import org.eclipse.jetty.http.HttpHeader;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import static com.google.common.base.Strings.nullToEmpty;
 
@@ -174,6 +184,17 @@ public class HTTPUtil {
       response.flushBuffer();
    }
 
+   /**
+    * Gets the path within the context: the servlet path followed by the path info.
+    * @param request The request.
+    * @return The path.
+    */
+   public static String pathInContext(final HttpServletRequest request) {
+      String servletPath = nullToEmpty(request.getServletPath());
+      String pathInfo = request.getPathInfo();
+      return pathInfo != null ? servletPath + pathInfo : servletPath;
+   }
+
    /**
     * A splitter for the path.
     */
@@ -204,4 +225,151 @@ public class HTTPUtil {
          return pathSplitter.split(pathInfo);
       }
    }
+
+   /**
+    * Formats a time as an HTTP date, e.g. {@code Sun, 06 Nov 1994 08:49:37 GMT}.
+    * @param millis The time.
+    * @return The formatted date.
+    */
+   public static String httpDate(final long millis) {
+      return HTTP_DATE_FORMAT.format(Instant.ofEpochMilli(millis));
+   }
+
+   /**
+    * The format for HTTP dates.
+    */
+   private static final DateTimeFormatter HTTP_DATE_FORMAT =
+           DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+   /**
+    * Is the client's copy of a static file current, according to {@code If-None-Match} or {@code If-Modified-Since}?
+    * @param request The request.
+    * @param etag The current etag. May be {@code null}.
+    * @param lastModifiedMillis The last modified time.
+    * @return {@code true} if not modified.
+    */
+   public static boolean notModified(final HttpServletRequest request, final String etag, final long lastModifiedMillis) {
+      String ifNoneMatch = request.getHeader("If-None-Match");
+      if(ifNoneMatch != null) {
+         return etag != null && matchesETag(ifNoneMatch, etag);
+      }
+      try {
+         long ifModifiedSince = request.getDateHeader("If-Modified-Since");
+         return ifModifiedSince >= 0L && lastModifiedMillis / 1000L <= ifModifiedSince / 1000L;
+      } catch(IllegalArgumentException iae) {
+         return false;
+      }
+   }
+
+   /**
+    * Does an {@code If-None-Match} header match an etag, using weak comparison?
+    * @param ifNoneMatch The header value.
+    * @param etag The etag.
+    * @return {@code true} if matched.
+    */
+   public static boolean matchesETag(final String ifNoneMatch, final String etag) {
+      String opaque = opaqueTag(etag);
+      for(String tag : ifNoneMatch.split(",")) {
+         tag = tag.trim();
+         if(tag.equals("*") || opaqueTag(tag).equals(opaque)) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Removes the weak indicator from an etag for comparison.
+    * @param etag The etag.
+    * @return The opaque tag.
+    */
+   private static String opaqueTag(final String etag) {
+      return etag.startsWith("W/") ? etag.substring(2) : etag;
+   }
+
+   /**
+    * Does an {@code Accept-Encoding} header accept gzip?
+    * <p>
+    *    An explicit {@code gzip} entry takes precedence over {@code *}, so {@code *;q=1, gzip;q=0} does not accept gzip.
+    * </p>
+    * @param acceptEncoding The header value. May be {@code null}.
+    * @return {@code true} if gzip is accepted.
+    */
+   public static boolean acceptsGzip(final String acceptEncoding) {
+      return acceptedQuality(acceptEncoding, ContentEncoding.GZIP.token) > 0.0;
+   }
+
+   /**
+    * Gets the encodings an {@code Accept-Encoding} header accepts, most preferred first.
+    * <p>
+    *    Encodings are ordered by quality value. Encodings the client accepts equally keep the order given.
+    *    An explicit entry for an encoding takes precedence over {@code *}.
+    * </p>
+    * @param acceptEncoding The header value. May be {@code null}.
+    * @param encodings The available encodings, in order of preference.
+    * @return The accepted encodings.
+    */
+   public static ImmutableList<ContentEncoding> acceptedEncodings(final String acceptEncoding,
+                                                                  final List<ContentEncoding> encodings) {
+      if(acceptEncoding == null) {
+         return ImmutableList.of();
+      }
+      List<ContentEncoding> accepted = Lists.newArrayListWithCapacity(encodings.size());
+      Map<ContentEncoding, Double> quality = Maps.newEnumMap(ContentEncoding.class);
+      for(ContentEncoding encoding : encodings) {
+         double q = acceptedQuality(acceptEncoding, encoding.token);
+         if(q > 0.0) {
+            accepted.add(encoding);
+            quality.put(encoding, q);
+         }
+      }
+      accepted.sort(Comparator.comparing(quality::get, Comparator.reverseOrder()));
+      return ImmutableList.copyOf(accepted);
+   }
+
+   /**
+    * Gets the quality value an {@code Accept-Encoding} header gives a coding.
+    * <p>
+    *    An explicit entry for the coding takes precedence over {@code *} (RFC 9110, section 12.5.3).
+    * </p>
+    * @param acceptEncoding The header value. May be {@code null}.
+    * @param coding The coding, e.g. {@code gzip}.
+    * @return The quality value, or {@code 0.0} if not accepted.
+    */
+   private static double acceptedQuality(final String acceptEncoding, final String coding) {
+      if(acceptEncoding == null) {
+         return 0.0;
+      }
+      double codingQ = -1.0;
+      double anyQ = -1.0;
+      for(String entry : acceptEncoding.split(",")) {
+         String[] params = entry.split(";");
+         String name = params[0].trim();
+         if(name.equalsIgnoreCase(coding)) {
+            codingQ = Math.max(codingQ, qValue(params));
+         } else if(name.equals("*")) {
+            anyQ = Math.max(anyQ, qValue(params));
+         }
+      }
+      return Math.max(0.0, codingQ >= 0.0 ? codingQ : anyQ);
+   }
+
+   /**
+    * Gets the quality value for a coding.
+    * @param params The coding, then its parameters.
+    * @return The quality value, {@code 1.0} if none, or {@code 0.0} if invalid.
+    */
+   private static double qValue(final String[] params) {
+      for(int i = 1; i < params.length; i++) {
+         String param = params[i].trim();
+         if(param.startsWith("q=")) {
+            try {
+               return Double.parseDouble(param.substring(2).trim());
+            } catch(NumberFormatException nfe) {
+               return 0.0;
+            }
+         }
+      }
+      return 1.0;
+   }
 }
@@ -0,0 +1,304 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.ee10.servlet.HttpOutput;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Serves large static files from memory-mapped regions, with support for single and multiple byte ranges.
+ * <p>
+ *    Files smaller than the threshold, and requests that are not {@code GET} or {@code HEAD}, continue
+ *    down the chain. Mapped regions are written directly to the connection, so heap use does not grow
+ *    with the file size. A strong {@code ETag}, computed from the modification time and size, is sent so
+ *    {@code If-Range} may be used to resume downloads.
+ * </p>
+ */
+public class LargeStaticAssetFilter implements Filter, MetricSet {
+
+   /**
+    * Creates the filter.
+    * @param resolver Resolves request paths to files.
+    * @param minFileSize The minimum size of a file served by this filter.
+    * @param etags Are etags sent and checked?
+    */
+   public LargeStaticAssetFilter(final StaticAssetResolver resolver, final long minFileSize, final boolean etags) {
+      this.resolver = resolver;
+      this.minFileSize = minFileSize;
+      this.etags = etags;
+   }
+
+   @Override
+   public void init(final FilterConfig filterConfig) {
+      this.servletContext = filterConfig.getServletContext();
+   }
+
+   @Override
+   public void doFilter(final ServletRequest request, final ServletResponse response,
+                        final FilterChain chain) throws IOException, ServletException {
+      HttpServletRequest httpRequest = (HttpServletRequest)request;
+      HttpServletResponse httpResponse = (HttpServletResponse)response;
+      String method = httpRequest.getMethod();
+      boolean head = method.equals("HEAD");
+      if(!(head || method.equals("GET"))) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      Path file = resolver.resolve(HTTPUtil.pathInContext(httpRequest));
+      BasicFileAttributes attributes = file != null ? resolver.attributes(file) : null;
+      if(attributes == null || !attributes.isRegularFile() || attributes.size() < minFileSize) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      final long size = attributes.size();
+      final long lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+      final String lastModified = HTTPUtil.httpDate(lastModifiedMillis);
+      final String etag = etags ? "\"" + Long.toHexString(lastModifiedMillis) + "-" + Long.toHexString(size) + "\"" : null;
+
+      httpResponse.setHeader("Accept-Ranges", "bytes");
+      httpResponse.setHeader("Last-Modified", lastModified);
+      if(etag != null) {
+         httpResponse.setHeader("ETag", etag);
+      }
+
+      if(HTTPUtil.notModified(httpRequest, etag, lastModifiedMillis)) {
+         httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+         return;
+      }
+
+      String contentType = servletContext.getMimeType(file.getFileName().toString());
+      String rangeHeader = httpRequest.getHeader("Range");
+      ImmutableList<ByteRange> ranges = rangeHeader != null && ifRangeMatches(httpRequest.getHeader("If-Range"), etag, lastModified) ?
+              ByteRange.parse(rangeHeader, size, MAX_RANGES) : null;
+
+      if(ranges == null) {
+         if(contentType != null) {
+            httpResponse.setContentType(contentType);
+         }
+         httpResponse.setContentLengthLong(size);
+         if(!head) {
+            try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+               send(channel, 0L, size, httpResponse.getOutputStream());
+            }
+         }
+         return;
+      }
+
+      if(ranges.isEmpty()) {
+         unsatisfiable.mark();
+         httpResponse.setHeader("Content-Range", "bytes */" + size);
+         httpResponse.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+         httpResponse.setContentLength(0);
+         return;
+      }
+
+      httpResponse.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      if(ranges.size() == 1) {
+         singleRange.mark();
+         ByteRange range = ranges.get(0);
+         if(contentType != null) {
+            httpResponse.setContentType(contentType);
+         }
+         httpResponse.setHeader("Content-Range", range.contentRange(size));
+         httpResponse.setContentLengthLong(range.length());
+         if(!head) {
+            try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+               send(channel, range.start, range.length(), httpResponse.getOutputStream());
+            }
+         }
+         return;
+      }
+
+      multiRange.mark();
+      String boundary = Long.toHexString(ThreadLocalRandom.current().nextLong()) + Long.toHexString(System.nanoTime());
+      byte[][] partHeaders = new byte[ranges.size()][];
+      long contentLength = 0L;
+      for(int i = 0; i < ranges.size(); i++) {
+         ByteRange range = ranges.get(i);
+         partHeaders[i] = partHeader(boundary, contentType, range.contentRange(size));
+         contentLength += partHeaders[i].length + range.length();
+      }
+      byte[] end = ("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII);
+      contentLength += end.length;
+
+      httpResponse.setContentType("multipart/byteranges; boundary=" + boundary);
+      httpResponse.setContentLengthLong(contentLength);
+      if(!head) {
+         ServletOutputStream out = httpResponse.getOutputStream();
+         try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for(int i = 0; i < ranges.size(); i++) {
+               ByteRange range = ranges.get(i);
+               out.write(partHeaders[i]);
+               send(channel, range.start, range.length(), out);
+            }
+         }
+         out.write(end);
+      }
+   }
+
+   /**
+    * Creates the headers that precede a part of a multipart range response.
+    * @param boundary The boundary.
+    * @param contentType The content type. May be {@code null}.
+    * @param contentRange The content range.
+    * @return The header bytes.
+    */
+   private static byte[] partHeader(final String boundary, final String contentType, final String contentRange) {
+      StringBuilder buf = new StringBuilder("\r\n--").append(boundary).append("\r\n");
+      if(contentType != null) {
+         buf.append("Content-Type: ").append(contentType).append("\r\n");
+      }
+      buf.append("Content-Range: ").append(contentRange).append("\r\n\r\n");
+      return buf.toString().getBytes(StandardCharsets.US_ASCII);
+   }
+
+   /**
+    * Sends a region of a file.
+    * <p>
+    *    When the output is Jetty's, mapped regions are written without copying to the heap.
+    *    Otherwise, the region is copied through a small buffer.
+    * </p>
+    * @param channel The file channel.
+    * @param position The first byte position.
+    * @param length The number of bytes.
+    * @param out The output.
+    * @throws IOException on read or write error.
+    */
+   private void send(final FileChannel channel, final long position, final long length,
+                     final ServletOutputStream out) throws IOException {
+      long current = position;
+      long remaining = length;
+      if(out instanceof HttpOutput) {
+         HttpOutput httpOutput = (HttpOutput)out;
+         while(remaining > 0L) {
+            long chunk = Math.min(remaining, MAP_CHUNK_SIZE);
+            httpOutput.write(channel.map(FileChannel.MapMode.READ_ONLY, current, chunk));
+            current += chunk;
+            remaining -= chunk;
+         }
+      } else {
+         byte[] buf = new byte[COPY_BUFFER_SIZE];
+         ByteBuffer buffer = ByteBuffer.wrap(buf);
+         while(remaining > 0L) {
+            buffer.clear().limit((int)Math.min(remaining, buf.length));
+            int read = channel.read(buffer, current);
+            if(read < 0) {
+               throw new IOException("The file was truncated while sending");
+            }
+            out.write(buf, 0, read);
+            current += read;
+            remaining -= read;
+         }
+      }
+      bytesSent.mark(length);
+   }
+
+   /**
+    * Should a range request be honored, given the {@code If-Range} header?
+    * <p>
+    *    An entity tag must match exactly with strong comparison. A date must exactly match the last modified time.
+    * </p>
+    * @param ifRange The header value. May be {@code null}.
+    * @param etag The current etag. May be {@code null}.
+    * @param lastModified The current {@code Last-Modified} header value.
+    * @return {@code true} if ranges should be sent.
+    */
+   static boolean ifRangeMatches(final String ifRange, final String etag, final String lastModified) {
+      if(ifRange == null) {
+         return true;
+      }
+      String value = ifRange.trim();
+      if(value.startsWith("W/")) {
+         return false;
+      } else if(value.startsWith("\"")) {
+         return value.equals(etag);
+      } else {
+         return value.equals(lastModified);
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.of(
+              "bytes-sent", bytesSent,
+              "single-range", singleRange,
+              "multi-range", multiRange,
+              "unsatisfiable", unsatisfiable
+      );
+   }
+
+   /**
+    * The maximum number of ranges honored in a request ({@value}).
+    * <p>
+    *    If more are requested, the whole file is sent.
+    * </p>
+    */
+   public static final int MAX_RANGES = 16;
+
+   /**
+    * The maximum size of a region mapped at once ({@value}).
+    */
+   private static final long MAP_CHUNK_SIZE = 16L * 1024L * 1024L;
+
+   /**
+    * The size of the buffer used when the output is not Jetty's ({@value}).
+    */
+   private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+   private final StaticAssetResolver resolver;
+   private final long minFileSize;
+   private final boolean etags;
+
+   private final Meter bytesSent = new Meter();
+   private final Meter singleRange = new Meter();
+   private final Meter multiRange = new Meter();
+   private final Meter unsatisfiable = new Meter();
+
+   /**
+    * The servlet context used to map file names to MIME types.
+    */
+   private ServletContext servletContext;
+}
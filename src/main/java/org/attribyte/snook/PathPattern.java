@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+
+import java.util.List;
+
+/**
+ * A path pattern with servlet mapping syntax.
+ * <ul>
+ *    <li>{@code /} or {@code /*} - Matches all paths.</li>
+ *    <li>{@code /prefix/*} - Matches {@code /prefix} and all paths below it.</li>
+ *    <li>{@code *.ext} - Matches all paths that end with {@code .ext}.</li>
+ *    <li>Anything else matches the exact path.</li>
+ * </ul>
+ */
+public class PathPattern {
+
+   /**
+    * Creates a list of patterns from a comma-separated string.
+    * @param patterns The comma-separated patterns.
+    * @return The list of patterns.
+    */
+   public static ImmutableList<PathPattern> parseList(final String patterns) {
+      List<String> patternList = Splitter.on(',').omitEmptyStrings().trimResults().splitToList(Strings.nullToEmpty(patterns));
+      ImmutableList.Builder<PathPattern> builder = ImmutableList.builder();
+      patternList.forEach(pattern -> builder.add(new PathPattern(pattern)));
+      return builder.build();
+   }
+
+   /**
+    * Determine if any pattern in a list matches a path.
+    * @param patterns The patterns.
+    * @param path The path.
+    * @return Does any pattern match?
+    */
+   public static boolean anyMatches(final List<PathPattern> patterns, final String path) {
+      for(PathPattern pattern : patterns) {
+         if(pattern.matches(path)) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Creates a pattern.
+    * @param pattern The pattern string.
+    */
+   public PathPattern(final String pattern) {
+      this.pattern = pattern.trim();
+      if(this.pattern.equals("/") || this.pattern.equals("/*")) {
+         this.type = Type.ALL;
+         this.match = "";
+      } else if(this.pattern.endsWith("/*")) {
+         this.type = Type.PREFIX;
+         this.match = this.pattern.substring(0, this.pattern.length() - 2);
+      } else if(this.pattern.startsWith("*.")) {
+         this.type = Type.SUFFIX;
+         this.match = this.pattern.substring(1);
+      } else {
+         this.type = Type.EXACT;
+         this.match = this.pattern;
+      }
+   }
+
+   /**
+    * Determine if a path matches this pattern.
+    * @param path The path.
+    * @return Does the path match?
+    */
+   public boolean matches(final String path) {
+      if(path == null) {
+         return false;
+      }
+
+      switch(type) {
+         case ALL:
+            return true;
+         case PREFIX:
+            return path.startsWith(match) &&
+                    (path.length() == match.length() || path.charAt(match.length()) == '/');
+         case SUFFIX:
+            return path.endsWith(match);
+         default:
+            return path.equals(match);
+      }
+   }
+
+   @Override
+   public String toString() {
+      return MoreObjects.toStringHelper(this)
+              .add("pattern", pattern)
+              .add("type", type)
+              .toString();
+   }
+
+   /**
+    * The pattern type.
+    */
+   private enum Type {
+      ALL,
+      PREFIX,
+      SUFFIX,
+      EXACT
+   }
+
+   /**
+    * The original pattern.
+    */
+   public final String pattern;
+
+   /**
+    * The pattern type.
+    */
+   private final Type type;
+
+   /**
+    * The string matched, depending on type.
+    */
+   private final String match;
+}
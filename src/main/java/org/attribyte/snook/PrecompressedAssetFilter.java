@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableList;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * Serves compressed variants created by a {@link Precompressor}.
+ * <p>
+ *    The variant for the encoding the client prefers is served. If the client accepts encodings equally,
+ *    the precompressor's order of preference is used. Requests that are not {@code GET} or {@code HEAD},
+ *    range requests, clients that accept none of the encodings, and files without a current variant
+ *    continue down the chain.
+ * </p>
+ */
+public class PrecompressedAssetFilter implements Filter {
+
+   /**
+    * Creates the filter.
+    * @param resolver Resolves request paths to source files.
+    * @param precompressor The precompressor.
+    * @param etags Are etags sent and checked?
+    */
+   public PrecompressedAssetFilter(final StaticAssetResolver resolver, final Precompressor precompressor,
+                                   final boolean etags) {
+      this.resolver = resolver;
+      this.precompressor = precompressor;
+      this.etags = etags;
+   }
+
+   @Override
+   public void init(final FilterConfig filterConfig) {
+      this.servletContext = filterConfig.getServletContext();
+   }
+
+   @Override
+   public void doFilter(final ServletRequest request, final ServletResponse response,
+                        final FilterChain chain) throws IOException, ServletException {
+      HttpServletRequest httpRequest = (HttpServletRequest)request;
+      HttpServletResponse httpResponse = (HttpServletResponse)response;
+      String method = httpRequest.getMethod();
+      boolean head = method.equals("HEAD");
+      List<ContentEncoding> accepted = !(head || method.equals("GET")) || httpRequest.getHeader("Range") != null ?
+              ImmutableList.of() : HTTPUtil.acceptedEncodings(httpRequest.getHeader("Accept-Encoding"), precompressor.encodings());
+      if(accepted.isEmpty()) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      String path = HTTPUtil.pathInContext(httpRequest);
+      Path source = resolver.resolve(path);
+      BasicFileAttributes attributes = source != null ? resolver.attributes(source) : null;
+      Path variant = null;
+      ContentEncoding encoding = null;
+      if(attributes != null) {
+         for(ContentEncoding candidate : accepted) {
+            variant = precompressor.variant(path, source, attributes, candidate);
+            if(variant != null) {
+               encoding = candidate;
+               break;
+            }
+         }
+      }
+      if(variant == null) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      long lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+      String etag = etags ? "W/\"" + Long.toHexString(lastModifiedMillis) + "-" + Long.toHexString(attributes.size()) + "--" + encoding.token + "\"" : null;
+      httpResponse.setHeader("Vary", "Accept-Encoding");
+      httpResponse.setHeader("Last-Modified", HTTPUtil.httpDate(lastModifiedMillis));
+      if(etag != null) {
+         httpResponse.setHeader("ETag", etag);
+      }
+
+      if(HTTPUtil.notModified(httpRequest, etag, lastModifiedMillis)) {
+         httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+         return;
+      }
+
+      String contentType = servletContext.getMimeType(source.getFileName().toString());
+      if(contentType != null) {
+         httpResponse.setContentType(contentType);
+      }
+      httpResponse.setHeader("Content-Encoding", encoding.token);
+      //The variant may be replaced at any time, so the length and content are read from the same open file.
+      try(FileChannel channel = FileChannel.open(variant, StandardOpenOption.READ)) {
+         httpResponse.setContentLengthLong(channel.size());
+         if(!head) {
+            Channels.newInputStream(channel).transferTo(httpResponse.getOutputStream());
+         }
+      }
+   }
+
+   private final StaticAssetResolver resolver;
+   private final Precompressor precompressor;
+   private final boolean etags;
+
+   /**
+    * The servlet context used to map file names to MIME types.
+    */
+   private ServletContext servletContext;
+}
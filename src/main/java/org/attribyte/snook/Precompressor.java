@@ -0,0 +1,403 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.attribyte.api.Logger;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Creates compressed variants of static files in a separate directory, in the background.
+ * <p>
+ *    A variant is created for each configured {@link ContentEncoding}, named with the encoding's extension,
+ *    e.g. {@code css/app.css.br}. When started, all compressible files at or above the minimum size are compressed
+ *    at the maximum level if a variant is missing or out-of-date. A variant is current only if its modification time matches the
+ *    source. As a {@link DirectoryWatcher.Listener}, changed files are compressed again and variants of
+ *    deleted files are removed. A variant found to be out-of-date when requested is also queued.
+ * </p>
+ */
+public class Precompressor extends AbstractLifeCycle implements MetricSet, DirectoryWatcher.Listener {
+
+   /**
+    * Creates a precompressor that creates gzip variants.
+    * @param resolver Resolves request paths to source files.
+    * @param directory The directory for compressed variants.
+    * @param minSize The minimum size of a compressed file.
+    * @param mimeTypes Maps a file name to its MIME type.
+    * @param logger The logger.
+    */
+   public Precompressor(final StaticAssetResolver resolver, final Path directory, final long minSize,
+                        final Function<String, String> mimeTypes, final Logger logger) {
+      this(resolver, directory, minSize, ImmutableList.of(ContentEncoding.GZIP), mimeTypes, logger);
+   }
+
+   /**
+    * Creates the precompressor.
+    * @param resolver Resolves request paths to source files.
+    * @param directory The directory for compressed variants.
+    * @param minSize The minimum size of a compressed file.
+    * @param encodings The encodings, in order of preference when a client accepts more than one equally.
+    * @param mimeTypes Maps a file name to its MIME type.
+    * @param logger The logger.
+    */
+   public Precompressor(final StaticAssetResolver resolver, final Path directory, final long minSize,
+                        final ImmutableList<ContentEncoding> encodings,
+                        final Function<String, String> mimeTypes, final Logger logger) {
+      this.resolver = resolver;
+      this.encodings = encodings;
+      this.directory = directory.toAbsolutePath().normalize();
+      this.minSize = minSize;
+      this.mimeTypes = mimeTypes;
+      this.logger = logger;
+   }
+
+   /**
+    * Gets the encodings for which variants are created.
+    * @return The encodings, in order of preference.
+    */
+   public ImmutableList<ContentEncoding> encodings() {
+      return encodings;
+   }
+
+   /**
+    * Gets the current gzip-compressed variant of a source file.
+    * @param path The request path relative to the resource directory.
+    * @param source The source file.
+    * @param attributes The source file attributes.
+    * @return The variant or {@code null} if none is current.
+    * @throws IOException on read error.
+    */
+   public Path variant(final String path, final Path source, final BasicFileAttributes attributes) throws IOException {
+      return variant(path, source, attributes, ContentEncoding.GZIP);
+   }
+
+   /**
+    * Gets the current compressed variant of a source file.
+    * @param path The request path relative to the resource directory.
+    * @param source The source file.
+    * @param attributes The source file attributes.
+    * @param encoding The encoding.
+    * @return The variant or {@code null} if none is current.
+    * @throws IOException on read error.
+    */
+   public Path variant(final String path, final Path source, final BasicFileAttributes attributes,
+                       final ContentEncoding encoding) throws IOException {
+      if(!encodings.contains(encoding) || !isCompressible(source, attributes)) {
+         return null;
+      }
+      Path variant = variantPath(path, encoding);
+      if(Files.isRegularFile(variant) &&
+              Files.getLastModifiedTime(variant).toMillis() == attributes.lastModifiedTime().toMillis()) {
+         return variant;
+      }
+      queue(path);
+      return null;
+   }
+
+   @Override
+   protected void doStart() throws Exception {
+      Files.createDirectories(directory);
+      this.executor = Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder().setNameFormat("precompress-%d").setDaemon(true).build());
+      executor.execute(this::compressAll);
+      super.doStart();
+   }
+
+   @Override
+   protected void doStop() throws Exception {
+      if(executor != null) {
+         executor.shutdownNow();
+         executor.awaitTermination(STOP_WAIT_SECONDS, TimeUnit.SECONDS);
+      }
+      pending.clear();
+      super.doStop();
+   }
+
+   @Override
+   public void changed(final Set<String> paths) {
+      paths.forEach(this::queue);
+   }
+
+   @Override
+   public void reset() {
+      if(executor != null) {
+         try {
+            executor.execute(this::compressAll);
+         } catch(RejectedExecutionException ree) {
+            //Stopped.
+         }
+      }
+   }
+
+   /**
+    * Queues a path to be compressed, unless already queued.
+    * @param path The path.
+    */
+   private void queue(final String path) {
+      if(executor != null && pending.add(path)) {
+         try {
+            executor.execute(() -> {
+               pending.remove(path);
+               refresh(path);
+            });
+         } catch(RejectedExecutionException ree) {
+            pending.remove(path); //Stopped.
+         }
+      }
+   }
+
+   /**
+    * Compresses a file or directory tree again, or removes variants if the source no longer exists.
+    * @param path The path.
+    */
+   private void refresh(final String path) {
+      try {
+         Path source = resolver.resolve(path);
+         BasicFileAttributes attributes = source != null ? resolver.attributes(source) : null;
+         if(attributes == null) {
+            deleteVariants(path);
+            deleteTree(directory.resolve(path.substring(1)));
+         } else if(attributes.isDirectory()) {
+            compressTree(source);
+         } else {
+            compress(path, source, attributes);
+         }
+      } catch(IOException ioe) {
+         errors.mark();
+         logger.error(String.format("Precompression failed for '%s'", path), ioe);
+      }
+   }
+
+   /**
+    * Compresses all files below the resource directory.
+    */
+   private void compressAll() {
+      try {
+         compressTree(resolver.getResourceDirectory());
+      } catch(IOException ioe) {
+         errors.mark();
+         logger.error(String.format("Precompression failed for '%s'", resolver.getResourceDirectory()), ioe);
+      }
+   }
+
+   /**
+    * Compresses all files below a directory.
+    * @param start The directory.
+    * @throws IOException on walk error.
+    */
+   private void compressTree(final Path start) throws IOException {
+      final Path root = resolver.getResourceDirectory();
+      Files.walkFileTree(start, EnumSet.noneOf(FileVisitOption.class), Integer.MAX_VALUE, new SimpleFileVisitor<>() {
+         @Override
+         public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs) {
+            return dir.startsWith(directory) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+         }
+
+         @Override
+         public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) {
+            if(Thread.currentThread().isInterrupted()) {
+               return FileVisitResult.TERMINATE;
+            }
+            String path = DirectoryWatcher.relativePath(root, file);
+            try {
+               Path source = resolver.resolve(path);
+               BasicFileAttributes attributes = source != null ? resolver.attributes(source) : null;
+               if(attributes != null && attributes.isRegularFile()) {
+                  compress(path, source, attributes);
+               }
+            } catch(IOException ioe) {
+               errors.mark();
+               logger.error(String.format("Precompression failed for '%s'", path), ioe);
+            }
+            return FileVisitResult.CONTINUE;
+         }
+
+         @Override
+         public FileVisitResult visitFileFailed(final Path file, final IOException exc) {
+            return FileVisitResult.CONTINUE;
+         }
+      });
+   }
+
+   /**
+    * Compresses a file with each encoding if a variant is missing or out-of-date.
+    * @param path The request path.
+    * @param source The source file.
+    * @param attributes The source file attributes.
+    * @throws IOException on compression error.
+    */
+   private void compress(final String path, final Path source, final BasicFileAttributes attributes) throws IOException {
+      if(!isCompressible(source, attributes)) {
+         deleteVariants(path);
+         return;
+      }
+      for(ContentEncoding encoding : encodings) {
+         compress(path, source, attributes, encoding);
+      }
+   }
+
+   /**
+    * Compresses a file with an encoding if the variant is missing or out-of-date.
+    * @param path The request path.
+    * @param source The source file.
+    * @param attributes The source file attributes.
+    * @param encoding The encoding.
+    * @throws IOException on compression error.
+    */
+   private void compress(final String path, final Path source, final BasicFileAttributes attributes,
+                         final ContentEncoding encoding) throws IOException {
+      Path variant = variantPath(path, encoding);
+      FileTime sourceModified = attributes.lastModifiedTime();
+      if(Files.isRegularFile(variant) && Files.getLastModifiedTime(variant).toMillis() == sourceModified.toMillis()) {
+         return;
+      }
+
+      Files.createDirectories(variant.getParent());
+      Path temp = Files.createTempFile(variant.getParent(), ".precompress", ".tmp");
+      try {
+         try(OutputStream os = encoding.compress(Files.newOutputStream(temp))) {
+            Files.copy(source, os);
+         }
+         if(Files.size(temp) >= attributes.size()) {
+            //Compression does not help. Remove any out-of-date variant.
+            Files.deleteIfExists(variant);
+            return;
+         }
+         Files.setLastModifiedTime(temp, sourceModified);
+         Files.move(temp, variant, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+         compressed.mark();
+      } finally {
+         Files.deleteIfExists(temp);
+      }
+   }
+
+   /**
+    * Is a source file compressed?
+    * @param source The source file.
+    * @param attributes The source file attributes.
+    * @return {@code true} if compressed.
+    */
+   private boolean isCompressible(final Path source, final BasicFileAttributes attributes) {
+      return attributes.isRegularFile() && attributes.size() >= minSize &&
+              StaticAssetCache.isCompressible(mimeTypes.apply(source.getFileName().toString()));
+   }
+
+   /**
+    * Gets the path of a compressed variant for a request path.
+    * @param path The request path.
+    * @param encoding The encoding.
+    * @return The variant path.
+    */
+   private Path variantPath(final String path, final ContentEncoding encoding) {
+      return directory.resolve(path.substring(1) + encoding.extension);
+   }
+
+   /**
+    * Deletes the variants of a request path for all encodings, so variants of encodings no longer configured are removed too.
+    * @param path The request path.
+    * @throws IOException on delete error.
+    */
+   private void deleteVariants(final String path) throws IOException {
+      for(ContentEncoding encoding : ContentEncoding.values()) {
+         Files.deleteIfExists(variantPath(path, encoding));
+      }
+   }
+
+   /**
+    * Deletes a directory tree, if it exists.
+    * @param dir The directory.
+    * @throws IOException on delete error.
+    */
+   private void deleteTree(final Path dir) throws IOException {
+      if(!dir.startsWith(directory) || dir.equals(directory) || !Files.isDirectory(dir)) {
+         return;
+      }
+      Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+         @Override
+         public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs) throws IOException {
+            Files.delete(file);
+            return FileVisitResult.CONTINUE;
+         }
+
+         @Override
+         public FileVisitResult postVisitDirectory(final Path dir, final IOException exc) throws IOException {
+            Files.delete(dir);
+            return FileVisitResult.CONTINUE;
+         }
+      });
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.of(
+              "compressed", compressed,
+              "errors", errors,
+              "pending", (Gauge<Integer>)pending::size
+      );
+   }
+
+   /**
+    * The maximum time to wait for compression to stop ({@value}).
+    */
+   private static final long STOP_WAIT_SECONDS = 10L;
+
+   private final StaticAssetResolver resolver;
+   private final ImmutableList<ContentEncoding> encodings;
+   private final Path directory;
+   private final long minSize;
+   private final Function<String, String> mimeTypes;
+   private final Logger logger;
+
+   private final Meter compressed = new Meter();
+   private final Meter errors = new Meter();
+
+   /**
+    * Paths queued for compression.
+    */
+   private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+   private volatile ExecutorService executor;
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSortedSet;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * The names of properties added, removed or changed between two sets of properties.
+ */
+public class PropertiesDiff {
+
+   /**
+    * Compares two sets of properties.
+    * @param previous The previous properties.
+    * @param current The current properties.
+    * @return The difference.
+    */
+   public static PropertiesDiff of(final Properties previous, final Properties current) {
+      ImmutableSortedSet.Builder<String> changed = ImmutableSortedSet.naturalOrder();
+      for(String name : current.stringPropertyNames()) {
+         if(!Objects.equals(previous.getProperty(name), current.getProperty(name))) {
+            changed.add(name);
+         }
+      }
+      for(String name : previous.stringPropertyNames()) {
+         if(current.getProperty(name) == null) {
+            changed.add(name);
+         }
+      }
+      return new PropertiesDiff(changed.build());
+   }
+
+   private PropertiesDiff(final ImmutableSortedSet<String> changed) {
+      this.changed = changed;
+   }
+
+   /**
+    * Are there no changes?
+    * @return {@code true} if nothing changed.
+    */
+   public boolean isEmpty() {
+      return changed.isEmpty();
+   }
+
+   /**
+    * Did any property that starts with one of the prefixes change?
+    * @param prefixes The prefixes.
+    * @return {@code true} if any matching property changed.
+    */
+   public boolean anyChanged(final Collection<String> prefixes) {
+      for(String name : changed) {
+         if(matches(name, prefixes)) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   /**
+    * Gets the changed properties that do not start with any of the prefixes.
+    * @param prefixes The prefixes.
+    * @return The property names, sorted.
+    */
+   public ImmutableSortedSet<String> changedExcept(final Collection<String> prefixes) {
+      ImmutableSortedSet.Builder<String> unmatched = ImmutableSortedSet.naturalOrder();
+      for(String name : changed) {
+         if(!matches(name, prefixes)) {
+            unmatched.add(name);
+         }
+      }
+      return unmatched.build();
+   }
+
+   private static boolean matches(final String name, final Collection<String> prefixes) {
+      for(String prefix : prefixes) {
+         if(name.startsWith(prefix)) {
+            return true;
+         }
+      }
+      return false;
+   }
+
+   @Override
+   public String toString() {
+      return MoreObjects.toStringHelper(this)
+              .add("changed", changed)
+              .toString();
+   }
+
+   /**
+    * The names of all added, removed or changed properties, sorted.
+    */
+   public final ImmutableSortedSet<String> changed;
+}
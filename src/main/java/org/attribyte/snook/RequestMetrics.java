@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reports request counts, active requests, response codes and timing from a statistics handler.
+ */
+public class RequestMetrics implements MetricSet {
+
+   /**
+    * Creates request metrics.
+    * @param statisticsHandler The statistics handler.
+    */
+   public RequestMetrics(final StatisticsHandler statisticsHandler) {
+      this.statisticsHandler = statisticsHandler;
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      ImmutableMap.Builder<String, Metric> metrics = ImmutableMap.builder();
+      metrics.put("total", (Gauge<Long>)() -> (long)statisticsHandler.getRequests());
+      metrics.put("active", (Gauge<Long>)() -> (long)statisticsHandler.getRequestsActive());
+      metrics.put("active-max", (Gauge<Long>)() -> (long)statisticsHandler.getRequestsActiveMax());
+      metrics.put("responses-1xx", (Gauge<Long>)() -> (long)statisticsHandler.getResponses1xx());
+      metrics.put("responses-2xx", (Gauge<Long>)() -> (long)statisticsHandler.getResponses2xx());
+      metrics.put("responses-3xx", (Gauge<Long>)() -> (long)statisticsHandler.getResponses3xx());
+      metrics.put("responses-4xx", (Gauge<Long>)() -> (long)statisticsHandler.getResponses4xx());
+      metrics.put("responses-5xx", (Gauge<Long>)() -> (long)statisticsHandler.getResponses5xx());
+      metrics.put("bytes-read", (Gauge<Long>)statisticsHandler::getBytesRead);
+      metrics.put("bytes-written", (Gauge<Long>)statisticsHandler::getBytesWritten);
+      metrics.put("time-mean-millis", (Gauge<Double>)() -> statisticsHandler.getRequestTimeMean() / NANOS_PER_MILLI);
+      metrics.put("time-max-millis", (Gauge<Double>)() -> statisticsHandler.getRequestTimeMax() / NANOS_PER_MILLI);
+      return metrics.build();
+   }
+
+   /**
+    * The number of nanoseconds in a millisecond.
+    */
+   private static final double NANOS_PER_MILLI = (double)TimeUnit.MILLISECONDS.toNanos(1L);
+
+   /**
+    * The statistics handler.
+    */
+   private final StatisticsHandler statisticsHandler;
+}
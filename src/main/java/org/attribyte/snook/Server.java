@@ -18,18 +18,39 @@
 
 package org.attribyte.snook;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.HealthCheck;
 import com.codahale.metrics.health.HealthCheckRegistry;
 import io.dropwizard.metrics.servlets.HealthCheckServlet;
 import io.dropwizard.metrics.servlets.MetricsServlet;
+import com.google.common.base.CharMatcher;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.logging.log4j.Level;
 import org.attribyte.api.InitializationException;
 import org.attribyte.api.Logger;
+import org.attribyte.snook.limit.AdaptiveConcurrencyLimit;
+import org.attribyte.snook.limit.AdaptiveLimitHandler;
+import org.attribyte.snook.auth.Authenticator;
+import org.attribyte.snook.auth.CORSAuthenticator;
+import org.attribyte.snook.auth.Users;
+import org.attribyte.snook.limit.QoSHandler;
+import org.attribyte.snook.limit.QoSLane;
+import org.attribyte.snook.limit.RateLimit;
+import org.attribyte.snook.limit.RateLimitFilter;
+import org.attribyte.snook.log.AsyncRequestLogWriter;
+import org.attribyte.snook.log.JSONRequestLog;
 import org.attribyte.snook.log.Log4jConfigurator;
+import org.attribyte.snook.log.RequestLogSampler;
+import org.attribyte.snook.log.RequestTimingHandler;
+import org.attribyte.snook.log.SamplingRequestLog;
+import org.attribyte.snook.log.WarmUpExcludingRequestLog;
+import org.attribyte.snook.stats.HeavyHittersFilter;
+import org.attribyte.snook.stats.HeavyHittersServlet;
 import org.attribyte.snook.log.Log4jLogger;
 import org.attribyte.util.InitUtil;
 import org.eclipse.jetty.server.CustomRequestLog;
@@ -37,22 +58,37 @@ import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.RequestLog;
 import org.eclipse.jetty.server.RequestLogWriter;
 import org.eclipse.jetty.server.Slf4jRequestLogWriter;
+import org.eclipse.jetty.server.handler.GracefulHandler;
 import org.eclipse.jetty.server.handler.SecuredRedirectHandler;
+import org.eclipse.jetty.server.handler.StatisticsHandler;
 import org.eclipse.jetty.server.handler.gzip.GzipHandler;
 import org.eclipse.jetty.ee10.servlet.DefaultServlet;
+import org.eclipse.jetty.ee10.servlet.FilterHolder;
+import org.eclipse.jetty.ee10.servlet.FilterMapping;
 import org.eclipse.jetty.ee10.servlet.ServletContextHandler;
+import org.eclipse.jetty.ee10.servlet.ServletHandler;
 import org.eclipse.jetty.ee10.servlet.ServletHolder;
 import org.eclipse.jetty.util.component.LifeCycle;
 
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.Filter;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.InetAddress;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
 import static org.attribyte.snook.Util.commandLineParameters;
 import static org.attribyte.snook.Util.resolveEnvironmentVariables;
@@ -93,16 +129,22 @@ public abstract class Server {
                     final String loggerName,
                     final boolean withGzip,
                     final ErrorHandler errorHandler) throws Exception {
+      computeRandomBCrypt();
       this.props = props(propsResourceName, args);
+      startupTimer.mark("properties");
       Log4jConfigurator.configure(this.props);
+      startupTimer.mark("logging");
       this.serverConfiguration = new ServerConfiguration("server.", props);
+      startupTimer.mark("server-configuration");
       this.debug = debug(this.serverConfiguration.debug);
       this.logger = log4jLogger(loggerName, debug ? Level.DEBUG : Level.INFO);
       if(debug) {
          System.out.println("Configuration...");
          System.out.println(this.serverConfiguration.toString());
       }
+      this.configReloader = configReloader(propsResourceName, args);
       this.httpServer = httpServer();
+      startupTimer.mark("http-server");
       if(errorHandler != null) {
          if(errorHandler.logger == null) {
             this.httpServer.setErrorHandler(errorHandler.withLogger(logger));
@@ -112,8 +154,14 @@ public abstract class Server {
       } else if(this.serverConfiguration.customErrorHandler != null) {
          this.httpServer.setErrorHandler(this.serverConfiguration.customErrorHandler.withLogger(this.logger));
       }
-      this.rootContext = rootContext(withGzip);
+      this.rootContext = rootContext(withGzip, false, null);
+      this.adminContext = initAdmin();
+      startupTimer.mark("handlers");
       initAssets();
+      startupTimer.mark("assets");
+      initRateLimits(null);
+      this.heavyHitters = initHeavyHitters(null);
+      startupTimer.mark("filters");
    }
 
    /**
@@ -149,16 +197,22 @@ public abstract class Server {
                     final Logger logger,
                     final boolean withGzip,
                     final ErrorHandler errorHandler) throws Exception {
+      computeRandomBCrypt();
       this.props = props(propsResourceName, args);
+      startupTimer.mark("properties");
       Log4jConfigurator.configure(this.props);
+      startupTimer.mark("logging");
       this.logger = logger;
       this.serverConfiguration = new ServerConfiguration("server.", props);
+      startupTimer.mark("server-configuration");
       this.debug = debug(this.serverConfiguration.debug);
       if(this.debug) {
          System.out.println("Configuration...");
          System.out.println(this.serverConfiguration.toString());
       }
+      this.configReloader = configReloader(propsResourceName, args);
       this.httpServer = httpServer();
+      startupTimer.mark("http-server");
       if(errorHandler != null) {
          if(errorHandler.logger == null) {
             this.httpServer.setErrorHandler(errorHandler.withLogger(logger));
@@ -168,8 +222,14 @@ public abstract class Server {
       } else if(this.serverConfiguration.customErrorHandler != null) {
          this.httpServer.setErrorHandler(this.serverConfiguration.customErrorHandler.withLogger(logger));
       }
-      this.rootContext = rootContext(withGzip);
+      this.rootContext = rootContext(withGzip, false, null);
+      this.adminContext = initAdmin();
+      startupTimer.mark("handlers");
       initAssets();
+      startupTimer.mark("assets");
+      initRateLimits(null);
+      this.heavyHitters = initHeavyHitters(null);
+      startupTimer.mark("filters");
    }
 
    private final Properties props(final String propsResourceName, final String[] args) throws IOException {
@@ -205,21 +265,33 @@ public abstract class Server {
    protected Server(final Properties props,
                     final Logger logger,
                     final boolean withGzip) throws Exception {
+      computeRandomBCrypt();
       this.props = props;
+      startupTimer.mark("properties");
       Log4jConfigurator.configure(this.props);
+      startupTimer.mark("logging");
       this.logger = logger;
       this.serverConfiguration = new ServerConfiguration("server.", props);
+      startupTimer.mark("server-configuration");
       this.debug = debug(this.serverConfiguration.debug);
       if(this.debug) {
          System.out.println("Configuration...");
          System.out.println(this.serverConfiguration.toString());
       }
+      this.configReloader = configReloader(null, null);
       this.httpServer = httpServer();
-      this.rootContext = rootContext(withGzip);
+      startupTimer.mark("http-server");
+      this.rootContext = rootContext(withGzip, false, null);
+      this.adminContext = initAdmin();
+      startupTimer.mark("handlers");
       if(this.serverConfiguration.customErrorHandler != null) {
          this.httpServer.setErrorHandler(this.serverConfiguration.customErrorHandler.withLogger(logger));
       }
       initAssets();
+      startupTimer.mark("assets");
+      initRateLimits(null);
+      this.heavyHitters = initHeavyHitters(null);
+      startupTimer.mark("filters");
    }
 
    /**
@@ -259,6 +331,9 @@ public abstract class Server {
       String loggerName;
       Logger logger;
       boolean withGzip = true;
+      boolean withStatistics = false;
+      AdaptiveConcurrencyLimit adaptiveLimit;
+      Authenticator<?> userAuthenticator;
       ErrorHandler errorHandler;
 
       Builder() {}
@@ -303,6 +378,45 @@ public abstract class Server {
          return this;
       }
 
+      /**
+       * Enables or disables request statistics.
+       * <p>
+       *    When enabled, all requests are counted and timed, and the statistics are
+       *    reported with the server metrics.
+       * </p>
+       * @param withStatistics {@code true} to enable request statistics.
+       * @return A self-reference.
+       */
+      public Builder withStatistics(boolean withStatistics) {
+         this.withStatistics = withStatistics;
+         return this;
+      }
+
+      /**
+       * Sheds load with {@code 503} when in-flight requests exceed an adaptive concurrency limit.
+       * <p>
+       *    The limit is adjusted with observed request latency and is applied before any QoS lanes.
+       *    The limit, in-flight count and rejections are reported with the server metrics.
+       * </p>
+       * @param adaptiveLimit The limit, or {@code null} for none.
+       * @return A self-reference.
+       * @see AdaptiveConcurrencyLimit#builder()
+       */
+      public Builder withAdaptiveLimit(AdaptiveConcurrencyLimit adaptiveLimit) {
+         this.adaptiveLimit = adaptiveLimit;
+         return this;
+      }
+
+      /**
+       * Sets the authenticator that identifies users for rate limits and traffic tracking keyed by user.
+       * @param authenticator The authenticator.
+       * @return A self-reference.
+       */
+      public Builder userAuthenticator(Authenticator<?> authenticator) {
+         this.userAuthenticator = authenticator;
+         return this;
+      }
+
       /**
        * Sets a custom error handler.
        * @param errorHandler The error handler.
@@ -320,6 +434,7 @@ public abstract class Server {
     * @throws Exception on configuration error.
     */
    protected Server(Builder builder) throws Exception {
+      computeRandomBCrypt();
       if(builder.args != null) {
          this.props = props(builder.propsResourceName, builder.args);
       } else if(builder.props != null) {
@@ -328,9 +443,12 @@ public abstract class Server {
          throw new IllegalStateException("Builder requires either args or props");
       }
 
+      startupTimer.mark("properties");
       Log4jConfigurator.configure(this.props);
+      startupTimer.mark("logging");
 
       this.serverConfiguration = new ServerConfiguration("server.", props);
+      startupTimer.mark("server-configuration");
       this.debug = debug(this.serverConfiguration.debug);
 
       if(builder.logger != null) {
@@ -346,7 +464,9 @@ public abstract class Server {
          System.out.println(this.serverConfiguration.toString());
       }
 
+      this.configReloader = configReloader(builder.propsResourceName, builder.args);
       this.httpServer = httpServer();
+      startupTimer.mark("http-server");
 
       ErrorHandler errorHandler = builder.errorHandler;
       if(errorHandler != null) {
@@ -359,10 +479,33 @@ public abstract class Server {
          this.httpServer.setErrorHandler(this.serverConfiguration.customErrorHandler.withLogger(this.logger));
       }
 
-      this.rootContext = rootContext(builder.withGzip);
+      this.rootContext = rootContext(builder.withGzip, builder.withStatistics, builder.adaptiveLimit);
+      this.adminContext = initAdmin();
+      startupTimer.mark("handlers");
       initAssets();
+      startupTimer.mark("assets");
+      initRateLimits(builder.userAuthenticator);
+      this.heavyHitters = initHeavyHitters(builder.userAuthenticator);
+      startupTimer.mark("filters");
+   }
+
+   /**
+    * Starts computing the random BCrypt hash used by credential file authenticators on a background thread,
+    * so the cost overlaps with the rest of startup instead of delaying the first authenticator created.
+    */
+   private static void computeRandomBCrypt() {
+      if(randomBCryptStarted.compareAndSet(false, true)) {
+         Thread thread = new Thread(Users::randomBCryptString, "random-bcrypt");
+         thread.setDaemon(true);
+         thread.start();
+      }
    }
 
+   /**
+    * Has the random BCrypt hash computation been started?
+    */
+   private static final AtomicBoolean randomBCryptStarted = new AtomicBoolean(false);
+
    /**
     * Loads the default properties from a resource.
     * @param resourceName The resource name. May be {@code null} or empty.
@@ -481,7 +624,7 @@ public abstract class Server {
     * @throws Exception on start error.
     */
    public void start() throws Exception {
-      httpServer.start();
+      startHttpServer();
    }
 
 
@@ -492,7 +635,7 @@ public abstract class Server {
     */
    public void start(final ErrorHandler errorHandler) throws Exception {
       httpServer.setErrorHandler(errorHandler);
-      httpServer.start();
+      startHttpServer();
    }
 
    /**
@@ -500,7 +643,7 @@ public abstract class Server {
     * @throws Exception on start error.
     */
    public void startWithJoin() throws Exception {
-      httpServer.start();
+      startHttpServer();
       httpServer.join();
    }
 
@@ -511,10 +654,101 @@ public abstract class Server {
     */
    public void startWithJoin(final ErrorHandler errorHandler) throws Exception {
       httpServer.setErrorHandler(errorHandler);
-      httpServer.start();
+      startHttpServer();
       httpServer.join();
    }
 
+   /**
+    * Starts the HTTP server.
+    * @throws Exception on start error.
+    */
+   private void startHttpServer() throws Exception {
+      startupTimer.mark("application");
+      httpServer.start();
+   }
+
+   /**
+    * Called when the HTTP server has started, however it was started.
+    * <p>
+    *    On first start, startup timing is reported. Phase times are reported as metrics with
+    *    the prefix {@code server.startup.} and, in debug mode, printed. If a CDS training run
+    *    is configured, it ends on a separate thread, so the HTTP server start completes first.
+    * </p>
+    */
+   private void httpServerStarted() {
+      startupTimer.mark(warmUpRunner != null ? "start-connectors" : "start");
+      if(startupReported.compareAndSet(false, true)) {
+         startupTimer.phaseMillis().forEach((phase, millis) -> serverMetrics.register("startup." + phase, (Gauge<Long>)() -> millis));
+         final long totalMillis = startupTimer.totalMillis();
+         serverMetrics.register("startup.total", (Gauge<Long>)() -> totalMillis);
+         if(debug) {
+            System.out.println(startupTimer.report());
+         }
+      }
+
+      String cdsDumpPath = props.getProperty(CDS_DUMP_PROPERTY, "").trim();
+      if(!cdsDumpPath.isEmpty()) {
+         Thread trainingThread = new Thread(() -> {
+            try {
+               trainForCDS(cdsDumpPath);
+            } catch(Exception e) {
+               logError("CDS training run failed", e);
+               System.exit(1);
+            }
+         }, "cds-training");
+         trainingThread.start();
+      }
+   }
+
+   /**
+    * Ends a CDS training run: stops the server, writes the class data sharing archive, then exits.
+    * @param path The archive path.
+    * @throws Exception on stop error.
+    */
+   private void trainForCDS(final String path) throws Exception {
+      if(warmUpRunner == null) {
+         logInfo(String.format("CDS training run without warm-up requests ('%s%s' is not set)", WARMUP_PREFIX, WarmUp.REQUESTS_PROPERTY));
+      }
+      logInfo(String.format("CDS training run complete in %d ms. Stopping...", startupTimer.totalMillis()));
+      httpServer.stop();
+      boolean dumped = CDSTraining.dump(path, logger);
+      System.exit(dumped ? 0 : 1);
+   }
+
+   /**
+    * Stops the server.
+    * <p>
+    *    If a graceful stop timeout is configured, the health check reports "not ready" for the
+    *    configured delay, then the server stops accepting connections and waits for in-flight
+    *    requests to complete, up to the timeout, before stopping.
+    * </p>
+    * @throws Exception on stop error.
+    */
+   public void stop() throws Exception {
+      httpServer.stop();
+   }
+
+   /**
+    * Starts a monitor that stops this server when a shutdown signal is received.
+    * @param mgmtAddress The management listen address. If {@code null}, listens on 127.0.0.1.
+    * @param mgmtPort The management port. If {@code 0}, default port is used.
+    * @return The started monitor.
+    */
+   public ShutdownMonitor startShutdownMonitor(final InetAddress mgmtAddress, final int mgmtPort) {
+      ShutdownMonitor monitor = new ShutdownMonitor(mgmtAddress, mgmtPort, logger) {
+         @Override
+         protected void shutdown() {
+            try {
+               Server.this.stop();
+            } catch(Exception e) {
+               logError("Stop failed", e);
+            }
+         }
+      };
+      monitor.start();
+      return monitor;
+   }
+
    /**
     * Join with the calling thread.
     * @throws InterruptedException on interrupted.
@@ -532,31 +766,52 @@ public abstract class Server {
     * Creates the configured HTTP server.
     * @return The server.
     */
-   private org.eclipse.jetty.server.Server httpServer() {
+   private org.eclipse.jetty.server.Server httpServer() throws InitializationException {
 
       org.eclipse.jetty.server.Server httpServer = serverConfiguration.buildServer();
+      serverMetrics.registerAll("thread-pool", new ThreadPoolMetrics(httpServer.getThreadPool(), serverConfiguration.threadPoolMode));
+      serverMetrics.registerAll("connections", new ConnectionMetrics(httpServer));
+      serverMetrics.registerAll("buffer-pool", new ByteBufferPoolMetrics(httpServer.getByteBufferPool()));
 
       httpServer.addEventListener(new LifeCycle.Listener() {
          public void lifeCycleFailure(LifeCycle event, Throwable cause) {
             logError("Failure", cause);
+            stopAdminServer();
          }
 
          public void lifeCycleStarted(LifeCycle event) {
             logInfo("Started...");
+            httpServerStarted();
          }
 
          public void lifeCycleStarting(LifeCycle event) {
             logInfo("Server Starting...");
+            startAdminServer();
          }
 
          public void lifeCycleStopped(LifeCycle event) {
+            stopAdminServer();
+            if(gracefulStop()) {
+               if(gracefulHandler != null && gracefulHandler.getCurrentRequestCount() > 0L) {
+                  logError(String.format("Stopped with %d requests in progress", gracefulHandler.getCurrentRequestCount()));
+               }
+               keyStoreMonitor.shutdown();
+               configReloader.shutdown();
+               shutdown();
+            }
             logInfo("Server Stopped...");
          }
 
          public void lifeCycleStopping(LifeCycle event) {
             logInfo("Stopping...");
-            keyStoreMonitor.shutdown();
-            shutdown();
+            stopping.set(true);
+            if(gracefulStop()) {
+               drain();
+            } else {
+               keyStoreMonitor.shutdown();
+               configReloader.shutdown();
+               shutdown();
+            }
          }
       });
 
@@ -564,6 +819,9 @@ public abstract class Server {
 
       RequestLog requestLog = initRequestLog();
       if(requestLog != null) {
+         if(new WarmUp(WARMUP_PREFIX, props).isEnabled()) {
+            requestLog = new WarmUpExcludingRequestLog(requestLog);
+         }
          httpServer.setRequestLog(requestLog);
       }
       if(debug) {
@@ -574,7 +832,35 @@ public abstract class Server {
       return httpServer;
    }
 
-   private ServletContextHandler rootContext(boolean withGzip) {
+   /**
+    * Is a graceful stop configured?
+    * @return {@code true} if in-flight requests are drained on stop.
+    */
+   private boolean gracefulStop() {
+      return serverConfiguration.gracefulStopTimeout > 0L;
+   }
+
+   /**
+    * Waits for the configured graceful stop delay while reporting "not ready".
+    * <p>
+    *    Jetty stops accepting connections and waits for in-flight requests after this returns.
+    * </p>
+    */
+   private void drain() {
+      if(serverConfiguration.gracefulStopDelay > 0L) {
+         logInfo(String.format("Reporting not ready for %d ms before draining...", serverConfiguration.gracefulStopDelay));
+         try {
+            Thread.sleep(serverConfiguration.gracefulStopDelay);
+         } catch(InterruptedException ie) {
+            Thread.currentThread().interrupt();
+         }
+      }
+      logInfo(String.format("Draining %d requests (timeout %d ms)...",
+              gracefulHandler != null ? gracefulHandler.getCurrentRequestCount() : 0L, serverConfiguration.gracefulStopTimeout));
+   }
+
+   private ServletContextHandler rootContext(boolean withGzip, boolean withStatistics,
+                                             AdaptiveConcurrencyLimit adaptiveLimit) throws InitializationException {
       ServletContextHandler rootContext = new ServletContextHandler(ServletContextHandler.NO_SECURITY);
       rootContext.setContextPath("/");
       rootContext.setBaseResourceAsString("/");
@@ -584,37 +870,172 @@ public abstract class Server {
 
       rootContext.setMaxFormContentSize(serverConfiguration.maxFormContentSize);
       boolean withSecureRedirect = serverConfiguration.connectionSecurity == ServerConfiguration.ConnectionSecurity.REDIRECT;
+      Handler handler;
       if(withGzip) {
          GzipHandler gzip = new GzipHandler();
          gzip.setHandler(rootContext);
          if(withSecureRedirect) {
-            this.httpServer.setHandler(new Handler.Sequence(new SecuredRedirectHandler(), gzip));
+            handler = new Handler.Sequence(new SecuredRedirectHandler(), gzip);
          } else {
-            this.httpServer.setHandler(gzip);
+            handler = gzip;
          }
       } else if(withSecureRedirect) {
-         this.httpServer.setHandler(new Handler.Sequence(new SecuredRedirectHandler(), rootContext));
+         handler = new Handler.Sequence(new SecuredRedirectHandler(), rootContext);
       } else {
-         this.httpServer.setHandler(rootContext);
+         handler = rootContext;
+      }
+
+      if(jsonRequestLog()) {
+         RequestTimingHandler timingHandler = new RequestTimingHandler(
+                 props.getProperty(REQUEST_LOG_REQUEST_ID_HEADER_PROPERTY, RequestTimingHandler.DEFAULT_REQUEST_ID_HEADER).trim());
+         timingHandler.setHandler(handler);
+         handler = timingHandler;
+      }
+
+      handler = initQoS(handler);
+
+      if(adaptiveLimit != null) {
+         AdaptiveLimitHandler adaptiveLimitHandler = new AdaptiveLimitHandler(adaptiveLimit);
+         adaptiveLimitHandler.setHandler(handler);
+         serverMetrics.registerAll("adaptive-limit", adaptiveLimitHandler);
+         handler = adaptiveLimitHandler;
+      }
+
+      final StatisticsHandler statisticsHandler = withStatistics ? new StatisticsHandler() : null;
+      if(statisticsHandler != null) {
+         statisticsHandler.setHandler(handler);
+         serverMetrics.registerAll("requests", new RequestMetrics(statisticsHandler));
+         handler = statisticsHandler;
+      }
+
+      //Outermost, so the server waits for every in-flight request on graceful shutdown.
+      if(gracefulStop()) {
+         this.gracefulHandler = new GracefulHandler(handler);
+         handler = gracefulHandler;
+      }
+      this.httpServer.setHandler(handler);
+
+      WarmUp warmUp = new WarmUp(WARMUP_PREFIX, props);
+      if(warmUp.isEnabled()) {
+         this.warmUpRunner = new WarmUpRunner(httpServer, warmUp, logger);
+         warmUpRunner.addEventListener(new LifeCycle.Listener() {
+            public void lifeCycleStarting(LifeCycle event) {
+               startupTimer.mark("start-handlers");
+            }
+
+            public void lifeCycleStarted(LifeCycle event) {
+               startupTimer.mark("warm-up");
+               //Warm-up latency (cold JIT) and counts must not seed the limit or the request statistics.
+               if(adaptiveLimit != null) {
+                  adaptiveLimit.reset();
+               }
+               if(statisticsHandler != null) {
+                  statisticsHandler.reset();
+               }
+            }
+         });
+         this.httpServer.addBean(warmUpRunner);
       }
       return rootContext;
    }
 
+   /**
+    * Creates the admin server and context if an admin port is configured.
+    * <p>
+    *    The admin server is not a bean of the HTTP server, so a graceful shutdown of the HTTP server
+    *    does not close the admin connector. It starts when the HTTP server starts, before the public connectors open,
+    *    and stops only after the HTTP server has stopped, however the HTTP server is started or stopped.
+    * </p>
+    * @return The admin context or {@code null} if no admin port is configured.
+    */
+   private ServletContextHandler initAdmin() {
+      this.adminServer = serverConfiguration.buildAdminServer();
+      if(adminServer == null) {
+         return null;
+      }
+
+      ServletContextHandler adminContext = new ServletContextHandler(ServletContextHandler.NO_SECURITY);
+      adminContext.setContextPath("/");
+      adminServer.setHandler(adminContext);
+      adminServer.setStopAtShutdown(false);
+      serverMetrics.registerAll("admin-thread-pool",
+              new ThreadPoolMetrics(adminServer.getThreadPool(), ServerConfiguration.ThreadPoolMode.PLATFORM));
+      return adminContext;
+   }
+
+   /**
+    * Starts the admin server, if any.
+    * @throws IllegalStateException if the admin server does not start, so the HTTP server start fails.
+    */
+   private void startAdminServer() {
+      if(adminServer != null) {
+         try {
+            adminServer.start();
+         } catch(Exception e) {
+            throw new IllegalStateException("Admin server start failed", e);
+         }
+      }
+   }
+
+   /**
+    * Stops the admin server, if any.
+    */
+   private void stopAdminServer() {
+      if(adminServer != null) {
+         try {
+            adminServer.stop();
+         } catch(Exception e) {
+            logError("Admin server stop failed", e);
+         }
+      }
+   }
+
+   /**
+    * Gets the context for metrics, health checks and other operational servlets.
+    * @return The admin context if an admin port is configured, otherwise the root context.
+    */
+   protected final ServletContextHandler operationalContext() {
+      return adminContext != null ? adminContext : rootContext;
+   }
+
+   /**
+    * Wraps a handler with QoS limits if any lanes ({@code qos.<name>.}) or a server-wide limit are configured.
+    * @param handler The handler.
+    * @return The QoS handler or the input handler if QoS is not configured.
+    * @throws InitializationException on invalid lane configuration.
+    */
+   private Handler initQoS(final Handler handler) throws InitializationException {
+      InitUtil init = new InitUtil("qos.", props, false);
+      Map<String, Properties> configProps = init.split();
+      if(configProps.isEmpty() && serverConfiguration.maxConcurrentRequests < 1) {
+         return handler;
+      }
+
+      List<QoSLane> lanes = Lists.newArrayListWithExpectedSize(configProps.size());
+      for(Map.Entry<String, Properties> entry : configProps.entrySet()) {
+         lanes.add(new QoSLane(entry.getKey(), entry.getValue()));
+      }
+
+      QoSHandler qos = new QoSHandler(serverConfiguration.maxConcurrentRequests, lanes);
+      qos.setHandler(handler);
+      serverMetrics.registerAll("qos", qos);
+      return qos;
+   }
+
    /**
     * Initializes the server request logger.
     * @return The logger or {@code null} if none.
+    * @throws InitializationException on invalid sampling configuration.
     */
-   private RequestLog initRequestLog() {
+   private RequestLog initRequestLog() throws InitializationException {
 
       boolean requestLogExtendedFormat = props.getProperty(REQUEST_LOG_EXTENDED_PROPERTY, Boolean.toString(REQUEST_LOG_EXTENDED_DEFAULT)).equalsIgnoreCase("true");
 
       if(props.getProperty(REQUEST_LOG_OUTPUT_PROPERTY, "").trim().equalsIgnoreCase("console")) {
-         return new CustomRequestLog(System.out::println, requestLogExtendedFormat ?
-                 CustomRequestLog.EXTENDED_NCSA_FORMAT : CustomRequestLog.NCSA_FORMAT);
+         return requestLog(System.out::println, requestLogExtendedFormat);
       } else if(props.getProperty(REQUEST_LOG_OUTPUT_PROPERTY, "").trim().equalsIgnoreCase("slf4j")) {
          Slf4jRequestLogWriter logWriter = new Slf4jRequestLogWriter();
-         return new CustomRequestLog(logWriter, requestLogExtendedFormat ? CustomRequestLog.EXTENDED_NCSA_FORMAT
-                 : CustomRequestLog.NCSA_FORMAT);
+         return requestLog(logWriter, requestLogExtendedFormat);
       }
 
       String requestLogPath = props.getProperty(REQUEST_LOG_DIRECTORY_PROPERTY, "").trim();
@@ -632,13 +1053,56 @@ public abstract class Server {
       String requestLogBase = props.getProperty(REQUEST_LOG_BASE_PROPERTY, REQUEST_LOG_BASE_DEFAULT);
       int requestLogRetainDays = Integer.parseInt(props.getProperty(REQUEST_LOG_RETAIN_DAYS_PROPERTY, Integer.toString(REQUEST_LOG_RETAIN_DAYS_DEFAULT)));
 
+      if(props.getProperty(REQUEST_LOG_ASYNC_PROPERTY, "false").trim().equalsIgnoreCase("true")) {
+         AsyncRequestLogWriter asyncLogWriter = new AsyncRequestLogWriter(new File(requestLogPath), requestLogBase,
+                 ZoneId.of(requestLogTimeZone), requestLogRetainDays,
+                 Integer.parseInt(props.getProperty(REQUEST_LOG_QUEUE_SIZE_PROPERTY, Integer.toString(REQUEST_LOG_QUEUE_SIZE_DEFAULT)).trim()),
+                 AsyncRequestLogWriter.OverflowPolicy.fromString(props.getProperty(REQUEST_LOG_OVERFLOW_PROPERTY, "drop")),
+                 props.getProperty(REQUEST_LOG_COMPRESS_PROPERTY, "true").trim().equalsIgnoreCase("true"),
+                 logger);
+         serverMetrics.registerAll("request-log", asyncLogWriter);
+         return requestLog(asyncLogWriter, requestLogExtendedFormat);
+      }
+
       RequestLogWriter logWriter = new RequestLogWriter();
       logWriter.setRetainDays(requestLogRetainDays);
       logWriter.setAppend(true);
       logWriter.setTimeZone(requestLogTimeZone);
       logWriter.setFilename(requestLogPath + requestLogBase + "-yyyy_mm_dd.request.log");
-      return new CustomRequestLog(logWriter, requestLogExtendedFormat ?
-              CustomRequestLog.EXTENDED_NCSA_FORMAT : CustomRequestLog.NCSA_FORMAT);
+      return requestLog(logWriter, requestLogExtendedFormat);
+   }
+
+   /**
+    * Creates a request log in the configured format, with sampling if configured.
+    * @param writer The writer.
+    * @param extended Is the extended format configured?
+    * @return The request log.
+    * @throws InitializationException on invalid sampling configuration.
+    */
+   private RequestLog requestLog(final RequestLog.Writer writer, final boolean extended) throws InitializationException {
+      final RequestLog requestLog;
+      if(jsonRequestLog()) {
+         requestLog = new JSONRequestLog(writer, extended, logger);
+      } else {
+         requestLog = new CustomRequestLog(writer, extended ? CustomRequestLog.EXTENDED_NCSA_FORMAT : CustomRequestLog.NCSA_FORMAT);
+      }
+
+      RequestLogSampler sampler = new RequestLogSampler(props);
+      if(!sampler.isSampling()) {
+         return requestLog;
+      }
+      logInfo(String.format("Request log sampling: %s", sampler));
+      SamplingRequestLog samplingRequestLog = new SamplingRequestLog(requestLog, sampler);
+      serverMetrics.registerAll("request-log-sampling", samplingRequestLog);
+      return samplingRequestLog;
+   }
+
+   /**
+    * Is the JSON request log format configured?
+    * @return {@code true} if JSON.
+    */
+   private boolean jsonRequestLog() {
+      return props.getProperty(REQUEST_LOG_FORMAT_PROPERTY, "").trim().equalsIgnoreCase("json");
    }
 
    private void initAssets() throws InitializationException {
@@ -662,10 +1126,205 @@ public abstract class Server {
          }
 
          StaticAssetsConfig config = new StaticAssetsConfig("", entry.getValue());
-         addStaticAssets(config, pathExpressionList);
+         CacheControlFilter cacheControlFilter = staticAssets(entry.getKey(), config, pathExpressionList);
+         final String cacheControlProperty = "assets." + entry.getKey() + "." + StaticAssetsConfig.CACHE_CONTROL_HEADER_PROPERTY;
+         configReloader.register("assets." + entry.getKey(), ImmutableList.of(cacheControlProperty), newProps -> {
+            String cacheControl = newProps.getProperty(cacheControlProperty, "");
+            return () -> cacheControlFilter.setCacheControl(cacheControl);
+         });
+      }
+   }
+
+   /**
+    * Adds rate limits configured with properties ({@code ratelimit.<name>.}).
+    * @param authenticator The authenticator for limits keyed by user. May be {@code null}.
+    * @throws InitializationException on invalid configuration.
+    */
+   private void initRateLimits(final Authenticator<?> authenticator) throws InitializationException {
+      InitUtil init = new InitUtil("ratelimit.", props, false);
+      Map<String, Properties> configProps = init.split();
+      for(Map.Entry<String, Properties> entry : configProps.entrySet()) {
+         RateLimit limit = new RateLimit(entry.getKey(), entry.getValue());
+         if(limit.key == RateLimit.Key.USER && authenticator == null) {
+            throw new InitializationException(String.format("The rate limit, '%s' is keyed by user but no authenticator was configured", limit.name));
+         }
+         addRateLimit(limit, authenticator);
       }
    }
 
+   /**
+    * Adds a rate limit.
+    * <p>
+    *    Requests that exceed the limit are rejected with {@code 429}, before any other filter, including those
+    *    that serve static assets. Metrics for the limit are reported with the prefix {@code server.rate-limit.<name>}.
+    * </p>
+    * @param limit The limit.
+    * @param authenticator The authenticator that identifies users. Required if the limit is keyed by user.
+    * @return A self-reference.
+    */
+   protected Server addRateLimit(final RateLimit limit, final Authenticator<?> authenticator) {
+      RateLimitFilter filter = new RateLimitFilter(limit, authenticator);
+      addFirstFilter(filter);
+      serverMetrics.registerAll("rate-limit." + limit.name, filter);
+      return this;
+   }
+
+   /**
+    * Adds a filter for all requests that runs before all other filters, except those previously added with this method.
+    * <p>
+    *    Filters that serve static assets respond without continuing the chain, so rate limits and
+    *    traffic tracking must come first, no matter when they are added.
+    * </p>
+    * @param filter The filter.
+    */
+   private void addFirstFilter(final Filter filter) {
+      ServletHandler servletHandler = rootContext.getServletHandler();
+      FilterHolder holder = new FilterHolder(filter);
+      servletHandler.addFilter(holder);
+      FilterMapping mapping = new FilterMapping();
+      mapping.setFilterName(holder.getName());
+      mapping.setPathSpec("/*");
+      mapping.setDispatcherTypes(EnumSet.of(DispatcherType.REQUEST));
+      List<FilterMapping> mappings = Lists.newArrayList(servletHandler.getFilterMappings());
+      mappings.add(firstFilterCount++, mapping);
+      servletHandler.setFilterMappings(mappings.toArray(new FilterMapping[0]));
+   }
+
+   /**
+    * The prefix for warm-up properties ({@value}).
+    * <p>
+    *    If {@code warmup.requests} is set, the requests are sent through a local connector after the
+    *    handlers start and before the connectors accept connections.
+    * </p>
+    */
+   public static final String WARMUP_PREFIX = "warmup.";
+
+   /**
+    * The CDS training run property ({@value}).
+    * <p>
+    *    If set, usually on the command line with {@code -cds.dump=<path>}, the server starts, sends warm-up requests,
+    *    stops, writes an AppCDS archive to the path, and exits.
+    * </p>
+    */
+   public static final String CDS_DUMP_PROPERTY = "cds.dump";
+
+   /**
+    * The prefix for heavy hitter tracking properties ({@value}).
+    */
+   public static final String HEAVY_HITTERS_PREFIX = "heavyHitters.";
+
+   /**
+    * Adds a filter that tracks the clients and paths generating the most traffic,
+    * if enabled with {@code heavyHitters.enabled}.
+    * @param authenticator The authenticator that identifies users. May be {@code null}.
+    * @return The filter or {@code null} if not enabled.
+    * @throws InitializationException on invalid configuration.
+    */
+   private HeavyHittersFilter initHeavyHitters(final Authenticator<?> authenticator) throws InitializationException {
+      if(!props.getProperty(HEAVY_HITTERS_PREFIX + HeavyHittersFilter.ENABLED_PROPERTY, "false").trim().equalsIgnoreCase("true")) {
+         return null;
+      }
+      HeavyHittersFilter filter = new HeavyHittersFilter(HEAVY_HITTERS_PREFIX, props, authenticator);
+      addFirstFilter(filter);
+      serverMetrics.registerAll("heavy-hitters", filter);
+      return filter;
+   }
+
+   /**
+    * Creates the configuration reloader and registers log levels as reloadable.
+    * <p>
+    *    If the properties were loaded from files, the files are checked for changes
+    *    at the configured interval.
+    * </p>
+    * @param propsResourceName The name of a resource that contains default properties.
+    * @param args The command line arguments or {@code null} if properties were supplied directly.
+    * @return The reloader.
+    */
+   private ConfigReloader configReloader(final String propsResourceName, final String[] args) {
+      final ConfigReloader reloader;
+      if(args != null) {
+         reloader = new ConfigReloader(() -> props(propsResourceName, args), props, logger);
+      } else {
+         reloader = new ConfigReloader(() -> props, props, logger);
+      }
+
+      reloader.register("log4j", ImmutableList.of("log.", "logger."), newProps -> {
+         Log4jConfigurator.validate(newProps);
+         return () -> Log4jConfigurator.configure(newProps);
+      });
+
+      if(args != null && serverConfiguration.configCheckIntervalMillis > 0L) {
+         List<File> files = Lists.newArrayList();
+         for(String filename : commandLineParameters(args, Maps.newHashMap())) {
+            files.add(new File(filename));
+         }
+         reloader.watch(files, serverConfiguration.configCheckIntervalMillis);
+      }
+      return reloader;
+   }
+
+   /**
+    * Creates a CORS authenticator from properties that is replaced when configuration is reloaded.
+    * @param namePrefix The prefix for CORS properties, {@code cors.} for example.
+    * @return A supplier of the current authenticator, if configured.
+    */
+   protected final Supplier<Optional<CORSAuthenticator>> corsAuthenticator(final String namePrefix) {
+      final AtomicReference<Optional<CORSAuthenticator>> current =
+              new AtomicReference<>(CORSAuthenticator.fromProperties(prefixedProperties(namePrefix, props)));
+      configReloader.register("cors:" + namePrefix, ImmutableList.of(namePrefix), newProps -> {
+         Optional<CORSAuthenticator> authenticator = CORSAuthenticator.fromProperties(prefixedProperties(namePrefix, newProps));
+         return () -> current.set(authenticator);
+      });
+      return current::get;
+   }
+
+   /**
+    * Gets the properties that start with a prefix, with the prefix removed.
+    * @param namePrefix The prefix.
+    * @param props The properties.
+    * @return The properties.
+    */
+   private static Properties prefixedProperties(final String namePrefix, final Properties props) {
+      Properties prefixedProps = new Properties();
+      for(String name : props.stringPropertyNames()) {
+         if(name.startsWith(namePrefix)) {
+            prefixedProps.setProperty(name.substring(namePrefix.length()), props.getProperty(name));
+         }
+      }
+      return prefixedProps;
+   }
+
+   /**
+    * Adds a servlet that reloads configuration on {@code POST} and reports the result as JSON.
+    * <p>
+    *    If an admin port is configured, the servlet is added to the admin context.
+    * </p>
+    * @param path The servlet path.
+    * @return A self-reference.
+    */
+   protected Server addConfigReloadServlet(final String path) {
+      operationalContext().addServlet(new ServletHolder(new ConfigReloadServlet(configReloader)), path);
+      return this;
+   }
+
+   /**
+    * Adds a servlet that reports the top clients and paths as JSON.
+    * <p>
+    *    If an admin port is configured, the servlet is added to the admin context.
+    * </p>
+    * @param path The report path.
+    * @return A self-reference.
+    * @throws IllegalStateException if heavy hitter tracking is not enabled.
+    */
+   protected Server addHeavyHittersServlet(final String path) {
+      if(heavyHitters == null) {
+         throw new IllegalStateException(String.format("Heavy hitter tracking is not enabled ('%s%s')",
+                 HEAVY_HITTERS_PREFIX, HeavyHittersFilter.ENABLED_PROPERTY));
+      }
+      operationalContext().addServlet(new ServletHolder(new HeavyHittersServlet(heavyHitters)), path);
+      return this;
+   }
+
    /**
     * The request output format property name ({@value}).
     */
@@ -714,16 +1373,71 @@ public abstract class Server {
     */
    public static final String REQUEST_LOG_TIMEZONE_PROPERTY = "requestLogTimeZone";
 
+   /**
+    * The request log format property ({@value}).
+    * <p>
+    *    If {@code json}, entries are written as JSON lines with a per-phase timing breakdown.
+    *    Otherwise, NCSA format is used.
+    * </p>
+    */
+   public static final String REQUEST_LOG_FORMAT_PROPERTY = "requestLogFormat";
+
+   /**
+    * The header used to read and echo request ids for the JSON request log ({@value}).
+    */
+   public static final String REQUEST_LOG_REQUEST_ID_HEADER_PROPERTY = "requestLogRequestIdHeader";
+
+   /**
+    * The request log asynchronous write option property ({@value}).
+    * <p>
+    *    If {@code true}, entries are queued and written to the file in batches by a single thread.
+    * </p>
+    */
+   public static final String REQUEST_LOG_ASYNC_PROPERTY = "requestLogAsync";
+
+   /**
+    * The asynchronous request log queue size property ({@value}).
+    */
+   public static final String REQUEST_LOG_QUEUE_SIZE_PROPERTY = "requestLogQueueSize";
+
+   /**
+    * The default asynchronous request log queue size ({@value}).
+    */
+   public static final int REQUEST_LOG_QUEUE_SIZE_DEFAULT = 8192;
+
+   /**
+    * The asynchronous request log overflow policy property ({@value}).
+    * <p>
+    *    Either {@code drop} (the default) to drop and count entries when the queue is full, or {@code block}.
+    * </p>
+    */
+   public static final String REQUEST_LOG_OVERFLOW_PROPERTY = "requestLogOverflow";
+
+   /**
+    * The asynchronous request log rotated file compression option property ({@value}).
+    * <p>
+    *    If {@code true} (the default), rotated files are gzip-compressed.
+    * </p>
+    */
+   public static final String REQUEST_LOG_COMPRESS_PROPERTY = "requestLogCompress";
+
    /**
     * Adds a metrics reporting servlet at the specified path.
+    * <p>
+    *    Metrics reported by the server itself are added to the registry with the prefix {@code server.}
+    *    If an admin port is configured, the servlet is added to the admin context.
+    * </p>
     * @param registry The metric registry.
     * @param path The report path.
     * @return A self-reference.
     */
    protected Server addMetricsServlet(final MetricRegistry registry, final String path) {
 
+      registry.register("server", serverMetrics);
+
       MetricsServlet metricsServlet = new MetricsServlet(registry);
-      rootContext.addEventListener(new MetricsServlet.ContextListener() {
+      ServletContextHandler context = operationalContext();
+      context.addEventListener(new MetricsServlet.ContextListener() {
          @Override
          protected MetricRegistry getMetricRegistry() {
             return registry;
@@ -739,19 +1453,34 @@ public abstract class Server {
             return TimeUnit.MINUTES;
          }
       });
-      rootContext.addServlet(new ServletHolder(metricsServlet), path);
+      context.addServlet(new ServletHolder(metricsServlet), path);
       return this;
    }
 
+   /**
+    * The name of the health check that fails when the server is stopping ({@value}).
+    */
+   public static final String READY_HEALTH_CHECK_NAME = "server.ready";
+
    /**
     * Adds a health check servlet to the server.
+    * <p>
+    *    A health check named {@code server.ready} is added to the registry. It fails when the server is stopping.
+    *    If an admin port is configured, the servlet is added to the admin context.
+    * </p>
     * @param registry The health check registry.
     * @param path The report path.
     * @return A self-reference.
     */
    protected Server addHealthCheckServlet(final HealthCheckRegistry registry, final String path) {
+      registry.register(READY_HEALTH_CHECK_NAME, new HealthCheck() {
+         @Override
+         protected Result check() {
+            return stopping.get() ? Result.unhealthy("The server is stopping") : Result.healthy();
+         }
+      });
       HealthCheckServlet healthCheckServlet = new HealthCheckServlet(registry);
-      rootContext.addServlet(new ServletHolder(healthCheckServlet), path);
+      operationalContext().addServlet(new ServletHolder(healthCheckServlet), path);
       return this;
    }
 
@@ -772,18 +1501,116 @@ public abstract class Server {
     * @return A self-reference.
     */
    protected final Server addStaticAssets(final StaticAssetsConfig config, final List<String> paths) {
+      String name = CharMatcher.is('-').trimFrom(paths.get(0).replaceAll("[^A-Za-z0-9]+", "-"));
+      staticAssets(name.isEmpty() ? "root" : name, config, paths);
+      return this;
+   }
+
+   /**
+    * Gets the manifest for fingerprinted static assets.
+    * <p>
+    *    Templates use the manifest to resolve logical paths, like {@code /js/app.js},
+    *    to fingerprinted paths, like {@code /js/app.3f9a2c1b.js}.
+    * </p>
+    * @param name The name of the assets. For assets configured with properties, the {@code <name>} in {@code assets.<name>.}.
+    * @return The manifest or empty if fingerprinting is not enabled for the assets.
+    */
+   public Optional<AssetManifest> assetManifest(final String name) {
+      return Optional.ofNullable(assetManifests.get(name));
+   }
+
+   /**
+    * Adds configuration to serve static assets for a list of paths.
+    * <p>
+    *    If caching is enabled, cache metrics are reported with the prefix {@code server.asset-cache.<name>}.
+    *    If large file serving is enabled, metrics are reported with the prefix {@code server.asset-large-file.<name>}.
+    *    If precompression is enabled, metrics are reported with the prefix {@code server.asset-precompress.<name>}.
+    *    If fingerprinting is enabled, the manifest is available with {@link #assetManifest(String)}.
+    * </p>
+    * @param name The name of the assets.
+    * @param config  The configuration.
+    * @param paths The path list.
+    * @return The filter that sets the {@code Cache-Control} header for the assets.
+    */
+   private CacheControlFilter staticAssets(final String name, final StaticAssetsConfig config, final List<String> paths) {
       ServletHolder holder = new ServletHolder();
       holder.setInitParameter("resourceBase", config.resourceDirectory);
       holder.setInitParameter("dirAllowed", config.directoryAllowed ? "true" : "false");
       holder.setInitParameter("gzip", config.gzip ? "true" : "false");
       holder.setInitParameter("etags", config.etags ? "true" : "false");
       holder.setInitParameter("precompressed", "true");
-      if(!config.cacheControl.isEmpty()) {
-         holder.setInitParameter("cacheControl", config.cacheControl);
-      }
       holder.setServlet(new DefaultServlet());
       paths.forEach(path -> rootContext.addServlet(holder, path));
-      return this;
+
+      CacheControlFilter cacheControlFilter = new CacheControlFilter(config.cacheControl);
+      FilterHolder filterHolder = new FilterHolder(cacheControlFilter);
+      paths.forEach(path -> rootContext.addFilter(filterHolder, path, EnumSet.of(DispatcherType.REQUEST)));
+
+      StaticAssetResolver resolver = new StaticAssetResolver(Path.of(config.resourceDirectory), serverConfiguration.allowSymlinks);
+      DirectoryWatcher watcher = null;
+      if(config.watch) {
+         watcher = new DirectoryWatcher(Path.of(config.resourceDirectory), serverConfiguration.allowSymlinks,
+                 config.watchDebounceMillis, logger);
+         httpServer.addBean(watcher);
+      }
+
+      Precompressor precompressor = null;
+      List<ContentEncoding> precompressEncodings = Lists.newArrayList();
+      if(config.gzip && config.isPrecompressEnabled()) {
+         for(ContentEncoding encoding : config.precompressEncodings) {
+            if(encoding.isAvailable()) {
+               precompressEncodings.add(encoding);
+            } else {
+               logInfo(String.format("No codec is available for '%s' precompression of '%s'", encoding.token, name));
+            }
+         }
+      }
+      if(!precompressEncodings.isEmpty()) {
+         precompressor = new Precompressor(resolver, Path.of(config.precompressDirectory), config.precompressMinSize,
+                 ImmutableList.copyOf(precompressEncodings), rootContext.getMimeTypes()::getMimeByExtension, logger);
+         serverMetrics.registerAll("asset-precompress." + name, precompressor);
+         httpServer.addBean(precompressor);
+         if(watcher != null) {
+            watcher.addListener(precompressor);
+         }
+      }
+
+      //Fingerprinted paths are forwarded to their logical paths, so filters that serve files also run on forward.
+      EnumSet<DispatcherType> serveDispatch = EnumSet.of(DispatcherType.REQUEST);
+      if(config.fingerprint) {
+         AssetManifest manifest = new AssetManifest(resolver, config.largeFileSize);
+         httpServer.addBean(manifest);
+         assetManifests.put(name, manifest);
+         if(watcher != null) {
+            watcher.addListener(manifest);
+         }
+         FilterHolder fingerprintFilterHolder = new FilterHolder(new FingerprintFilter(manifest, config.fingerprintCacheControl));
+         paths.forEach(path -> rootContext.addFilter(fingerprintFilterHolder, path, EnumSet.of(DispatcherType.REQUEST)));
+         serveDispatch.add(DispatcherType.FORWARD);
+      }
+
+      if(config.isCacheEnabled()) {
+         StaticAssetCache cache = new StaticAssetCache(config, serverConfiguration.allowSymlinks, precompressor);
+         serverMetrics.registerAll("asset-cache." + name, cache);
+         if(watcher != null) {
+            watcher.addListener(cache);
+         }
+         FilterHolder cacheFilterHolder = new FilterHolder(new StaticAssetCacheFilter(cache));
+         paths.forEach(path -> rootContext.addFilter(cacheFilterHolder, path, serveDispatch));
+      }
+
+      if(config.largeFileSize > 0L) {
+         LargeStaticAssetFilter largeFileFilter = new LargeStaticAssetFilter(resolver, config.largeFileSize, config.etags);
+         serverMetrics.registerAll("asset-large-file." + name, largeFileFilter);
+         FilterHolder largeFileFilterHolder = new FilterHolder(largeFileFilter);
+         paths.forEach(path -> rootContext.addFilter(largeFileFilterHolder, path, serveDispatch));
+      }
+
+      if(precompressor != null) {
+         FilterHolder precompressedFilterHolder = new FilterHolder(new PrecompressedAssetFilter(resolver, precompressor, config.etags));
+         paths.forEach(path -> rootContext.addFilter(precompressedFilterHolder, path, serveDispatch));
+      }
+      return cacheControlFilter;
    }
 
    /**
@@ -806,11 +1633,26 @@ public abstract class Server {
     */
    protected final org.eclipse.jetty.server.Server httpServer;
 
+   /**
+    * Reloads configuration and applies changes without a restart.
+    */
+   protected final ConfigReloader configReloader;
+
    /**
     * The root context.
     */
    protected final ServletContextHandler rootContext;
 
+   /**
+    * The context served by the admin connector, or {@code null} if no admin port is configured.
+    */
+   protected final ServletContextHandler adminContext;
+
+   /**
+    * The heavy hitter tracking filter, or {@code null} if not enabled.
+    */
+   protected final HeavyHittersFilter heavyHitters;
+
    /**
     * Is the server running in "debug" mode?
     */
@@ -820,4 +1662,49 @@ public abstract class Server {
     * The key store monitor.
     */
    private final KeyStoreMonitor keyStoreMonitor = new KeyStoreMonitor();
+
+   /**
+    * Manifests for fingerprinted static assets vs name.
+    */
+   private final Map<String, AssetManifest> assetManifests = Maps.newConcurrentMap();
+
+   /**
+    * Set when the server begins to stop.
+    */
+   private final AtomicBoolean stopping = new AtomicBoolean(false);
+
+   /**
+    * The number of filters added with {@link #addFirstFilter(Filter)}.
+    */
+   private int firstFilterCount;
+
+   /**
+    * The server for the admin connector, or {@code null} if no admin port is configured.
+    */
+   private org.eclipse.jetty.server.Server adminServer;
+
+   /**
+    * Tracks in-flight requests for graceful stop, if enabled.
+    */
+   private GracefulHandler gracefulHandler;
+
+   /**
+    * Sends warm-up requests before the connectors start, if configured.
+    */
+   private WarmUpRunner warmUpRunner;
+
+   /**
+    * Records the time taken by each startup phase.
+    */
+   private final StartupTimer startupTimer = new StartupTimer();
+
+   /**
+    * Has startup timing been reported?
+    */
+   private final AtomicBoolean startupReported = new AtomicBoolean(false);
+
+   /**
+    * Metrics reported by the server.
+    */
+   protected final MetricRegistry serverMetrics = new MetricRegistry();
 }
@@ -21,8 +21,19 @@ package org.attribyte.snook;
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Strings;
 import org.attribyte.api.InitializationException;
+import org.attribyte.snook.limit.QoSLane;
+import org.attribyte.snook.limit.RateLimit;
+import org.attribyte.snook.stats.HeavyHittersFilter;
 import org.attribyte.util.InitUtil;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.io.ArrayByteBufferPool;
+import org.eclipse.jetty.io.ByteBufferPool;
+import org.eclipse.jetty.server.ConnectionFactory;
+import org.eclipse.jetty.server.ConnectionLimit;
 import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.ForwardedRequestCustomizer;
 import org.eclipse.jetty.server.HttpConfiguration;
@@ -30,11 +41,17 @@ import org.eclipse.jetty.server.HttpConnectionFactory;
 import org.eclipse.jetty.server.SecureRequestCustomizer;
 import org.eclipse.jetty.server.ServerConnector;
 import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.unixdomain.server.UnixDomainServerConnector;
+import org.eclipse.jetty.util.VirtualThreads;
 import org.eclipse.jetty.util.resource.ResourceFactory;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+import org.eclipse.jetty.util.thread.VirtualThreadPool;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.Properties;
 
@@ -93,6 +110,50 @@ public class ServerConfiguration {
       }
    }
 
+   /**
+    * The thread pool used to execute requests.
+    */
+   public enum ThreadPoolMode {
+
+      /**
+       * A queued pool of platform threads.
+       */
+      PLATFORM,
+
+      /**
+       * A queued pool of platform threads for selectors and non-blocking tasks,
+       * with blocking tasks (servlets, for example) executed by virtual threads.
+       */
+      VIRTUAL,
+
+      /**
+       * All tasks executed by virtual threads. No pooled platform threads.
+       */
+      ALL_VIRTUAL;
+
+      /**
+       * Create the thread pool mode from a string.
+       * One of: {@code platform}, {@code virtual} or {@code all_virtual}.
+       * @param str The string.
+       * @return The thread pool mode.
+       * @throws InitializationException if value is invalid.
+       */
+      public static ThreadPoolMode fromString(final String str) throws InitializationException {
+         switch(Strings.nullToEmpty(str).trim().toLowerCase()) {
+            case "":
+            case "platform":
+               return PLATFORM;
+            case "virtual":
+               return VIRTUAL;
+            case "all_virtual":
+            case "allvirtual":
+               return ALL_VIRTUAL;
+            default:
+               throw new InitializationException(String.format("The 'threadPool', '%s' is invalid", Strings.nullToEmpty(str)));
+         }
+      }
+   }
+
    /**
     * Creates a server configuration with default values.
     * @throws InitializationException on invalid configuration.
@@ -123,6 +184,45 @@ public class ServerConfiguration {
       this.enableForwardedRequestCustomizer = false;
       this.suppressStackTrace = false;
       this.customErrorHandler = new ErrorHandler().enableStackTrace();
+      this.threadPoolMode = ThreadPoolMode.PLATFORM;
+      this.minThreads = DEFAULT_MIN_THREADS;
+      this.maxThreads = DEFAULT_MAX_THREADS;
+      this.maxVirtualThreads = DEFAULT_MAX_VIRTUAL_THREADS;
+      this.reservedThreads = DEFAULT_RESERVED_THREADS;
+      this.threadIdleTimeout = InitUtil.millisFromTime(DEFAULT_THREAD_IDLE_TIMEOUT);
+      this.enableHTTP2 = false;
+      this.enableH2C = false;
+      this.http2MaxConcurrentStreams = DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+      this.http2InitialStreamRecvWindow = DEFAULT_HTTP2_INITIAL_STREAM_RECV_WINDOW;
+      this.http2InitialSessionRecvWindow = DEFAULT_HTTP2_INITIAL_SESSION_RECV_WINDOW;
+      this.http2MaxHeaderTableSize = DEFAULT_HTTP2_MAX_HEADER_TABLE_SIZE;
+      this.unixSocketPath = "";
+      this.unixSocketOnly = false;
+      this.acceptors = DEFAULT_ACCEPTORS;
+      this.selectors = DEFAULT_SELECTORS;
+      this.acceptQueueSize = DEFAULT_ACCEPT_QUEUE_SIZE;
+      this.reuseAddress = DEFAULT_REUSE_ADDRESS;
+      this.reusePort = DEFAULT_REUSE_PORT;
+      this.tcpNoDelay = DEFAULT_TCP_NO_DELAY;
+      this.httpIdleTimeout = this.idleTimeout;
+      this.httpsIdleTimeout = this.idleTimeout;
+      this.maxConnections = DEFAULT_MAX_CONNECTIONS;
+      this.enableLowResourceMonitor = false;
+      this.lowResourcesMaxMemory = 0L;
+      this.lowResourcesIdleTimeout = InitUtil.millisFromTime(DEFAULT_LOW_RESOURCES_IDLE_TIMEOUT);
+      this.lowResourcesCheckInterval = InitUtil.millisFromTime(DEFAULT_LOW_RESOURCES_CHECK_INTERVAL);
+      this.useDirectBuffers = DEFAULT_USE_DIRECT_BUFFERS;
+      this.bufferPoolMaxCapacity = DEFAULT_BUFFER_POOL_MAX_CAPACITY;
+      this.bufferPoolMaxBucketSize = DEFAULT_BUFFER_POOL_MAX_BUCKET_SIZE;
+      this.bufferPoolMaxHeapMemory = DEFAULT_BUFFER_POOL_MAX_MEMORY;
+      this.bufferPoolMaxDirectMemory = DEFAULT_BUFFER_POOL_MAX_MEMORY;
+      this.gracefulStopTimeout = 0L;
+      this.gracefulStopDelay = 0L;
+      this.maxConcurrentRequests = 0;
+      this.adminPort = 0;
+      this.adminListenIP = DEFAULT_ADMIN_LISTEN_IP;
+      this.adminMaxThreads = DEFAULT_ADMIN_MAX_THREADS;
+      this.configCheckIntervalMillis = 0L;
    }
 
    /**
@@ -186,6 +286,82 @@ public class ServerConfiguration {
               init.getProperty(ENABLE_FORWARDED_REQUEST_CUSTOMIZER_PROPERTY, "false").equalsIgnoreCase("true");
       this.suppressStackTrace = init.getProperty(SUPPRESS_STACK_TRACE_PROPERTY, "false").equalsIgnoreCase("true");
       this.customErrorHandler = suppressStackTrace ? new ErrorHandler().disableStackTrace() : new ErrorHandler().enableStackTrace();
+
+      this.threadPoolMode = ThreadPoolMode.fromString(init.getProperty(THREAD_POOL_PROPERTY, DEFAULT_THREAD_POOL));
+      if(threadPoolMode != ThreadPoolMode.PLATFORM && !VirtualThreads.areSupported()) {
+         throw new InitializationException(String.format("The 'threadPool', '%s' requires a JVM that supports virtual threads", threadPoolMode));
+      }
+      this.minThreads = init.getIntProperty(MIN_THREADS_PROPERTY, DEFAULT_MIN_THREADS);
+      this.maxThreads = init.getIntProperty(MAX_THREADS_PROPERTY, DEFAULT_MAX_THREADS);
+      if(minThreads < 1 || maxThreads < minThreads) {
+         throw new InitializationException(String.format("The '%s' (%d) must be >= '%s' (%d) and > 0",
+                 MAX_THREADS_PROPERTY, maxThreads, MIN_THREADS_PROPERTY, minThreads));
+      }
+      this.maxVirtualThreads = init.getIntProperty(MAX_VIRTUAL_THREADS_PROPERTY, DEFAULT_MAX_VIRTUAL_THREADS);
+      if(maxVirtualThreads < 0) {
+         throw new InitializationException(String.format("The '%s' must not be negative", MAX_VIRTUAL_THREADS_PROPERTY));
+      }
+      this.reservedThreads = init.getIntProperty(RESERVED_THREADS_PROPERTY, DEFAULT_RESERVED_THREADS);
+      this.threadIdleTimeout = InitUtil.millisFromTime(init.getProperty(THREAD_IDLE_TIMEOUT_PROPERTY, DEFAULT_THREAD_IDLE_TIMEOUT));
+
+      this.enableHTTP2 = init.getProperty(ENABLE_HTTP2_PROPERTY, "false").equalsIgnoreCase("true");
+      if(enableHTTP2 && sslContextFactory.isEmpty()) {
+         throw new InitializationException(String.format("A '%s' must be specified with '%s'", KEYSTORE_FILE_PROPERTY, ENABLE_HTTP2_PROPERTY));
+      }
+      this.enableH2C = init.getProperty(ENABLE_H2C_PROPERTY, "false").equalsIgnoreCase("true");
+      this.http2MaxConcurrentStreams = init.getIntProperty(HTTP2_MAX_CONCURRENT_STREAMS_PROPERTY, DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS);
+      this.http2InitialStreamRecvWindow = init.getIntProperty(HTTP2_INITIAL_STREAM_RECV_WINDOW_PROPERTY, DEFAULT_HTTP2_INITIAL_STREAM_RECV_WINDOW);
+      this.http2InitialSessionRecvWindow = init.getIntProperty(HTTP2_INITIAL_SESSION_RECV_WINDOW_PROPERTY, DEFAULT_HTTP2_INITIAL_SESSION_RECV_WINDOW);
+      this.http2MaxHeaderTableSize = init.getIntProperty(HTTP2_MAX_HEADER_TABLE_SIZE_PROPERTY, DEFAULT_HTTP2_MAX_HEADER_TABLE_SIZE);
+
+      this.unixSocketPath = init.getProperty(UNIX_SOCKET_PATH_PROPERTY, "").trim();
+      this.unixSocketOnly = init.getProperty(UNIX_SOCKET_ONLY_PROPERTY, "false").equalsIgnoreCase("true");
+      if(unixSocketOnly && unixSocketPath.isEmpty()) {
+         throw new InitializationException(String.format("A '%s' must be specified with '%s'", UNIX_SOCKET_PATH_PROPERTY, UNIX_SOCKET_ONLY_PROPERTY));
+      }
+
+      this.acceptors = init.getIntProperty(ACCEPTORS_PROPERTY, DEFAULT_ACCEPTORS);
+      this.selectors = init.getIntProperty(SELECTORS_PROPERTY, DEFAULT_SELECTORS);
+      this.acceptQueueSize = init.getIntProperty(ACCEPT_QUEUE_SIZE_PROPERTY, DEFAULT_ACCEPT_QUEUE_SIZE);
+      this.reuseAddress = init.getProperty(REUSE_ADDRESS_PROPERTY, Boolean.toString(DEFAULT_REUSE_ADDRESS)).equalsIgnoreCase("true");
+      this.reusePort = init.getProperty(REUSE_PORT_PROPERTY, Boolean.toString(DEFAULT_REUSE_PORT)).equalsIgnoreCase("true");
+      this.tcpNoDelay = init.getProperty(TCP_NO_DELAY_PROPERTY, Boolean.toString(DEFAULT_TCP_NO_DELAY)).equalsIgnoreCase("true");
+      String httpIdleTimeout = init.getProperty(HTTP_IDLE_TIMEOUT_PROPERTY, "").trim();
+      this.httpIdleTimeout = httpIdleTimeout.isEmpty() ? this.idleTimeout : InitUtil.millisFromTime(httpIdleTimeout);
+      String httpsIdleTimeout = init.getProperty(HTTPS_IDLE_TIMEOUT_PROPERTY, "").trim();
+      this.httpsIdleTimeout = httpsIdleTimeout.isEmpty() ? this.idleTimeout : InitUtil.millisFromTime(httpsIdleTimeout);
+
+      this.maxConnections = init.getIntProperty(MAX_CONNECTIONS_PROPERTY, DEFAULT_MAX_CONNECTIONS);
+      this.enableLowResourceMonitor = init.getProperty(ENABLE_LOW_RESOURCE_MONITOR_PROPERTY, "false").equalsIgnoreCase("true");
+      this.lowResourcesMaxMemory = Long.parseLong(init.getProperty(LOW_RESOURCES_MAX_MEMORY_PROPERTY, "0").trim());
+      this.lowResourcesIdleTimeout = InitUtil.millisFromTime(init.getProperty(LOW_RESOURCES_IDLE_TIMEOUT_PROPERTY, DEFAULT_LOW_RESOURCES_IDLE_TIMEOUT));
+      this.lowResourcesCheckInterval = InitUtil.millisFromTime(init.getProperty(LOW_RESOURCES_CHECK_INTERVAL_PROPERTY, DEFAULT_LOW_RESOURCES_CHECK_INTERVAL));
+
+      this.useDirectBuffers = init.getProperty(USE_DIRECT_BUFFERS_PROPERTY, Boolean.toString(DEFAULT_USE_DIRECT_BUFFERS)).equalsIgnoreCase("true");
+      this.bufferPoolMaxCapacity = init.getIntProperty(BUFFER_POOL_MAX_CAPACITY_PROPERTY, DEFAULT_BUFFER_POOL_MAX_CAPACITY);
+      int maxBucketSize = init.getIntProperty(BUFFER_POOL_MAX_BUCKET_SIZE_PROPERTY, DEFAULT_BUFFER_POOL_MAX_BUCKET_SIZE);
+      this.bufferPoolMaxBucketSize = maxBucketSize < 1 ? DEFAULT_BUFFER_POOL_MAX_BUCKET_SIZE : maxBucketSize;
+      this.bufferPoolMaxHeapMemory = Long.parseLong(init.getProperty(BUFFER_POOL_MAX_HEAP_MEMORY_PROPERTY, Long.toString(DEFAULT_BUFFER_POOL_MAX_MEMORY)).trim());
+      this.bufferPoolMaxDirectMemory = Long.parseLong(init.getProperty(BUFFER_POOL_MAX_DIRECT_MEMORY_PROPERTY, Long.toString(DEFAULT_BUFFER_POOL_MAX_MEMORY)).trim());
+
+      this.gracefulStopTimeout = InitUtil.millisFromTime(init.getProperty(GRACEFUL_STOP_TIMEOUT_PROPERTY, "").trim());
+      this.gracefulStopDelay = InitUtil.millisFromTime(init.getProperty(GRACEFUL_STOP_DELAY_PROPERTY, "").trim());
+      this.maxConcurrentRequests = init.getIntProperty(MAX_CONCURRENT_REQUESTS_PROPERTY, 0);
+
+      this.adminPort = init.getIntProperty(ADMIN_PORT_PROPERTY, 0);
+      this.adminListenIP = init.getProperty(ADMIN_LISTEN_IP_PROPERTY, DEFAULT_ADMIN_LISTEN_IP);
+      this.adminMaxThreads = init.getIntProperty(ADMIN_MAX_THREADS_PROPERTY, DEFAULT_ADMIN_MAX_THREADS);
+      if(this.adminPort > 0 && this.adminPort == this.httpPort) {
+         throw new InitializationException(String.format("The '%s' must not be the same as '%s'", ADMIN_PORT_PROPERTY, LISTEN_PORT_PROPERTY));
+      }
+      if(this.adminPort > 0 && this.adminPort == this.httpsPort && sslContextFactory.isPresent()) {
+         throw new InitializationException(String.format("The '%s' must not be the same as '%s'", ADMIN_PORT_PROPERTY, SECURE_LISTEN_PORT_PROPERTY));
+      }
+      if(this.adminMaxThreads < 4) {
+         throw new InitializationException(String.format("The '%s' must be at least 4", ADMIN_MAX_THREADS_PROPERTY));
+      }
+
+      this.configCheckIntervalMillis = InitUtil.millisFromTime(init.getProperty(CONFIG_CHECK_INTERVAL_PROPERTY, "").trim());
    }
 
    /**
@@ -363,6 +539,397 @@ public class ServerConfiguration {
     */
    public static final String SUPPRESS_STACK_TRACE_PROPERTY = "suppressStackTrace";
 
+   /**
+    * The thread pool mode property name ({@value}).
+    */
+   public static final String THREAD_POOL_PROPERTY = "threadPool";
+
+   /**
+    * The default thread pool mode ({@value}).
+    */
+   public static final String DEFAULT_THREAD_POOL = "platform";
+
+   /**
+    * The minimum number of pooled threads property name ({@value}).
+    */
+   public static final String MIN_THREADS_PROPERTY = "minThreads";
+
+   /**
+    * The default minimum number of pooled threads ({@value}).
+    */
+   public static final int DEFAULT_MIN_THREADS = 8;
+
+   /**
+    * The maximum number of pooled threads property name ({@value}).
+    * <p>
+    *    Not used for {@code all_virtual}. See {@link #MAX_VIRTUAL_THREADS_PROPERTY}.
+    * </p>
+    */
+   public static final String MAX_THREADS_PROPERTY = "maxThreads";
+
+   /**
+    * The default maximum number of pooled threads ({@value}).
+    */
+   public static final int DEFAULT_MAX_THREADS = 200;
+
+   /**
+    * The maximum number of concurrent virtual threads for {@code all_virtual} property name ({@value}).
+    * <p>
+    *    If {@code 0}, the number is unbounded. Concurrency is then limited by connections
+    *    and, if configured, {@code maxConcurrentRequests}.
+    * </p>
+    */
+   public static final String MAX_VIRTUAL_THREADS_PROPERTY = "maxVirtualThreads";
+
+   /**
+    * The default maximum number of concurrent virtual threads ({@value}).
+    */
+   public static final int DEFAULT_MAX_VIRTUAL_THREADS = 0;
+
+   /**
+    * The number of reserved threads property name ({@value}).
+    */
+   public static final String RESERVED_THREADS_PROPERTY = "reservedThreads";
+
+   /**
+    * The default number of reserved threads ({@value}).
+    * <p>
+    *    If {@code -1}, the number is chosen heuristically.
+    * </p>
+    */
+   public static final int DEFAULT_RESERVED_THREADS = -1;
+
+   /**
+    * The idle timeout for pooled threads property name ({@value}).
+    */
+   public static final String THREAD_IDLE_TIMEOUT_PROPERTY = "threadIdleTimeout";
+
+   /**
+    * The default idle timeout for pooled threads ({@value}).
+    */
+   public static final String DEFAULT_THREAD_IDLE_TIMEOUT = "60s";
+
+   /**
+    * The property name to enable HTTP/2 over TLS, negotiated with ALPN ({@value}).
+    */
+   public static final String ENABLE_HTTP2_PROPERTY = "enableHTTP2";
+
+   /**
+    * The property name to enable cleartext HTTP/2 (h2c) on the insecure connector ({@value}).
+    * <p>
+    *    Both prior-knowledge and {@code Upgrade: h2c} are supported.
+    * </p>
+    */
+   public static final String ENABLE_H2C_PROPERTY = "enableH2C";
+
+   /**
+    * The maximum concurrent streams per HTTP/2 connection property name ({@value}).
+    */
+   public static final String HTTP2_MAX_CONCURRENT_STREAMS_PROPERTY = "http2MaxConcurrentStreams";
+
+   /**
+    * The default maximum concurrent streams per HTTP/2 connection ({@value}).
+    */
+   public static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 128;
+
+   /**
+    * The initial HTTP/2 stream receive window property name ({@value}).
+    */
+   public static final String HTTP2_INITIAL_STREAM_RECV_WINDOW_PROPERTY = "http2InitialStreamRecvWindow";
+
+   /**
+    * The default initial HTTP/2 stream receive window in bytes ({@value}).
+    */
+   public static final int DEFAULT_HTTP2_INITIAL_STREAM_RECV_WINDOW = 512 * 1024;
+
+   /**
+    * The initial HTTP/2 session receive window property name ({@value}).
+    */
+   public static final String HTTP2_INITIAL_SESSION_RECV_WINDOW_PROPERTY = "http2InitialSessionRecvWindow";
+
+   /**
+    * The default initial HTTP/2 session receive window in bytes ({@value}).
+    */
+   public static final int DEFAULT_HTTP2_INITIAL_SESSION_RECV_WINDOW = 1024 * 1024;
+
+   /**
+    * The maximum HPACK header table size property name ({@value}).
+    */
+   public static final String HTTP2_MAX_HEADER_TABLE_SIZE_PROPERTY = "http2MaxHeaderTableSize";
+
+   /**
+    * The default maximum HPACK header table size in bytes ({@value}).
+    */
+   public static final int DEFAULT_HTTP2_MAX_HEADER_TABLE_SIZE = 4096;
+
+   /**
+    * The property name for the path to a Unix domain socket ({@value}).
+    * <p>
+    *    If specified, a connector is added that accepts requests on the socket, for example,
+    *    from a reverse proxy on the same host. Forwarded headers are always honored on this connector.
+    * </p>
+    */
+   public static final String UNIX_SOCKET_PATH_PROPERTY = "unixSocket.path";
+
+   /**
+    * The property name that disables TCP connectors when a Unix domain socket is configured ({@value}).
+    */
+   public static final String UNIX_SOCKET_ONLY_PROPERTY = "unixSocketOnly";
+
+   /**
+    * The number of acceptor threads per connector property name ({@value}).
+    */
+   public static final String ACCEPTORS_PROPERTY = "acceptors";
+
+   /**
+    * The default number of acceptor threads ({@value}).
+    * <p>
+    *    If {@code -1}, the number is chosen based on available processors.
+    * </p>
+    */
+   public static final int DEFAULT_ACCEPTORS = -1;
+
+   /**
+    * The number of selectors per connector property name ({@value}).
+    */
+   public static final String SELECTORS_PROPERTY = "selectors";
+
+   /**
+    * The default number of selectors ({@value}).
+    * <p>
+    *    If {@code -1}, the number is chosen based on available processors.
+    * </p>
+    */
+   public static final int DEFAULT_SELECTORS = -1;
+
+   /**
+    * The accept queue (backlog) size property name ({@value}).
+    */
+   public static final String ACCEPT_QUEUE_SIZE_PROPERTY = "acceptQueueSize";
+
+   /**
+    * The default accept queue size ({@value}).
+    * <p>
+    *    If {@code 0}, the operating system default is used.
+    * </p>
+    */
+   public static final int DEFAULT_ACCEPT_QUEUE_SIZE = 0;
+
+   /**
+    * The {@code SO_REUSEADDR} property name ({@value}).
+    */
+   public static final String REUSE_ADDRESS_PROPERTY = "reuseAddress";
+
+   /**
+    * The default value for {@code SO_REUSEADDR} ({@value}).
+    */
+   public static final boolean DEFAULT_REUSE_ADDRESS = true;
+
+   /**
+    * The {@code SO_REUSEPORT} property name ({@value}).
+    */
+   public static final String REUSE_PORT_PROPERTY = "reusePort";
+
+   /**
+    * The default value for {@code SO_REUSEPORT} ({@value}).
+    */
+   public static final boolean DEFAULT_REUSE_PORT = false;
+
+   /**
+    * The {@code TCP_NODELAY} property name for accepted connections ({@value}).
+    */
+   public static final String TCP_NO_DELAY_PROPERTY = "tcpNoDelay";
+
+   /**
+    * The default value for {@code TCP_NODELAY} ({@value}).
+    */
+   public static final boolean DEFAULT_TCP_NO_DELAY = true;
+
+   /**
+    * The idle timeout for the insecure connector property name ({@value}).
+    * <p>
+    *    If unspecified, {@code idleTimeout} is used.
+    * </p>
+    */
+   public static final String HTTP_IDLE_TIMEOUT_PROPERTY = "httpIdleTimeout";
+
+   /**
+    * The idle timeout for the secure connector property name ({@value}).
+    * <p>
+    *    If unspecified, {@code idleTimeout} is used.
+    * </p>
+    */
+   public static final String HTTPS_IDLE_TIMEOUT_PROPERTY = "httpsIdleTimeout";
+
+   /**
+    * The maximum number of open connections property name ({@value}).
+    * <p>
+    *    When reached, connectors stop accepting until connections close.
+    * </p>
+    */
+   public static final String MAX_CONNECTIONS_PROPERTY = "maxConnections";
+
+   /**
+    * The default maximum number of open connections ({@value}).
+    * <p>
+    *    If {@code 0}, connections are not limited.
+    * </p>
+    */
+   public static final int DEFAULT_MAX_CONNECTIONS = 0;
+
+   /**
+    * The property name to enable the low resource monitor ({@value}).
+    * <p>
+    *    The server is low on resources when the thread pool is exhausted, or
+    *    when memory use exceeds {@code lowResourcesMaxMemory}, if configured.
+    * </p>
+    */
+   public static final String ENABLE_LOW_RESOURCE_MONITOR_PROPERTY = "enableLowResourceMonitor";
+
+   /**
+    * The maximum memory in bytes before the server is low on resources property name ({@value}).
+    */
+   public static final String LOW_RESOURCES_MAX_MEMORY_PROPERTY = "lowResourcesMaxMemory";
+
+   /**
+    * The idle timeout applied to connections when low on resources property name ({@value}).
+    */
+   public static final String LOW_RESOURCES_IDLE_TIMEOUT_PROPERTY = "lowResourcesIdleTimeout";
+
+   /**
+    * The default idle timeout when low on resources ({@value}).
+    */
+   public static final String DEFAULT_LOW_RESOURCES_IDLE_TIMEOUT = "1s";
+
+   /**
+    * The interval between low resource checks property name ({@value}).
+    */
+   public static final String LOW_RESOURCES_CHECK_INTERVAL_PROPERTY = "lowResourcesCheckInterval";
+
+   /**
+    * The default interval between low resource checks ({@value}).
+    */
+   public static final String DEFAULT_LOW_RESOURCES_CHECK_INTERVAL = "1s";
+
+   /**
+    * The property name to use direct (off-heap) buffers for request and response I/O ({@value}).
+    */
+   public static final String USE_DIRECT_BUFFERS_PROPERTY = "useDirectBuffers";
+
+   /**
+    * The default value for using direct buffers ({@value}).
+    */
+   public static final boolean DEFAULT_USE_DIRECT_BUFFERS = true;
+
+   /**
+    * The maximum capacity of a pooled buffer property name ({@value}).
+    * <p>
+    *    Larger buffers are allocated but never pooled.
+    * </p>
+    */
+   public static final String BUFFER_POOL_MAX_CAPACITY_PROPERTY = "bufferPoolMaxCapacity";
+
+   /**
+    * The default maximum capacity of a pooled buffer ({@value}).
+    * <p>
+    *    If {@code -1}, the Jetty default is used.
+    * </p>
+    */
+   public static final int DEFAULT_BUFFER_POOL_MAX_CAPACITY = -1;
+
+   /**
+    * The maximum number of buffers pooled for each size property name ({@value}).
+    */
+   public static final String BUFFER_POOL_MAX_BUCKET_SIZE_PROPERTY = "bufferPoolMaxBucketSize";
+
+   /**
+    * The default maximum number of buffers pooled for each size ({@value}).
+    * <p>
+    *    This is the Jetty default. Values less than {@code 1} are treated as unbounded, the same as the default.
+    *    Sizes at or below the Jetty optimal size use a single, linearly scanned pool for each bucket.
+    * </p>
+    */
+   public static final int DEFAULT_BUFFER_POOL_MAX_BUCKET_SIZE = Integer.MAX_VALUE;
+
+   /**
+    * The maximum heap memory in bytes retained by the pool property name ({@value}).
+    */
+   public static final String BUFFER_POOL_MAX_HEAP_MEMORY_PROPERTY = "bufferPoolMaxHeapMemory";
+
+   /**
+    * The maximum direct memory in bytes retained by the pool property name ({@value}).
+    */
+   public static final String BUFFER_POOL_MAX_DIRECT_MEMORY_PROPERTY = "bufferPoolMaxDirectMemory";
+
+   /**
+    * The default maximum memory retained by the pool ({@value}).
+    * <p>
+    *    If {@code 0}, a heuristic is used. If {@code -1}, memory is unbounded.
+    * </p>
+    */
+   public static final long DEFAULT_BUFFER_POOL_MAX_MEMORY = 0L;
+
+   /**
+    * The maximum time to wait for in-flight requests to complete on stop property name ({@value}).
+    * <p>
+    *    If unspecified, in-flight requests are not drained on stop.
+    * </p>
+    */
+   public static final String GRACEFUL_STOP_TIMEOUT_PROPERTY = "gracefulStopTimeout";
+
+   /**
+    * The time to report "not ready" while still accepting requests before a graceful stop property name ({@value}).
+    * <p>
+    *    Allows load balancers to notice the health check failure and stop sending new requests.
+    * </p>
+    */
+   public static final String GRACEFUL_STOP_DELAY_PROPERTY = "gracefulStopDelay";
+
+   /**
+    * The maximum concurrent requests across all QoS lanes property name ({@value}).
+    * <p>
+    *    If {@code 0}, only limits configured for lanes ({@code qos.<name>.}) apply.
+    * </p>
+    */
+   public static final String MAX_CONCURRENT_REQUESTS_PROPERTY = "maxConcurrentRequests";
+
+   /**
+    * The admin connector port property name ({@value}).
+    * <p>
+    *    If specified, metrics, health checks and other operational servlets are served
+    *    on this port with a dedicated thread pool, isolated from user traffic.
+    * </p>
+    */
+   public static final String ADMIN_PORT_PROPERTY = "adminPort";
+
+   /**
+    * The admin connector listen IP property name ({@value}).
+    */
+   public static final String ADMIN_LISTEN_IP_PROPERTY = "adminListenIP";
+
+   /**
+    * The default admin connector listen IP ({@value}).
+    */
+   public static final String DEFAULT_ADMIN_LISTEN_IP = "127.0.0.1";
+
+   /**
+    * The maximum admin threads property name ({@value}).
+    */
+   public static final String ADMIN_MAX_THREADS_PROPERTY = "adminMaxThreads";
+
+   /**
+    * The default maximum admin threads ({@value}).
+    */
+   public static final int DEFAULT_ADMIN_MAX_THREADS = 8;
+
+   /**
+    * The interval between checks for changed configuration files property name ({@value}).
+    * <p>
+    *    If unspecified, files are not checked and configuration is reloaded only on request.
+    * </p>
+    */
+   public static final String CONFIG_CHECK_INTERVAL_PROPERTY = "configCheckInterval";
+
    /**
     * The IP this server is listening on.
     */
@@ -493,6 +1060,201 @@ public class ServerConfiguration {
     */
    final ErrorHandler customErrorHandler;
 
+   /**
+    * The thread pool mode.
+    */
+   public final ThreadPoolMode threadPoolMode;
+
+   /**
+    * The minimum number of pooled threads.
+    */
+   public final int minThreads;
+
+   /**
+    * The maximum number of pooled threads.
+    */
+   public final int maxThreads;
+
+   /**
+    * The maximum number of concurrent virtual threads for {@code all_virtual}, or {@code 0} for unbounded.
+    */
+   public final int maxVirtualThreads;
+
+   /**
+    * The number of reserved threads, or {@code -1} for heuristic.
+    */
+   public final int reservedThreads;
+
+   /**
+    * The time in milliseconds before an idle pooled thread is stopped.
+    */
+   public final long threadIdleTimeout;
+
+   /**
+    * Is HTTP/2 over TLS enabled?
+    */
+   public final boolean enableHTTP2;
+
+   /**
+    * Is cleartext HTTP/2 enabled?
+    */
+   public final boolean enableH2C;
+
+   /**
+    * The maximum concurrent streams per HTTP/2 connection.
+    */
+   public final int http2MaxConcurrentStreams;
+
+   /**
+    * The initial HTTP/2 stream receive window in bytes.
+    */
+   public final int http2InitialStreamRecvWindow;
+
+   /**
+    * The initial HTTP/2 session receive window in bytes.
+    */
+   public final int http2InitialSessionRecvWindow;
+
+   /**
+    * The maximum HPACK header table size in bytes.
+    */
+   public final int http2MaxHeaderTableSize;
+
+   /**
+    * The path to a Unix domain socket, or empty if none.
+    */
+   public final String unixSocketPath;
+
+   /**
+    * Are requests accepted only on the Unix domain socket?
+    */
+   public final boolean unixSocketOnly;
+
+   /**
+    * The number of acceptor threads per connector, or {@code -1} for default.
+    */
+   public final int acceptors;
+
+   /**
+    * The number of selectors per connector, or {@code -1} for default.
+    */
+   public final int selectors;
+
+   /**
+    * The accept queue size, or {@code 0} for the system default.
+    */
+   public final int acceptQueueSize;
+
+   /**
+    * Is {@code SO_REUSEADDR} set for listening sockets?
+    */
+   public final boolean reuseAddress;
+
+   /**
+    * Is {@code SO_REUSEPORT} set for listening sockets?
+    */
+   public final boolean reusePort;
+
+   /**
+    * Is {@code TCP_NODELAY} set for accepted connections?
+    */
+   public final boolean tcpNoDelay;
+
+   /**
+    * The maximum idle time in milliseconds for insecure connections.
+    */
+   public final long httpIdleTimeout;
+
+   /**
+    * The maximum idle time in milliseconds for secure connections.
+    */
+   public final long httpsIdleTimeout;
+
+   /**
+    * The maximum number of open connections, or {@code 0} for no limit.
+    */
+   public final int maxConnections;
+
+   /**
+    * Is the low resource monitor enabled?
+    */
+   public final boolean enableLowResourceMonitor;
+
+   /**
+    * The maximum memory in bytes before the server is low on resources, or {@code 0} to ignore memory.
+    */
+   public final long lowResourcesMaxMemory;
+
+   /**
+    * The idle timeout in milliseconds applied to connections when low on resources.
+    */
+   public final long lowResourcesIdleTimeout;
+
+   /**
+    * The interval in milliseconds between low resource checks.
+    */
+   public final long lowResourcesCheckInterval;
+
+   /**
+    * Are direct buffers used for request and response I/O?
+    */
+   public final boolean useDirectBuffers;
+
+   /**
+    * The maximum capacity of a pooled buffer, or {@code -1} for default.
+    */
+   public final int bufferPoolMaxCapacity;
+
+   /**
+    * The maximum number of buffers pooled for each size.
+    */
+   public final int bufferPoolMaxBucketSize;
+
+   /**
+    * The maximum heap memory retained by the pool.
+    */
+   public final long bufferPoolMaxHeapMemory;
+
+   /**
+    * The maximum direct memory retained by the pool.
+    */
+   public final long bufferPoolMaxDirectMemory;
+
+   /**
+    * The maximum time in milliseconds to wait for in-flight requests on stop, or {@code 0} for no drain.
+    */
+   public final long gracefulStopTimeout;
+
+   /**
+    * The time in milliseconds to report "not ready" before a graceful stop.
+    */
+   public final long gracefulStopDelay;
+
+   /**
+    * The maximum concurrent requests across all QoS lanes, or {@code 0} for no server-wide limit.
+    */
+   public final int maxConcurrentRequests;
+
+   /**
+    * The admin connector port, or {@code 0} if operational servlets share the main connectors.
+    */
+   public final int adminPort;
+
+   /**
+    * The IP the admin connector listens on.
+    */
+   public final String adminListenIP;
+
+   /**
+    * The maximum threads for the admin connector.
+    */
+   public final int adminMaxThreads;
+
+   /**
+    * The interval between checks for changed configuration files in milliseconds. If {@code 0}, files are not checked.
+    */
+   public final long configCheckIntervalMillis;
+
    /**
     * Returns formatted documentation of all server configuration properties.
     * @return The property documentation string.
@@ -522,6 +1284,73 @@ public class ServerConfiguration {
       sb.append(String.format("  %-40s Connection security: none|both|secure_only|redirect (default: %s)%n", CONNECTION_SECURITY_PROPERTY, DEFAULT_CONNECTION_SECURITY));
       sb.append(String.format("  %-40s Enable X-Forwarded-For support (default: false)%n", ENABLE_FORWARDED_REQUEST_CUSTOMIZER_PROPERTY));
       sb.append(String.format("  %-40s Suppress stack traces in error responses (default: false)%n", SUPPRESS_STACK_TRACE_PROPERTY));
+      sb.append(String.format("  %-40s Path to a Unix domain socket to accept requests from a local proxy%n", UNIX_SOCKET_PATH_PROPERTY));
+      sb.append(String.format("  %-40s Accept requests only on the Unix domain socket (default: false)%n", UNIX_SOCKET_ONLY_PROPERTY));
+      sb.append("\n");
+
+      sb.append("Connector Properties (prefix: server.)\n");
+      sb.append("--------------------------------------\n");
+      sb.append(String.format("  %-40s Acceptor threads per connector, -1 for default (default: %d)%n", ACCEPTORS_PROPERTY, DEFAULT_ACCEPTORS));
+      sb.append(String.format("  %-40s Selectors per connector, -1 for default (default: %d)%n", SELECTORS_PROPERTY, DEFAULT_SELECTORS));
+      sb.append(String.format("  %-40s Accept queue (backlog) size, 0 for OS default (default: %d)%n", ACCEPT_QUEUE_SIZE_PROPERTY, DEFAULT_ACCEPT_QUEUE_SIZE));
+      sb.append(String.format("  %-40s Set SO_REUSEADDR (default: %s)%n", REUSE_ADDRESS_PROPERTY, DEFAULT_REUSE_ADDRESS));
+      sb.append(String.format("  %-40s Set SO_REUSEPORT (default: %s)%n", REUSE_PORT_PROPERTY, DEFAULT_REUSE_PORT));
+      sb.append(String.format("  %-40s Set TCP_NODELAY on accepted connections (default: %s)%n", TCP_NO_DELAY_PROPERTY, DEFAULT_TCP_NO_DELAY));
+      sb.append(String.format("  %-40s Idle timeout for HTTP connections (default: idleTimeout)%n", HTTP_IDLE_TIMEOUT_PROPERTY));
+      sb.append(String.format("  %-40s Idle timeout for HTTPS connections (default: idleTimeout)%n", HTTPS_IDLE_TIMEOUT_PROPERTY));
+      sb.append("\n");
+
+      sb.append("Overload Properties (prefix: server.)\n");
+      sb.append("-------------------------------------\n");
+      sb.append(String.format("  %-40s Max open connections, 0 for no limit (default: %d)%n", MAX_CONNECTIONS_PROPERTY, DEFAULT_MAX_CONNECTIONS));
+      sb.append(String.format("  %-40s Enable the low resource monitor (default: false)%n", ENABLE_LOW_RESOURCE_MONITOR_PROPERTY));
+      sb.append(String.format("  %-40s Max memory in bytes before low on resources (default: 0, ignored)%n", LOW_RESOURCES_MAX_MEMORY_PROPERTY));
+      sb.append(String.format("  %-40s Connection idle timeout when low on resources (default: %s)%n", LOW_RESOURCES_IDLE_TIMEOUT_PROPERTY, DEFAULT_LOW_RESOURCES_IDLE_TIMEOUT));
+      sb.append(String.format("  %-40s Interval between low resource checks (default: %s)%n", LOW_RESOURCES_CHECK_INTERVAL_PROPERTY, DEFAULT_LOW_RESOURCES_CHECK_INTERVAL));
+      sb.append(String.format("  %-40s Max concurrent requests across QoS lanes, 0 for no limit (default: 0)%n", MAX_CONCURRENT_REQUESTS_PROPERTY));
+      sb.append("\n");
+
+      sb.append("Admin Properties (prefix: server.)\n");
+      sb.append("----------------------------------\n");
+      sb.append(String.format("  %-40s Port for metrics and health endpoints, 0 to share main ports (default: 0)%n", ADMIN_PORT_PROPERTY));
+      sb.append(String.format("  %-40s Admin listen IP address (default: %s)%n", ADMIN_LISTEN_IP_PROPERTY, DEFAULT_ADMIN_LISTEN_IP));
+      sb.append(String.format("  %-40s Maximum admin threads (default: %d)%n", ADMIN_MAX_THREADS_PROPERTY, DEFAULT_ADMIN_MAX_THREADS));
+      sb.append(String.format("  %-40s Interval to check configuration files for changes (e.g. 10s)%n", CONFIG_CHECK_INTERVAL_PROPERTY));
+      sb.append("\n");
+
+      sb.append("Buffer Pool Properties (prefix: server.)\n");
+      sb.append("----------------------------------------\n");
+      sb.append(String.format("  %-40s Use direct buffers for I/O (default: %s)%n", USE_DIRECT_BUFFERS_PROPERTY, DEFAULT_USE_DIRECT_BUFFERS));
+      sb.append(String.format("  %-40s Max pooled buffer capacity, -1 for default (default: %d)%n", BUFFER_POOL_MAX_CAPACITY_PROPERTY, DEFAULT_BUFFER_POOL_MAX_CAPACITY));
+      sb.append(String.format("  %-40s Max pooled buffers per size (default: unbounded)%n", BUFFER_POOL_MAX_BUCKET_SIZE_PROPERTY));
+      sb.append(String.format("  %-40s Max retained heap bytes, 0 heuristic, -1 unbounded (default: %d)%n", BUFFER_POOL_MAX_HEAP_MEMORY_PROPERTY, DEFAULT_BUFFER_POOL_MAX_MEMORY));
+      sb.append(String.format("  %-40s Max retained direct bytes, 0 heuristic, -1 unbounded (default: %d)%n", BUFFER_POOL_MAX_DIRECT_MEMORY_PROPERTY, DEFAULT_BUFFER_POOL_MAX_MEMORY));
+      sb.append("\n");
+
+      sb.append("Graceful Stop Properties (prefix: server.)\n");
+      sb.append("------------------------------------------\n");
+      sb.append(String.format("  %-40s Max time to drain in-flight requests on stop (e.g. 30s)%n", GRACEFUL_STOP_TIMEOUT_PROPERTY));
+      sb.append(String.format("  %-40s Time to report not-ready before draining (e.g. 5s)%n", GRACEFUL_STOP_DELAY_PROPERTY));
+      sb.append("\n");
+
+      sb.append("Thread Pool Properties (prefix: server.)\n");
+      sb.append("----------------------------------------\n");
+      sb.append(String.format("  %-40s Thread pool: platform|virtual|all_virtual (default: %s)%n", THREAD_POOL_PROPERTY, DEFAULT_THREAD_POOL));
+      sb.append(String.format("  %-40s Minimum pooled threads (default: %d)%n", MIN_THREADS_PROPERTY, DEFAULT_MIN_THREADS));
+      sb.append(String.format("  %-40s Maximum pooled threads (default: %d)%n", MAX_THREADS_PROPERTY, DEFAULT_MAX_THREADS));
+      sb.append(String.format("  %-40s Maximum concurrent virtual threads for all_virtual, 0 for unbounded (default: %d)%n", MAX_VIRTUAL_THREADS_PROPERTY, DEFAULT_MAX_VIRTUAL_THREADS));
+      sb.append(String.format("  %-40s Reserved threads, -1 for heuristic (default: %d)%n", RESERVED_THREADS_PROPERTY, DEFAULT_RESERVED_THREADS));
+      sb.append(String.format("  %-40s Idle timeout for pooled threads (default: %s)%n", THREAD_IDLE_TIMEOUT_PROPERTY, DEFAULT_THREAD_IDLE_TIMEOUT));
+      sb.append("\n");
+
+      sb.append("HTTP/2 Properties (prefix: server.)\n");
+      sb.append("-----------------------------------\n");
+      sb.append(String.format("  %-40s Enable HTTP/2 over TLS with ALPN (default: false)%n", ENABLE_HTTP2_PROPERTY));
+      sb.append(String.format("  %-40s Enable cleartext HTTP/2 (h2c) (default: false)%n", ENABLE_H2C_PROPERTY));
+      sb.append(String.format("  %-40s Max concurrent streams per connection (default: %d)%n", HTTP2_MAX_CONCURRENT_STREAMS_PROPERTY, DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS));
+      sb.append(String.format("  %-40s Initial stream receive window in bytes (default: %d)%n", HTTP2_INITIAL_STREAM_RECV_WINDOW_PROPERTY, DEFAULT_HTTP2_INITIAL_STREAM_RECV_WINDOW));
+      sb.append(String.format("  %-40s Initial session receive window in bytes (default: %d)%n", HTTP2_INITIAL_SESSION_RECV_WINDOW_PROPERTY, DEFAULT_HTTP2_INITIAL_SESSION_RECV_WINDOW));
+      sb.append(String.format("  %-40s Max HPACK header table size in bytes (default: %d)%n", HTTP2_MAX_HEADER_TABLE_SIZE_PROPERTY, DEFAULT_HTTP2_MAX_HEADER_TABLE_SIZE));
       sb.append("\n");
 
       sb.append("SSL/TLS Properties (prefix: server.)\n");
@@ -543,6 +1372,18 @@ public class ServerConfiguration {
       sb.append(String.format("  %-40s Days to retain log files (default: 180)%n", "requestLogRetainDays"));
       sb.append(String.format("  %-40s Use extended NCSA format (default: true)%n", "requestLogExtended"));
       sb.append(String.format("  %-40s Time zone for log timestamps%n", "requestLogTimeZone"));
+      sb.append(String.format("  %-40s Entry format: 'ncsa' or 'json' with timing breakdown (default: ncsa)%n", "requestLogFormat"));
+      sb.append(String.format("  %-40s Request id header for JSON entries (default: X-Request-Id)%n", "requestLogRequestIdHeader"));
+      sb.append(String.format("  %-40s Comma-separated paths not logged unless error or slow%n", "requestLogExclude"));
+      sb.append(String.format("  %-40s Fraction of other requests logged (default: 1.0)%n", "requestLogSampleRate"));
+      sb.append(String.format("  %-40s Comma-separated paths for a sample rule%n", "requestLogSample.<name>.paths"));
+      sb.append(String.format("  %-40s Fraction of matching requests logged (default: 1.0)%n", "requestLogSample.<name>.rate"));
+      sb.append(String.format("  %-40s Always log status at or above (default: 500)%n", "requestLogErrorStatus"));
+      sb.append(String.format("  %-40s Always log requests slower than this (default: 1s)%n", "requestLogSlow"));
+      sb.append(String.format("  %-40s Queue entries and write files on a single thread (default: false)%n", "requestLogAsync"));
+      sb.append(String.format("  %-40s Async queue size (default: 8192)%n", "requestLogQueueSize"));
+      sb.append(String.format("  %-40s Async overflow policy: drop|block (default: drop)%n", "requestLogOverflow"));
+      sb.append(String.format("  %-40s Gzip rotated async log files (default: true)%n", "requestLogCompress"));
       sb.append("\n");
 
       sb.append("Logging Properties\n");
@@ -571,6 +1412,57 @@ public class ServerConfiguration {
       sb.append(String.format("  %-40s Enable gzip (default: true)%n", "gzip"));
       sb.append(String.format("  %-40s Enable weak ETags (default: false)%n", "etags"));
       sb.append(String.format("  %-40s Cache-Control header value%n", "cacheControl"));
+      sb.append(String.format("  %-40s Max bytes cached in memory, 0 to disable (default: 0)%n", StaticAssetsConfig.CACHE_MAX_BYTES_PROPERTY));
+      sb.append(String.format("  %-40s Max cached files (default: %d)%n", StaticAssetsConfig.CACHE_MAX_ENTRIES_PROPERTY, StaticAssetsConfig.DEFAULT_CACHE_MAX_ENTRIES));
+      sb.append(String.format("  %-40s Max size of a cached file (default: %d)%n", StaticAssetsConfig.CACHE_MAX_FILE_SIZE_PROPERTY, StaticAssetsConfig.DEFAULT_CACHE_MAX_FILE_SIZE));
+      sb.append(String.format("  %-40s Min time between change checks, 0 for never (default: %s)%n", StaticAssetsConfig.CACHE_CHECK_INTERVAL_PROPERTY, StaticAssetsConfig.DEFAULT_CACHE_CHECK_INTERVAL));
+      sb.append(String.format("  %-40s Watch the directory for changes (default: false)%n", StaticAssetsConfig.WATCH_PROPERTY));
+      sb.append(String.format("  %-40s Wait for further changes (default: %s)%n", StaticAssetsConfig.WATCH_DEBOUNCE_PROPERTY, StaticAssetsConfig.DEFAULT_WATCH_DEBOUNCE));
+      sb.append(String.format("  %-40s Min size of a memory-mapped file, 0 to disable (default: 0)%n", StaticAssetsConfig.LARGE_FILE_SIZE_PROPERTY));
+      sb.append(String.format("  %-40s Directory for gzip variants created in the background%n", StaticAssetsConfig.PRECOMPRESS_DIRECTORY_PROPERTY));
+      sb.append(String.format("  %-40s Min size of a precompressed file (default: %d)%n", StaticAssetsConfig.PRECOMPRESS_MIN_SIZE_PROPERTY, StaticAssetsConfig.DEFAULT_PRECOMPRESS_MIN_SIZE));
+      sb.append(String.format("  %-40s Serve files at content-hashed paths (default: false)%n", StaticAssetsConfig.FINGERPRINT_PROPERTY));
+      sb.append(String.format("  %-40s Cache-Control for hashed paths (default: %s)%n", StaticAssetsConfig.FINGERPRINT_CACHE_CONTROL_PROPERTY, FingerprintFilter.DEFAULT_CACHE_CONTROL));
+      sb.append("\n");
+
+      sb.append("QoS Lane Properties (prefix: qos.<name>.)\n");
+      sb.append("------------------------------------------\n");
+      sb.append("  A lane named 'default' configures requests that match no other lane.\n");
+      sb.append(String.format("  %-40s Comma-separated list of URL paths (required)%n", "paths"));
+      sb.append(String.format("  %-40s Max concurrent requests, 0 for server limit only (default: 0)%n", "maxConcurrent"));
+      sb.append(String.format("  %-40s Max requests waiting for a permit (default: %d)%n", "maxQueued", QoSLane.DEFAULT_MAX_QUEUED));
+      sb.append(String.format("  %-40s Max wait before rejection with 503 (default: %s)%n", "maxSuspend", QoSLane.DEFAULT_MAX_SUSPEND));
+      sb.append(String.format("  %-40s Priority, higher resumed first (default: 0)%n", "priority"));
+      sb.append(String.format("  %-40s Retry-After sent with rejections (default: %s)%n", "retryAfter", QoSLane.DEFAULT_RETRY_AFTER));
+      sb.append("\n");
+
+      sb.append("Rate Limit Properties (prefix: ratelimit.<name>.)\n");
+      sb.append("--------------------------------------------------\n");
+      sb.append(String.format("  %-40s Comma-separated list of URL paths (required)%n", RateLimit.PATHS_PROPERTY));
+      sb.append(String.format("  %-40s Sustained requests per second for each key (required)%n", RateLimit.RATE_PROPERTY));
+      sb.append(String.format("  %-40s Max requests at once for each key (default: rate)%n", RateLimit.BURST_PROPERTY));
+      sb.append(String.format("  %-40s Key: ip|user|header (default: ip)%n", RateLimit.KEY_PROPERTY));
+      sb.append(String.format("  %-40s Header name when key is 'header'%n", RateLimit.HEADER_PROPERTY));
+      sb.append(String.format("  %-40s Max keys tracked (default: %d)%n", RateLimit.MAX_KEYS_PROPERTY, RateLimit.DEFAULT_MAX_KEYS));
+      sb.append("\n");
+
+      sb.append("Heavy Hitter Properties (prefix: heavyHitters.)\n");
+      sb.append("-----------------------------------------------\n");
+      sb.append(String.format("  %-40s Track top clients and paths (default: false)%n", HeavyHittersFilter.ENABLED_PROPERTY));
+      sb.append(String.format("  %-40s Dimensions: ip,user,path (default: %s)%n", HeavyHittersFilter.DIMENSIONS_PROPERTY, HeavyHittersFilter.DEFAULT_DIMENSIONS));
+      sb.append(String.format("  %-40s Top keys tracked per dimension (default: %d)%n", HeavyHittersFilter.TOP_K_PROPERTY, HeavyHittersFilter.DEFAULT_TOP_K));
+      sb.append(String.format("  %-40s Time between halving all counts (default: %s)%n", HeavyHittersFilter.WINDOW_PROPERTY, HeavyHittersFilter.DEFAULT_WINDOW));
+      sb.append(String.format("  %-40s Count-min sketch width (default: %d)%n", HeavyHittersFilter.SKETCH_WIDTH_PROPERTY, HeavyHittersFilter.DEFAULT_SKETCH_WIDTH));
+      sb.append(String.format("  %-40s Count-min sketch depth (default: %d)%n", HeavyHittersFilter.SKETCH_DEPTH_PROPERTY, HeavyHittersFilter.DEFAULT_SKETCH_DEPTH));
+      sb.append("\n");
+
+      sb.append("Warm-Up Properties (prefix: warmup.)\n");
+      sb.append("------------------------------------\n");
+      sb.append(String.format("  %-40s Comma-separated requests sent before connectors open, e.g. /status,POST /api/x%n", WarmUp.REQUESTS_PROPERTY));
+      sb.append(String.format("  %-40s A header added to every warm-up request%n", WarmUp.HEADER_PREFIX + "<name>"));
+      sb.append(String.format("  %-40s Times the set of requests is sent (default: %d)%n", WarmUp.ITERATIONS_PROPERTY, WarmUp.DEFAULT_ITERATIONS));
+      sb.append(String.format("  %-40s Threads sending requests (default: %d)%n", WarmUp.THREADS_PROPERTY, WarmUp.DEFAULT_THREADS));
+      sb.append(String.format("  %-40s Maximum warm-up time (default: %s)%n", WarmUp.MAX_TIME_PROPERTY, WarmUp.DEFAULT_MAX_TIME));
 
       return sb.toString();
    }
@@ -599,6 +1491,45 @@ public class ServerConfiguration {
               .add("trustStoreResource", trustStoreResource)
               .add("trustStorePasswordWasSpecified", trustStorePasswordWasSpecified)
               .add("enableForwardedRequestCustomizer", enableForwardedRequestCustomizer)
+              .add("threadPoolMode", threadPoolMode)
+              .add("minThreads", minThreads)
+              .add("maxThreads", maxThreads)
+              .add("maxVirtualThreads", maxVirtualThreads)
+              .add("reservedThreads", reservedThreads)
+              .add("threadIdleTimeout", threadIdleTimeout)
+              .add("enableHTTP2", enableHTTP2)
+              .add("enableH2C", enableH2C)
+              .add("http2MaxConcurrentStreams", http2MaxConcurrentStreams)
+              .add("http2InitialStreamRecvWindow", http2InitialStreamRecvWindow)
+              .add("http2InitialSessionRecvWindow", http2InitialSessionRecvWindow)
+              .add("http2MaxHeaderTableSize", http2MaxHeaderTableSize)
+              .add("unixSocketPath", unixSocketPath)
+              .add("unixSocketOnly", unixSocketOnly)
+              .add("acceptors", acceptors)
+              .add("selectors", selectors)
+              .add("acceptQueueSize", acceptQueueSize)
+              .add("reuseAddress", reuseAddress)
+              .add("reusePort", reusePort)
+              .add("tcpNoDelay", tcpNoDelay)
+              .add("httpIdleTimeout", httpIdleTimeout)
+              .add("httpsIdleTimeout", httpsIdleTimeout)
+              .add("maxConnections", maxConnections)
+              .add("enableLowResourceMonitor", enableLowResourceMonitor)
+              .add("lowResourcesMaxMemory", lowResourcesMaxMemory)
+              .add("lowResourcesIdleTimeout", lowResourcesIdleTimeout)
+              .add("lowResourcesCheckInterval", lowResourcesCheckInterval)
+              .add("useDirectBuffers", useDirectBuffers)
+              .add("bufferPoolMaxCapacity", bufferPoolMaxCapacity)
+              .add("bufferPoolMaxBucketSize", bufferPoolMaxBucketSize)
+              .add("bufferPoolMaxHeapMemory", bufferPoolMaxHeapMemory)
+              .add("bufferPoolMaxDirectMemory", bufferPoolMaxDirectMemory)
+              .add("gracefulStopTimeout", gracefulStopTimeout)
+              .add("gracefulStopDelay", gracefulStopDelay)
+              .add("maxConcurrentRequests", maxConcurrentRequests)
+              .add("adminPort", adminPort)
+              .add("adminListenIP", adminListenIP)
+              .add("adminMaxThreads", adminMaxThreads)
+              .add("configCheckIntervalMillis", configCheckIntervalMillis)
               .toString();
    }
 
@@ -607,9 +1538,11 @@ public class ServerConfiguration {
     * @return The server.
     */
    public org.eclipse.jetty.server.Server buildServer() {
-      org.eclipse.jetty.server.Server httpServer = new org.eclipse.jetty.server.Server();
+      org.eclipse.jetty.server.Server httpServer = new org.eclipse.jetty.server.Server(buildThreadPool(), null, buildByteBufferPool());
       HttpConfiguration httpConfig = new HttpConfiguration();
       httpConfig.setOutputBufferSize(outputBufferSize);
+      httpConfig.setUseInputDirectByteBuffers(useDirectBuffers);
+      httpConfig.setUseOutputDirectByteBuffers(useDirectBuffers);
       httpConfig.setRequestHeaderSize(requestHeaderSize);
       httpConfig.setResponseHeaderSize(responseHeaderSize);
       httpConfig.setSendServerVersion(sendServerVersion);
@@ -618,10 +1551,15 @@ public class ServerConfiguration {
          httpConfig.addCustomizer(new ForwardedRequestCustomizer());
       }
 
-      ServerConnector httpConnector = new ServerConnector(httpServer, new HttpConnectionFactory(httpConfig));
+      final ServerConnector httpConnector;
+      if(enableH2C) {
+         httpConnector = serverConnector(httpServer, httpIdleTimeout, new HttpConnectionFactory(httpConfig),
+                 configureHTTP2(new HTTP2CServerConnectionFactory(httpConfig)));
+      } else {
+         httpConnector = serverConnector(httpServer, httpIdleTimeout, new HttpConnectionFactory(httpConfig));
+      }
       httpConnector.setHost(listenIP);
       httpConnector.setPort(httpPort);
-      httpConnector.setIdleTimeout(idleTimeout);
 
       if(sslContextFactory.isPresent()) {
          httpConfig.setSecureScheme("https");
@@ -633,22 +1571,176 @@ public class ServerConfiguration {
          }
 
 
-         ServerConnector httpsConnector = new ServerConnector(httpServer,
-                 new SslConnectionFactory(sslContextFactory.get(), HttpVersion.HTTP_1_1.asString()),
-                 new HttpConnectionFactory(httpsConfig));
+         ServerConnector httpsConnector = serverConnector(httpServer, httpsIdleTimeout, secureConnectionFactories(httpsConfig));
          httpsConnector.setPort(httpsPort);
-         switch(connectionSecurity) {
-            case BOTH:
-            case REDIRECT:
-               httpServer.setConnectors(new Connector[] {httpConnector, httpsConnector});
-               break;
-            default:
-               httpServer.addConnector(httpsConnector);
-               break;
+         if(!unixSocketOnly) {
+            switch(connectionSecurity) {
+               case BOTH:
+               case REDIRECT:
+                  httpServer.setConnectors(new Connector[] {httpConnector, httpsConnector});
+                  break;
+               default:
+                  httpServer.addConnector(httpsConnector);
+                  break;
+            }
          }
-      } else {
+      } else if(!unixSocketOnly) {
          httpServer.addConnector(httpConnector);
       }
+
+      if(!unixSocketPath.isEmpty()) {
+         HttpConfiguration unixSocketConfig = new HttpConfiguration(httpConfig);
+         if(!enableForwardedRequestCustomizer) {
+            unixSocketConfig.addCustomizer(new ForwardedRequestCustomizer());
+         }
+         final UnixDomainServerConnector unixSocketConnector;
+         if(enableH2C) {
+            unixSocketConnector = new UnixDomainServerConnector(httpServer, acceptors, selectors,
+                    new HttpConnectionFactory(unixSocketConfig),
+                    configureHTTP2(new HTTP2CServerConnectionFactory(unixSocketConfig)));
+         } else {
+            unixSocketConnector = new UnixDomainServerConnector(httpServer, acceptors, selectors,
+                    new HttpConnectionFactory(unixSocketConfig));
+         }
+         unixSocketConnector.setUnixDomainPath(Path.of(unixSocketPath));
+         unixSocketConnector.setIdleTimeout(idleTimeout);
+         unixSocketConnector.setAcceptQueueSize(acceptQueueSize);
+         httpServer.addConnector(unixSocketConnector);
+      }
+
+      if(gracefulStopTimeout > 0L) {
+         httpServer.setStopTimeout(gracefulStopTimeout);
+      }
+
+      if(maxConnections > 0) {
+         httpServer.addBean(new ConnectionLimit(maxConnections, httpServer));
+      }
+
+      if(enableLowResourceMonitor) {
+         ConnectionMetrics.MeteredLowResourceMonitor lowResourceMonitor = new ConnectionMetrics.MeteredLowResourceMonitor(httpServer);
+         lowResourceMonitor.setMonitorThreads(true);
+         lowResourceMonitor.setMaxMemory(lowResourcesMaxMemory);
+         lowResourceMonitor.setLowResourcesIdleTimeout((int)lowResourcesIdleTimeout);
+         lowResourceMonitor.setPeriod((int)lowResourcesCheckInterval);
+         httpServer.addBean(lowResourceMonitor);
+      }
       return httpServer;
    }
+
+   /**
+    * Builds a separate server for the admin connector with its own small thread pool.
+    * <p>
+    *    Requests to the admin server are never queued behind user traffic, so operational
+    *    endpoints stay responsive when the main server is saturated.
+    * </p>
+    * @return The admin server or {@code null} if no admin port is configured.
+    */
+   public org.eclipse.jetty.server.Server buildAdminServer() {
+      if(adminPort < 1) {
+         return null;
+      }
+
+      QueuedThreadPool threadPool = new QueuedThreadPool(adminMaxThreads, 2, (int)threadIdleTimeout, 0, null, null);
+      threadPool.setName("admin");
+      org.eclipse.jetty.server.Server adminServer = new org.eclipse.jetty.server.Server(threadPool);
+      HttpConfiguration httpConfig = new HttpConfiguration();
+      httpConfig.setSendServerVersion(sendServerVersion);
+      httpConfig.setSendDateHeader(sendDateHeader);
+      ServerConnector adminConnector = new ServerConnector(adminServer, 1, 1, new HttpConnectionFactory(httpConfig));
+      adminConnector.setName("admin");
+      adminConnector.setHost(adminListenIP);
+      adminConnector.setPort(adminPort);
+      adminConnector.setIdleTimeout(idleTimeout);
+      adminConnector.setReuseAddress(reuseAddress);
+      adminServer.addConnector(adminConnector);
+      return adminServer;
+   }
+
+   /**
+    * Builds the buffer pool shared by all connectors.
+    * @return The buffer pool.
+    */
+   public ByteBufferPool buildByteBufferPool() {
+      return new ArrayByteBufferPool(0, -1, bufferPoolMaxCapacity, bufferPoolMaxBucketSize,
+              bufferPoolMaxHeapMemory, bufferPoolMaxDirectMemory);
+   }
+
+   /**
+    * Builds the thread pool for the configured mode.
+    * @return The thread pool.
+    */
+   public ThreadPool buildThreadPool() {
+      if(threadPoolMode == ThreadPoolMode.ALL_VIRTUAL) {
+         VirtualThreadPool threadPool = new VirtualThreadPool(maxVirtualThreads);
+         threadPool.setName("server");
+         return threadPool;
+      }
+
+      QueuedThreadPool threadPool = new QueuedThreadPool(maxThreads, minThreads, (int)threadIdleTimeout, reservedThreads, null, null);
+      threadPool.setName("server");
+      if(threadPoolMode == ThreadPoolMode.VIRTUAL) {
+         threadPool.setVirtualThreadsExecutor(VirtualThreads.getDefaultVirtualThreadsExecutor());
+      }
+      return threadPool;
+   }
+
+   /**
+    * Creates a TCP connector with the configured acceptors, selectors and socket options.
+    * @param httpServer The server.
+    * @param idleTimeout The idle timeout in milliseconds.
+    * @param factories The connection factories.
+    * @return The connector.
+    */
+   private ServerConnector serverConnector(final org.eclipse.jetty.server.Server httpServer,
+                                           final long idleTimeout,
+                                           final ConnectionFactory... factories) {
+      ServerConnector connector = new ServerConnector(httpServer, acceptors, selectors, factories);
+      connector.setIdleTimeout(idleTimeout);
+      connector.setAcceptQueueSize(acceptQueueSize);
+      connector.setReuseAddress(reuseAddress);
+      connector.setReusePort(reusePort);
+      connector.setAcceptedTcpNoDelay(tcpNoDelay);
+      return connector;
+   }
+
+   /**
+    * Creates the connection factories for the secure connector.
+    * <p>
+    *    If HTTP/2 is enabled, the protocol is negotiated with ALPN, falling back to HTTP/1.1.
+    * </p>
+    * @param httpsConfig The secure HTTP configuration.
+    * @return The connection factories.
+    */
+   private ConnectionFactory[] secureConnectionFactories(final HttpConfiguration httpsConfig) {
+      HttpConnectionFactory http11 = new HttpConnectionFactory(httpsConfig);
+      if(!enableHTTP2) {
+         return new ConnectionFactory[] {
+                 new SslConnectionFactory(sslContextFactory.get(), HttpVersion.HTTP_1_1.asString()),
+                 http11
+         };
+      }
+
+      HTTP2ServerConnectionFactory h2 = configureHTTP2(new HTTP2ServerConnectionFactory(httpsConfig));
+      ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory();
+      alpn.setDefaultProtocol(http11.getProtocol());
+      return new ConnectionFactory[] {
+              new SslConnectionFactory(sslContextFactory.get(), alpn.getProtocol()),
+              alpn, h2, http11
+      };
+   }
+
+   /**
+    * Applies the configured HTTP/2 tuning to a connection factory.
+    * @param factory The factory.
+    * @param <T> The factory type.
+    * @return The input factory.
+    */
+   private <T extends AbstractHTTP2ServerConnectionFactory> T configureHTTP2(final T factory) {
+      factory.setMaxConcurrentStreams(http2MaxConcurrentStreams);
+      factory.setInitialStreamRecvWindow(http2InitialStreamRecvWindow);
+      factory.setInitialSessionRecvWindow(http2InitialSessionRecvWindow);
+      factory.setMaxDecoderTableCapacity(http2MaxHeaderTableSize);
+      factory.setMaxEncoderTableCapacity(http2MaxHeaderTableSize);
+      return factory;
+   }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the time taken by each phase of server startup.
+ * <p>
+ *    Each phase ends when it is marked and the next phase begins.
+ * </p>
+ */
+public class StartupTimer {
+
+   /**
+    * Creates a timer that starts now.
+    */
+   public StartupTimer() {
+      this(System.nanoTime());
+   }
+
+   /**
+    * Creates a timer that starts at a specified time.
+    * @param startNanos The start time.
+    */
+   StartupTimer(final long startNanos) {
+      this.startNanos = startNanos;
+      this.lastNanos = startNanos;
+   }
+
+   /**
+    * Ends a phase.
+    * @param phase The phase name. If the phase was marked before, the times are added.
+    */
+   public void mark(final String phase) {
+      mark(phase, System.nanoTime());
+   }
+
+   /**
+    * Ends a phase at a specified time.
+    * @param phase The phase name.
+    * @param nowNanos The time.
+    */
+   synchronized void mark(final String phase, final long nowNanos) {
+      phaseNanos.merge(phase, nowNanos - lastNanos, Long::sum);
+      lastNanos = nowNanos;
+   }
+
+   /**
+    * Gets the time taken by each phase, in the order first marked.
+    * @return The time in milliseconds vs phase name.
+    */
+   public synchronized ImmutableMap<String, Long> phaseMillis() {
+      ImmutableMap.Builder<String, Long> phaseMillis = ImmutableMap.builder();
+      phaseNanos.forEach((phase, nanos) -> phaseMillis.put(phase, TimeUnit.NANOSECONDS.toMillis(nanos)));
+      return phaseMillis.build();
+   }
+
+   /**
+    * Gets the time from start to the last mark.
+    * @return The time in milliseconds.
+    */
+   public synchronized long totalMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(lastNanos - startNanos);
+   }
+
+   /**
+    * Formats a report with the time taken by each phase and the total.
+    * @return The report.
+    */
+   public String report() {
+      StringBuilder sb = new StringBuilder("Startup Timing\n");
+      phaseMillis().forEach((phase, millis) -> sb.append(String.format("  %-24s %6d ms%n", phase, millis)));
+      sb.append(String.format("  %-24s %6d ms%n", "total", totalMillis()));
+      return sb.toString();
+   }
+
+   private final long startNanos;
+   private long lastNanos;
+   private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+}
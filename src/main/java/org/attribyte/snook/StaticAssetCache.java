@@ -0,0 +1,462 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A bounded, in-memory cache of static files with least-recently-used eviction.
+ * <p>
+ *    Each entry holds the file content, a gzip-compressed variant when useful, and precomputed header values.
+ *    A variant from the {@link Precompressor}, if configured, or a {@code .gz} sibling is used as the compressed
+ *    variant if present. Otherwise, compressible types are compressed once when loaded. Entries are checked for changes at most once per check interval.
+ *    As a {@link DirectoryWatcher.Listener}, entries are removed as soon as files change.
+ * </p>
+ */
+public class StaticAssetCache implements MetricSet, DirectoryWatcher.Listener {
+
+   /**
+    * A cached file.
+    */
+   public static final class Entry {
+
+      private Entry(final String path, final byte[] content, final byte[] gzipContent,
+                    final String contentType, final long lastModifiedMillis, final boolean etags,
+                    final long checkedNanos) {
+         this.path = path;
+         this.content = content;
+         this.gzipContent = gzipContent;
+         this.contentType = contentType;
+         this.lastModifiedMillis = lastModifiedMillis;
+         this.lastModified = HTTPUtil.httpDate(lastModifiedMillis);
+         this.etag = etags ? "W/\"" + Hashing.murmur3_128().hashBytes(content).toString().substring(0, 16) + "\"" : null;
+         this.checkedNanos = checkedNanos;
+      }
+
+      /**
+       * Gets the memory used by this entry.
+       * @return The number of bytes.
+       */
+      public long weight() {
+         return content.length + (gzipContent != null ? gzipContent.length : 0);
+      }
+
+      /**
+       * The path relative to the resource directory.
+       */
+      public final String path;
+
+      /**
+       * The content.
+       */
+      public final byte[] content;
+
+      /**
+       * The gzip-compressed content, or {@code null} if none.
+       */
+      public final byte[] gzipContent;
+
+      /**
+       * The {@code Content-Type} header value, or {@code null} if unknown.
+       */
+      public final String contentType;
+
+      /**
+       * The last modified time.
+       */
+      public final long lastModifiedMillis;
+
+      /**
+       * The {@code Last-Modified} header value.
+       */
+      public final String lastModified;
+
+      /**
+       * The weak {@code ETag} header value computed from the content, or {@code null} if etags are disabled.
+       */
+      public final String etag;
+
+      /**
+       * The time the file was last checked for changes.
+       */
+      volatile long checkedNanos;
+   }
+
+   /**
+    * Creates a cache from configuration.
+    * @param config The static assets configuration.
+    * @param allowSymlinks Are symbolic links followed?
+    * @param precompressor The source of compressed variants. May be {@code null}.
+    */
+   public StaticAssetCache(final StaticAssetsConfig config, final boolean allowSymlinks,
+                           final Precompressor precompressor) {
+      this(Path.of(config.resourceDirectory), config.cacheMaxBytes, config.cacheMaxEntries,
+              config.cacheMaxFileSize, config.gzip, config.etags,
+              TimeUnit.MILLISECONDS.toNanos(config.cacheCheckIntervalMillis), allowSymlinks, precompressor);
+   }
+
+   /**
+    * Creates a cache.
+    * @param resourceDirectory The directory containing static resources.
+    * @param maxBytes The maximum bytes held in memory.
+    * @param maxEntries The maximum number of cached files.
+    * @param maxFileSize The maximum size of a cached file.
+    * @param gzip Are compressed variants held?
+    * @param etags Are etags computed?
+    * @param checkIntervalNanos The minimum time between checks of a cached file for changes. If {@code 0}, never checked.
+    * @param allowSymlinks Are symbolic links followed?
+    * @param precompressor The source of compressed variants. May be {@code null}.
+    */
+   public StaticAssetCache(final Path resourceDirectory, final long maxBytes, final int maxEntries,
+                           final long maxFileSize, final boolean gzip, final boolean etags,
+                           final long checkIntervalNanos, final boolean allowSymlinks,
+                           final Precompressor precompressor) {
+      this.resolver = new StaticAssetResolver(resourceDirectory, allowSymlinks);
+      this.maxBytes = maxBytes;
+      this.maxEntries = maxEntries;
+      this.maxFileSize = maxFileSize;
+      this.gzip = gzip;
+      this.etags = etags;
+      this.checkIntervalNanos = checkIntervalNanos;
+      this.precompressor = precompressor;
+   }
+
+   /**
+    * Gets a cached file, loading it if required.
+    * @param path The path relative to the resource directory, e.g. {@code /css/app.css}.
+    * @param mimeTypes Maps a file name to its MIME type.
+    * @return The entry or {@code null} if the path is not a cacheable file.
+    * @throws IOException on read error.
+    */
+   public Entry get(final String path, final Function<String, String> mimeTypes) throws IOException {
+      Entry entry;
+      long generation;
+      synchronized(entries) {
+         entry = entries.get(path);
+         generation = invalidations;
+      }
+
+      if(entry != null) {
+         if(checkIntervalNanos == 0L || System.nanoTime() - entry.checkedNanos < checkIntervalNanos) {
+            hits.mark();
+            return entry;
+         }
+         Path file = resolver.resolve(path);
+         BasicFileAttributes attributes = file != null ? resolver.attributes(file) : null;
+         if(attributes != null && attributes.isRegularFile() &&
+                 attributes.lastModifiedTime().toMillis() == entry.lastModifiedMillis &&
+                 attributes.size() == entry.content.length) {
+            entry.checkedNanos = System.nanoTime();
+            hits.mark();
+            return entry;
+         }
+         remove(path, entry);
+      }
+
+      misses.mark();
+      Entry loaded = load(path, mimeTypes);
+      if(loaded != null) {
+         put(loaded, generation);
+      }
+      return loaded;
+   }
+
+   /**
+    * Removes a cached file.
+    * @param path The path relative to the resource directory.
+    */
+   public void invalidate(final String path) {
+      synchronized(entries) {
+         invalidations++;
+         Entry removed = entries.remove(path);
+         if(removed != null) {
+            currentBytes -= removed.weight();
+         }
+      }
+   }
+
+   /**
+    * Removes all cached files below a directory.
+    * @param directoryPath The directory path relative to the resource directory.
+    */
+   public void invalidateTree(final String directoryPath) {
+      String prefix = directoryPath.endsWith("/") ? directoryPath : directoryPath + "/";
+      synchronized(entries) {
+         invalidations++;
+         Iterator<Entry> iter = entries.values().iterator();
+         while(iter.hasNext()) {
+            Entry entry = iter.next();
+            if(entry.path.startsWith(prefix)) {
+               iter.remove();
+               currentBytes -= entry.weight();
+            }
+         }
+      }
+   }
+
+   @Override
+   public void changed(final Set<String> paths) {
+      for(String path : paths) {
+         invalidate(path);
+         invalidateTree(path);
+         if(path.endsWith(".gz")) {
+            invalidate(path.substring(0, path.length() - 3));
+         }
+      }
+   }
+
+   @Override
+   public void reset() {
+      invalidateAll();
+   }
+
+   /**
+    * Removes all cached files.
+    */
+   public void invalidateAll() {
+      synchronized(entries) {
+         invalidations++;
+         entries.clear();
+         currentBytes = 0L;
+      }
+   }
+
+   /**
+    * Gets the number of cached files.
+    * @return The number of files.
+    */
+   public int size() {
+      synchronized(entries) {
+         return entries.size();
+      }
+   }
+
+   /**
+    * Gets the bytes held in memory.
+    * @return The number of bytes.
+    */
+   public long bytes() {
+      synchronized(entries) {
+         return currentBytes;
+      }
+   }
+
+   /**
+    * Loads a file.
+    * @param path The path.
+    * @param mimeTypes Maps a file name to its MIME type.
+    * @return The entry or {@code null} if not cacheable.
+    * @throws IOException on read error.
+    */
+   private Entry load(final String path, final Function<String, String> mimeTypes) throws IOException {
+      Path file = resolver.resolve(path);
+      if(file == null) {
+         return null;
+      }
+      BasicFileAttributes attributes = resolver.attributes(file);
+      if(attributes == null || !attributes.isRegularFile() || attributes.size() > maxFileSize) {
+         return null;
+      }
+
+      long checkedNanos = System.nanoTime();
+      byte[] content = Files.readAllBytes(file);
+      long lastModifiedMillis = attributes.lastModifiedTime().toMillis();
+      if(content.length != attributes.size()) {
+         return null; //Changed while reading.
+      }
+
+      String fileName = file.getFileName().toString();
+      String contentType = mimeTypes.apply(fileName);
+      byte[] gzipContent = null;
+      if(gzip) {
+         Path gzFile = file.resolveSibling(fileName + ".gz");
+         BasicFileAttributes gzAttributes = resolver.attributes(gzFile);
+         Path variant = precompressor != null ? precompressor.variant(path, file, attributes) : null;
+         if(variant != null) {
+            gzipContent = Files.readAllBytes(variant);
+         } else if(gzAttributes != null && gzAttributes.isRegularFile() &&
+                 gzAttributes.lastModifiedTime().toMillis() >= lastModifiedMillis &&
+                 gzAttributes.size() < content.length) {
+            gzipContent = Files.readAllBytes(gzFile);
+         } else if(content.length >= MIN_COMPRESS_SIZE && isCompressible(contentType)) {
+            byte[] compressed = gzip(content);
+            gzipContent = compressed.length < content.length ? compressed : null;
+         }
+      }
+
+      Entry entry = new Entry(path, content, gzipContent, contentType, lastModifiedMillis, etags, checkedNanos);
+      return entry.weight() <= maxBytes ? entry : null;
+   }
+
+   /**
+    * Adds an entry, evicting the least-recently-used entries if required.
+    * <p>
+    *    The entry is not added if any file was invalidated since the load started,
+    *    because the content may have been read before the change.
+    * </p>
+    * @param entry The entry.
+    * @param generation The value of {@code invalidations} before the entry was loaded.
+    */
+   private void put(final Entry entry, final long generation) {
+      synchronized(entries) {
+         if(generation != invalidations) {
+            return;
+         }
+         Entry previous = entries.put(entry.path, entry);
+         if(previous != null) {
+            currentBytes -= previous.weight();
+         }
+         currentBytes += entry.weight();
+         Iterator<Entry> iter = entries.values().iterator();
+         while((currentBytes > maxBytes || entries.size() > maxEntries) && iter.hasNext()) {
+            Entry eldest = iter.next();
+            iter.remove();
+            currentBytes -= eldest.weight();
+            evictions.inc();
+         }
+      }
+   }
+
+   /**
+    * Removes an entry if it has not been replaced.
+    * @param path The path.
+    * @param entry The entry.
+    */
+   private void remove(final String path, final Entry entry) {
+      synchronized(entries) {
+         if(entries.remove(path, entry)) {
+            currentBytes -= entry.weight();
+         }
+      }
+   }
+
+   /**
+    * Compresses content with gzip at the maximum level.
+    * @param content The content.
+    * @return The compressed content.
+    * @throws IOException on compression error.
+    */
+   static byte[] gzip(final byte[] content) throws IOException {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream(content.length / 2 + 64);
+      try(GZIPOutputStream gzos = new GZIPOutputStream(baos) {
+         {
+            def.setLevel(Deflater.BEST_COMPRESSION);
+         }
+      }) {
+         gzos.write(content);
+      }
+      return baos.toByteArray();
+   }
+
+   /**
+    * Is content of a MIME type usefully compressed?
+    * @param mimeType The MIME type. May be {@code null}.
+    * @return {@code true} if compressible.
+    */
+   public static boolean isCompressible(final String mimeType) {
+      if(mimeType == null) {
+         return false;
+      }
+      int end = mimeType.indexOf(';');
+      String type = (end > 0 ? mimeType.substring(0, end) : mimeType).trim().toLowerCase();
+      return type.startsWith("text/") || COMPRESSIBLE_TYPES.contains(type) ||
+              type.endsWith("+json") || type.endsWith("+xml");
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.of(
+              "hits", hits,
+              "misses", misses,
+              "evictions", evictions,
+              "entries", (Gauge<Integer>)this::size,
+              "bytes", (Gauge<Long>)this::bytes
+      );
+   }
+
+   /**
+    * Compressible MIME types that do not start with {@code text/}.
+    */
+   private static final ImmutableSet<String> COMPRESSIBLE_TYPES = ImmutableSet.of(
+           "application/javascript",
+           "application/json",
+           "application/xml",
+           "application/wasm",
+           "image/svg+xml",
+           "image/x-icon",
+           "image/vnd.microsoft.icon",
+           "font/ttf",
+           "font/otf"
+   );
+
+   /**
+    * The minimum size of content compressed when loaded ({@value}).
+    */
+   private static final int MIN_COMPRESS_SIZE = 256;
+
+   private final StaticAssetResolver resolver;
+   private final long maxBytes;
+   private final int maxEntries;
+   private final long maxFileSize;
+   private final boolean gzip;
+   private final boolean etags;
+   private final long checkIntervalNanos;
+   private final Precompressor precompressor;
+
+   private final Meter hits = new Meter();
+   private final Meter misses = new Meter();
+   private final Counter evictions = new Counter();
+
+   /**
+    * The entries in access order. Guarded by itself.
+    */
+   private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+   /**
+    * The bytes held by all entries. Guarded by {@code entries}.
+    */
+   private long currentBytes;
+
+   /**
+    * The number of invalidations. Guarded by {@code entries}.
+    */
+   private long invalidations;
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Serves static files from a {@link StaticAssetCache}.
+ * <p>
+ *    Requests that are not {@code GET} or {@code HEAD}, range requests, and files that are not cached
+ *    continue down the chain to the default servlet. Headers set earlier in the chain,
+ *    like {@code Cache-Control}, are kept.
+ * </p>
+ */
+public class StaticAssetCacheFilter implements Filter {
+
+   /**
+    * Creates the filter.
+    * @param cache The cache.
+    */
+   public StaticAssetCacheFilter(final StaticAssetCache cache) {
+      this.cache = cache;
+   }
+
+   @Override
+   public void init(final FilterConfig filterConfig) {
+      this.servletContext = filterConfig.getServletContext();
+   }
+
+   @Override
+   public void doFilter(final ServletRequest request, final ServletResponse response,
+                        final FilterChain chain) throws IOException, ServletException {
+      HttpServletRequest httpRequest = (HttpServletRequest)request;
+      HttpServletResponse httpResponse = (HttpServletResponse)response;
+      String method = httpRequest.getMethod();
+      boolean head = method.equals("HEAD");
+      if(!(head || method.equals("GET")) || httpRequest.getHeader("Range") != null) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      StaticAssetCache.Entry entry = cache.get(HTTPUtil.pathInContext(httpRequest), servletContext::getMimeType);
+      if(entry == null) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      if(entry.gzipContent != null) {
+         httpResponse.setHeader("Vary", "Accept-Encoding");
+      }
+      httpResponse.setHeader("Last-Modified", entry.lastModified);
+      if(entry.etag != null) {
+         httpResponse.setHeader("ETag", entry.etag);
+      }
+
+      if(HTTPUtil.notModified(httpRequest, entry.etag, entry.lastModifiedMillis)) {
+         httpResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+         return;
+      }
+
+      final byte[] content;
+      if(entry.gzipContent != null && HTTPUtil.acceptsGzip(httpRequest.getHeader("Accept-Encoding"))) {
+         httpResponse.setHeader("Content-Encoding", "gzip");
+         content = entry.gzipContent;
+      } else {
+         content = entry.content;
+      }
+
+      if(entry.contentType != null) {
+         httpResponse.setContentType(entry.contentType);
+      }
+      httpResponse.setContentLength(content.length);
+      if(!head) {
+         httpResponse.getOutputStream().write(content);
+      }
+   }
+
+   /**
+    * The cache.
+    */
+   private final StaticAssetCache cache;
+
+   /**
+    * The servlet context used to map file names to MIME types.
+    */
+   private ServletContext servletContext;
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.base.Strings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Resolves request paths to files in a static resource directory.
+ */
+public class StaticAssetResolver {
+
+   /**
+    * Creates the resolver.
+    * @param resourceDirectory The directory containing static resources.
+    * @param allowSymlinks Are symbolic links followed?
+    */
+   public StaticAssetResolver(final Path resourceDirectory, final boolean allowSymlinks) {
+      this.resourceDirectory = resourceDirectory.toAbsolutePath().normalize();
+      this.allowSymlinks = allowSymlinks;
+      this.linkOptions = allowSymlinks ? new LinkOption[0] : new LinkOption[] {LinkOption.NOFOLLOW_LINKS};
+   }
+
+   /**
+    * Resolves a path against the resource directory.
+    * <p>
+    *    Paths outside the resource directory and paths that are not in normal form,
+    *    for example {@code /css//app.css}, are not resolved. Unless symbolic links are allowed,
+    *    paths that include a link are not resolved.
+    * </p>
+    * @param path The path.
+    * @return The file or {@code null} if not resolved.
+    * @throws IOException on resolution error.
+    */
+   public Path resolve(final String path) throws IOException {
+      String relative = Strings.nullToEmpty(path);
+      while(relative.startsWith("/")) {
+         relative = relative.substring(1);
+      }
+      if(relative.isEmpty() || relative.endsWith("/")) {
+         return null;
+      }
+      Path file = resourceDirectory.resolve(relative).normalize();
+      if(!file.startsWith(resourceDirectory) || !DirectoryWatcher.relativePath(resourceDirectory, file).equals(path)) {
+         return null;
+      }
+      if(allowSymlinks) {
+         return file;
+      }
+      try {
+         Path realRoot = resourceDirectory.toRealPath();
+         Path realFile = file.toRealPath();
+         return realFile.equals(realRoot.resolve(resourceDirectory.relativize(file))) ? file : null;
+      } catch(NoSuchFileException nfe) {
+         return null;
+      }
+   }
+
+   /**
+    * Reads file attributes, following links only if allowed.
+    * @param file The file.
+    * @return The attributes or {@code null} if the file does not exist.
+    * @throws IOException on read error.
+    */
+   public BasicFileAttributes attributes(final Path file) throws IOException {
+      try {
+         return Files.readAttributes(file, BasicFileAttributes.class, linkOptions);
+      } catch(NoSuchFileException nfe) {
+         return null;
+      }
+   }
+
+   /**
+    * Gets the resource directory.
+    * @return The absolute, normalized directory.
+    */
+   public Path getResourceDirectory() {
+      return resourceDirectory;
+   }
+
+   private final Path resourceDirectory;
+   private final boolean allowSymlinks;
+   private final LinkOption[] linkOptions;
+}
@@ -18,9 +18,11 @@
 
 package org.attribyte.snook;
 
+import com.google.common.collect.ImmutableList;
 import org.attribyte.api.InitializationException;
 import org.attribyte.util.InitUtil;
 
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -38,6 +40,18 @@ public class StaticAssetsConfig {
       this.gzip = true;
       this.etags = false;
       this.cacheControl = "";
+      this.cacheMaxBytes = 0L;
+      this.cacheMaxEntries = DEFAULT_CACHE_MAX_ENTRIES;
+      this.cacheMaxFileSize = DEFAULT_CACHE_MAX_FILE_SIZE;
+      this.cacheCheckIntervalMillis = InitUtil.millisFromTime(DEFAULT_CACHE_CHECK_INTERVAL);
+      this.watch = false;
+      this.watchDebounceMillis = InitUtil.millisFromTime(DEFAULT_WATCH_DEBOUNCE);
+      this.largeFileSize = 0L;
+      this.precompressDirectory = "";
+      this.precompressMinSize = DEFAULT_PRECOMPRESS_MIN_SIZE;
+      this.precompressEncodings = DEFAULT_PRECOMPRESS_ENCODINGS;
+      this.fingerprint = false;
+      this.fingerprintCacheControl = FingerprintFilter.DEFAULT_CACHE_CONTROL;
    }
 
    /**
@@ -56,16 +70,76 @@ public class StaticAssetsConfig {
       this.gzip = init.getProperty(GZIP_PROPERTY, "true").equalsIgnoreCase("true");
       this.etags = init.getProperty(ETAGS_PROPERTY, "false").equalsIgnoreCase("true");
       this.cacheControl = init.getProperty(CACHE_CONTROL_HEADER_PROPERTY, "");
+      this.cacheMaxBytes = longProperty(init, CACHE_MAX_BYTES_PROPERTY, 0L);
+      this.cacheMaxEntries = init.getIntProperty(CACHE_MAX_ENTRIES_PROPERTY, DEFAULT_CACHE_MAX_ENTRIES);
+      this.cacheMaxFileSize = longProperty(init, CACHE_MAX_FILE_SIZE_PROPERTY, DEFAULT_CACHE_MAX_FILE_SIZE);
+      this.cacheCheckIntervalMillis = InitUtil.millisFromTime(init.getProperty(CACHE_CHECK_INTERVAL_PROPERTY, DEFAULT_CACHE_CHECK_INTERVAL));
+      this.watch = init.getProperty(WATCH_PROPERTY, "false").equalsIgnoreCase("true");
+      this.watchDebounceMillis = InitUtil.millisFromTime(init.getProperty(WATCH_DEBOUNCE_PROPERTY, DEFAULT_WATCH_DEBOUNCE));
+      this.largeFileSize = longProperty(init, LARGE_FILE_SIZE_PROPERTY, 0L);
+      this.precompressDirectory = init.getProperty(PRECOMPRESS_DIRECTORY_PROPERTY, "").trim();
+      this.precompressMinSize = longProperty(init, PRECOMPRESS_MIN_SIZE_PROPERTY, DEFAULT_PRECOMPRESS_MIN_SIZE);
+      String precompressEncodings = init.getProperty(PRECOMPRESS_ENCODINGS_PROPERTY, "").trim();
+      this.precompressEncodings = precompressEncodings.isEmpty() ? DEFAULT_PRECOMPRESS_ENCODINGS :
+              ContentEncoding.parseList(precompressEncodings);
+      this.fingerprint = init.getProperty(FINGERPRINT_PROPERTY, "false").equalsIgnoreCase("true");
+      this.fingerprintCacheControl = init.getProperty(FINGERPRINT_CACHE_CONTROL_PROPERTY, FingerprintFilter.DEFAULT_CACHE_CONTROL);
+      if(largeFileSize < 0L) {
+         throw new InitializationException(String.format("The '%s' must not be negative", LARGE_FILE_SIZE_PROPERTY));
+      }
+      if(cacheMaxBytes < 0L || cacheMaxEntries < 1 || cacheMaxFileSize < 1L) {
+         throw new InitializationException(String.format("The '%s' must not be negative and the '%s' and '%s' must be positive",
+                 CACHE_MAX_BYTES_PROPERTY, CACHE_MAX_ENTRIES_PROPERTY, CACHE_MAX_FILE_SIZE_PROPERTY));
+      }
    }
 
    private StaticAssetsConfig(final String resourceDirectory, final boolean directoryAllowed,
                               final boolean gzip, final boolean etags,
-                              final String cacheControl) {
+                              final String cacheControl,
+                              final long cacheMaxBytes, final int cacheMaxEntries,
+                              final long cacheMaxFileSize, final long cacheCheckIntervalMillis,
+                              final boolean watch, final long watchDebounceMillis,
+                              final long largeFileSize,
+                              final String precompressDirectory, final long precompressMinSize,
+                              final ImmutableList<ContentEncoding> precompressEncodings,
+                              final boolean fingerprint, final String fingerprintCacheControl) {
       this.resourceDirectory = resourceDirectory;
       this.directoryAllowed = directoryAllowed;
       this.gzip = gzip;
       this.etags = etags;
       this.cacheControl = cacheControl;
+      this.cacheMaxBytes = cacheMaxBytes;
+      this.cacheMaxEntries = cacheMaxEntries;
+      this.cacheMaxFileSize = cacheMaxFileSize;
+      this.cacheCheckIntervalMillis = cacheCheckIntervalMillis;
+      this.watch = watch;
+      this.watchDebounceMillis = watchDebounceMillis;
+      this.largeFileSize = largeFileSize;
+      this.precompressDirectory = precompressDirectory;
+      this.precompressMinSize = precompressMinSize;
+      this.precompressEncodings = precompressEncodings;
+      this.fingerprint = fingerprint;
+      this.fingerprintCacheControl = fingerprintCacheControl;
+   }
+
+   /**
+    * Gets a long property.
+    * @param init The init util.
+    * @param name The property name.
+    * @param defaultValue The default value.
+    * @return The value.
+    * @throws InitializationException if the value is not a number.
+    */
+   private static long longProperty(final InitUtil init, final String name, final long defaultValue) throws InitializationException {
+      String value = init.getProperty(name, "").trim();
+      if(value.isEmpty()) {
+         return defaultValue;
+      }
+      try {
+         return Long.parseLong(value);
+      } catch(NumberFormatException nfe) {
+         throw new InitializationException(String.format("The '%s' must be a number", name));
+      }
    }
 
    /**
@@ -74,7 +148,9 @@ public class StaticAssetsConfig {
     * @return Config with directory allowed changed.
     */
    public StaticAssetsConfig withDirectoryAllowed(boolean directoryAllowed) {
-      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl);
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
    }
 
    /**
@@ -83,7 +159,9 @@ public class StaticAssetsConfig {
     * @return Config with gzip changed.
     */
    public StaticAssetsConfig withGzip(boolean gzip) {
-      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl);
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
    }
 
    /**
@@ -92,7 +170,9 @@ public class StaticAssetsConfig {
     * @return Config with etags changed.
     */
    public StaticAssetsConfig withETags(boolean etags) {
-      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl);
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
    }
 
    /**
@@ -101,7 +181,108 @@ public class StaticAssetsConfig {
     * @return Config with cache control header changed.
     */
    public StaticAssetsConfig withCacheControl(String cacheControl) {
-      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl);
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
+   }
+
+   /**
+    * Create a new config with in-memory caching.
+    * @param maxBytes The maximum bytes held in memory. If {@code 0}, caching is disabled.
+    * @param maxEntries The maximum number of cached files.
+    * @param maxFileSize The maximum size of a cached file.
+    * @return Config with caching changed.
+    */
+   public StaticAssetsConfig withCache(final long maxBytes, final int maxEntries, final long maxFileSize) {
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              maxBytes, maxEntries, maxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
+   }
+
+   /**
+    * Create a new config with a new cache check interval.
+    * @param cacheCheckIntervalMillis The minimum time between checks of a cached file for changes. If {@code 0}, never checked.
+    * @return Config with the cache check interval changed.
+    */
+   public StaticAssetsConfig withCacheCheckInterval(final long cacheCheckIntervalMillis) {
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
+   }
+
+   /**
+    * Create a new config with a new watch setting.
+    * @param watch Is the resource directory watched for changes?
+    * @param watchDebounceMillis The time to wait for further changes before acting on a change.
+    * @return Config with the watch setting changed.
+    */
+   public StaticAssetsConfig withWatch(final boolean watch, final long watchDebounceMillis) {
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
+   }
+
+   /**
+    * Create a new config with a new large file size.
+    * @param largeFileSize The minimum size of a file served from memory-mapped regions. If {@code 0}, disabled.
+    * @return Config with the large file size changed.
+    */
+   public StaticAssetsConfig withLargeFileSize(final long largeFileSize) {
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
+   }
+
+   /**
+    * Create a new config with background precompression.
+    * @param precompressDirectory The directory for compressed variants. If empty, precompression is disabled.
+    * @param precompressMinSize The minimum size of a compressed file.
+    * @return Config with precompression changed.
+    */
+   public StaticAssetsConfig withPrecompress(final String precompressDirectory, final long precompressMinSize) {
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
+   }
+
+   /**
+    * Create a new config with new encodings for background precompression.
+    * @param precompressEncodings The encodings, in order of preference.
+    * @return Config with the precompression encodings changed.
+    */
+   public StaticAssetsConfig withPrecompressEncodings(final List<ContentEncoding> precompressEncodings) {
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, ImmutableList.copyOf(precompressEncodings),
+              fingerprint, fingerprintCacheControl);
+   }
+
+   /**
+    * Create a new config with a new fingerprint setting.
+    * @param fingerprint Are files served at paths that include a hash of their content?
+    * @param fingerprintCacheControl The {@code Cache-Control} header value for fingerprinted paths.
+    * @return Config with the fingerprint setting changed.
+    */
+   public StaticAssetsConfig withFingerprint(final boolean fingerprint, final String fingerprintCacheControl) {
+      return new StaticAssetsConfig(resourceDirectory, directoryAllowed, gzip, etags, cacheControl,
+              cacheMaxBytes, cacheMaxEntries, cacheMaxFileSize, cacheCheckIntervalMillis, watch, watchDebounceMillis,
+              largeFileSize, precompressDirectory, precompressMinSize, precompressEncodings, fingerprint, fingerprintCacheControl);
+   }
+
+   /**
+    * Is background precompression enabled?
+    * @return {@code true} if enabled.
+    */
+   public boolean isPrecompressEnabled() {
+      return !precompressDirectory.isEmpty();
+   }
+
+   /**
+    * Is in-memory caching enabled?
+    * @return {@code true} if enabled.
+    */
+   public boolean isCacheEnabled() {
+      return cacheMaxBytes > 0L;
    }
 
    /**
@@ -134,6 +315,119 @@ public class StaticAssetsConfig {
     */
    public static final String CACHE_CONTROL_HEADER_PROPERTY = "cacheControl";
 
+   /**
+    * The property that configures the maximum bytes held in the in-memory cache ({@value}).
+    * <p>
+    *    If {@code 0} or unspecified, files are not cached.
+    * </p>
+    */
+   public static final String CACHE_MAX_BYTES_PROPERTY = "cache.maxBytes";
+
+   /**
+    * The property that configures the maximum number of files held in the in-memory cache ({@value}).
+    */
+   public static final String CACHE_MAX_ENTRIES_PROPERTY = "cache.maxEntries";
+
+   /**
+    * The default maximum number of cached files ({@value}).
+    */
+   public static final int DEFAULT_CACHE_MAX_ENTRIES = 1000;
+
+   /**
+    * The property that configures the maximum size of a cached file ({@value}).
+    */
+   public static final String CACHE_MAX_FILE_SIZE_PROPERTY = "cache.maxFileSize";
+
+   /**
+    * The default maximum size of a cached file ({@value}).
+    */
+   public static final long DEFAULT_CACHE_MAX_FILE_SIZE = 1024L * 1024L;
+
+   /**
+    * The property that configures the minimum time between checks of a cached file for changes ({@value}).
+    * <p>
+    *    If {@code 0}, cached files are never checked.
+    * </p>
+    */
+   public static final String CACHE_CHECK_INTERVAL_PROPERTY = "cache.checkInterval";
+
+   /**
+    * The default cache check interval ({@value}).
+    */
+   public static final String DEFAULT_CACHE_CHECK_INTERVAL = "2s";
+
+   /**
+    * The property that indicates if the resource directory is watched for changes ({@value}).
+    * <p>
+    *    When watched, cached files are removed as soon as they change.
+    * </p>
+    */
+   public static final String WATCH_PROPERTY = "watch";
+
+   /**
+    * The property that configures the time to wait for further changes before acting on a change ({@value}).
+    */
+   public static final String WATCH_DEBOUNCE_PROPERTY = "watchDebounce";
+
+   /**
+    * The default watch debounce time ({@value}).
+    */
+   public static final String DEFAULT_WATCH_DEBOUNCE = "250ms";
+
+   /**
+    * The property that configures the minimum size of a file served from memory-mapped regions ({@value}).
+    * <p>
+    *    If {@code 0} or unspecified, all files are served by the default servlet.
+    * </p>
+    */
+   public static final String LARGE_FILE_SIZE_PROPERTY = "largeFileSize";
+
+   /**
+    * The property that configures the directory for compressed variants created in the background ({@value}).
+    * <p>
+    *    If unspecified, variants are not created. The directory should not be inside the resource directory.
+    * </p>
+    */
+   public static final String PRECOMPRESS_DIRECTORY_PROPERTY = "precompress.directory";
+
+   /**
+    * The property that configures the minimum size of a file compressed in the background ({@value}).
+    */
+   public static final String PRECOMPRESS_MIN_SIZE_PROPERTY = "precompress.minSize";
+
+   /**
+    * The default minimum size of a compressed file ({@value}).
+    */
+   public static final long DEFAULT_PRECOMPRESS_MIN_SIZE = 1024L;
+
+   /**
+    * The property that configures a comma-separated list of encodings for compressed variants,
+    * in order of preference ({@value}).
+    * <p>
+    *    Tokens are {@code br}, {@code zstd} and {@code gzip}. Encodings without an available codec are skipped.
+    * </p>
+    */
+   public static final String PRECOMPRESS_ENCODINGS_PROPERTY = "precompress.encodings";
+
+   /**
+    * The default encodings for compressed variants: {@code br, zstd, gzip}.
+    */
+   public static final ImmutableList<ContentEncoding> DEFAULT_PRECOMPRESS_ENCODINGS =
+           ImmutableList.of(ContentEncoding.BROTLI, ContentEncoding.ZSTD, ContentEncoding.GZIP);
+
+   /**
+    * The property that indicates if files are served at paths that include a hash of their content ({@value}).
+    * <p>
+    *    Files are hashed in the background. Files at or above the large file size, if configured, are not fingerprinted.
+    * </p>
+    */
+   public static final String FINGERPRINT_PROPERTY = "fingerprint";
+
+   /**
+    * The property that configures the cache control header value for fingerprinted paths ({@value}).
+    */
+   public static final String FINGERPRINT_CACHE_CONTROL_PROPERTY = "fingerprint.cacheControl";
+
    /**
     * The path to the directory containing static resources.
     */
@@ -158,4 +452,64 @@ public class StaticAssetsConfig {
     * If non-empty, this {@code Cache-Control} header is added to every response.
     */
    public final String cacheControl;
+
+   /**
+    * The maximum bytes held in memory. If {@code 0}, the default, caching is disabled.
+    */
+   public final long cacheMaxBytes;
+
+   /**
+    * The maximum number of cached files.
+    */
+   public final int cacheMaxEntries;
+
+   /**
+    * The maximum size of a cached file.
+    */
+   public final long cacheMaxFileSize;
+
+   /**
+    * The minimum time between checks of a cached file for changes. If {@code 0}, never checked.
+    */
+   public final long cacheCheckIntervalMillis;
+
+   /**
+    * Is the resource directory watched for changes? Default {@code false}.
+    */
+   public final boolean watch;
+
+   /**
+    * The time to wait for further changes before acting on a change.
+    */
+   public final long watchDebounceMillis;
+
+   /**
+    * The minimum size of a file served from memory-mapped regions. If {@code 0}, the default, disabled.
+    */
+   public final long largeFileSize;
+
+   /**
+    * The directory for compressed variants created in the background. If empty, the default, disabled.
+    */
+   public final String precompressDirectory;
+
+   /**
+    * The minimum size of a file compressed in the background.
+    */
+   public final long precompressMinSize;
+
+   /**
+    * The encodings for compressed variants created in the background, in order of preference.
+    */
+   public final ImmutableList<ContentEncoding> precompressEncodings;
+
+   /**
+    * Are files served at paths that include a hash of their content? Default {@code false}.
+    */
+   public final boolean fingerprint;
+
+   /**
+    * The {@code Cache-Control} header value for fingerprinted paths.
+    */
+   public final String fingerprintCacheControl;
 }
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.ThreadPool;
+
+import java.util.Map;
+
+/**
+ * Reports the state of the server thread pool.
+ */
+public class ThreadPoolMetrics implements MetricSet {
+
+   /**
+    * Creates thread pool metrics.
+    * @param threadPool The thread pool.
+    * @param mode The configured thread pool mode.
+    */
+   public ThreadPoolMetrics(final ThreadPool threadPool, final ServerConfiguration.ThreadPoolMode mode) {
+      this.threadPool = threadPool;
+      this.mode = mode;
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      ImmutableMap.Builder<String, Metric> metrics = ImmutableMap.builder();
+      metrics.put("mode", (Gauge<String>)() -> mode.name().toLowerCase());
+      metrics.put("threads", (Gauge<Integer>)threadPool::getThreads);
+      metrics.put("idle-threads", (Gauge<Integer>)threadPool::getIdleThreads);
+      metrics.put("low-on-threads", (Gauge<Boolean>)threadPool::isLowOnThreads);
+      if(threadPool instanceof QueuedThreadPool) {
+         final QueuedThreadPool queuedThreadPool = (QueuedThreadPool)threadPool;
+         metrics.put("busy-threads", (Gauge<Integer>)queuedThreadPool::getBusyThreads);
+         metrics.put("max-threads", (Gauge<Integer>)queuedThreadPool::getMaxThreads);
+         metrics.put("queue-size", (Gauge<Integer>)queuedThreadPool::getQueueSize);
+         metrics.put("utilization", (Gauge<Double>)queuedThreadPool::getUtilizationRate);
+      }
+      return metrics.build();
+   }
+
+   /**
+    * The thread pool.
+    */
+   private final ThreadPool threadPool;
+
+   /**
+    * The configured mode.
+    */
+   private final ServerConfiguration.ThreadPoolMode mode;
+}
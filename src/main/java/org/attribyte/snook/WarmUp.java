@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.attribyte.api.InitializationException;
+import org.attribyte.util.InitUtil;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Configuration for synthetic requests sent through the server before it accepts connections,
+ * so the code that serves them is compiled before the first real request.
+ */
+public class WarmUp {
+
+   /**
+    * Creates warm-up configuration.
+    * @param requests The requests, each {@code [METHOD ]path}. If empty, warm-up is disabled.
+    * @param headers Headers added to every request.
+    * @param iterations The number of times the set of requests is sent.
+    * @param threads The number of threads sending requests.
+    * @param maxTimeMillis The maximum warm-up time.
+    */
+   public WarmUp(final ImmutableList<String> requests, final ImmutableMap<String, String> headers,
+                 final int iterations, final int threads, final long maxTimeMillis) {
+      this.requests = requests;
+      this.headers = headers;
+      this.iterations = iterations;
+      this.threads = threads;
+      this.maxTimeMillis = maxTimeMillis;
+   }
+
+   /**
+    * Creates warm-up configuration from properties.
+    * @param namePrefix A prefix to be applied to names in the properties {@code warmup.} for example.
+    * @param props The properties.
+    * @throws InitializationException on invalid configuration.
+    */
+   public WarmUp(final String namePrefix, final Properties props) throws InitializationException {
+      InitUtil init = new InitUtil(namePrefix, props, false);
+      this.requests = ImmutableList.copyOf(Splitter.on(',').omitEmptyStrings().trimResults()
+              .split(init.getProperty(REQUESTS_PROPERTY, "")));
+      this.iterations = init.getIntProperty(ITERATIONS_PROPERTY, DEFAULT_ITERATIONS);
+      this.threads = init.getIntProperty(THREADS_PROPERTY, DEFAULT_THREADS);
+      this.maxTimeMillis = InitUtil.millisFromTime(init.getProperty(MAX_TIME_PROPERTY, DEFAULT_MAX_TIME));
+      if(iterations < 1 || threads < 1) {
+         throw new InitializationException(String.format("The '%s' and '%s' must be positive", ITERATIONS_PROPERTY, THREADS_PROPERTY));
+      }
+
+      String headerPrefix = namePrefix + HEADER_PREFIX;
+      Map<String, String> headers = new TreeMap<>();
+      for(String name : props.stringPropertyNames()) {
+         if(name.startsWith(headerPrefix) && name.length() > headerPrefix.length()) {
+            headers.put(name.substring(headerPrefix.length()), props.getProperty(name).trim());
+         }
+      }
+      this.headers = ImmutableMap.copyOf(headers);
+      for(String request : requests) {
+         rawRequest(request);
+      }
+   }
+
+   /**
+    * Is warm-up enabled?
+    * @return {@code true} if any requests are configured.
+    */
+   public boolean isEnabled() {
+      return !requests.isEmpty();
+   }
+
+   /**
+    * Gets the raw HTTP/1.1 requests.
+    * @return The requests.
+    * @throws InitializationException if a request is invalid.
+    */
+   public ImmutableList<String> rawRequests() throws InitializationException {
+      ImmutableList.Builder<String> rawRequests = ImmutableList.builder();
+      for(String request : requests) {
+         rawRequests.add(rawRequest(request));
+      }
+      return rawRequests.build();
+   }
+
+   /**
+    * Builds a raw HTTP/1.1 request.
+    * @param request The request, {@code [METHOD ]path}.
+    * @return The raw request.
+    * @throws InitializationException if the request is invalid.
+    */
+   String rawRequest(final String request) throws InitializationException {
+      List<String> parts = Splitter.on(' ').omitEmptyStrings().trimResults().splitToList(request);
+      final String method;
+      final String path;
+      if(parts.size() == 1) {
+         method = "GET";
+         path = parts.get(0);
+      } else if(parts.size() == 2) {
+         method = parts.get(0).toUpperCase();
+         path = parts.get(1);
+      } else {
+         throw new InitializationException(String.format("Invalid warm-up request, '%s'", request));
+      }
+
+      if(!path.startsWith("/")) {
+         throw new InitializationException(String.format("The warm-up request path must start with '/', '%s'", request));
+      }
+
+      StringBuilder buf = new StringBuilder(128);
+      buf.append(method).append(' ').append(path).append(" HTTP/1.1\r\n");
+      buf.append("Host: localhost\r\n");
+      headers.forEach((name, value) -> buf.append(name).append(": ").append(value).append("\r\n"));
+      if(!method.equals("GET") && !method.equals("HEAD")) {
+         buf.append("Content-Length: 0\r\n");
+      }
+      buf.append("\r\n");
+      return buf.toString();
+   }
+
+   @Override
+   public String toString() {
+      return MoreObjects.toStringHelper(this)
+              .add("requests", requests)
+              .add("headers", headers.keySet())
+              .add("iterations", iterations)
+              .add("threads", threads)
+              .add("maxTimeMillis", maxTimeMillis)
+              .toString();
+   }
+
+   /**
+    * The comma-separated requests property name ({@value}).
+    * <p>
+    *    Each request is a path, optionally preceded by a method, e.g. {@code /api/status,POST /api/echo}.
+    * </p>
+    */
+   public static final String REQUESTS_PROPERTY = "requests";
+
+   /**
+    * The prefix for headers added to every request ({@value}).
+    * <p>
+    *    For example, {@code warmup.header.Authorization=Bearer test-token}.
+    * </p>
+    */
+   public static final String HEADER_PREFIX = "header.";
+
+   /**
+    * The number of times the set of requests is sent property name ({@value}).
+    */
+   public static final String ITERATIONS_PROPERTY = "iterations";
+
+   /**
+    * The default number of iterations ({@value}).
+    */
+   public static final int DEFAULT_ITERATIONS = 2000;
+
+   /**
+    * The number of threads sending requests property name ({@value}).
+    */
+   public static final String THREADS_PROPERTY = "threads";
+
+   /**
+    * The default number of threads ({@value}).
+    */
+   public static final int DEFAULT_THREADS = 2;
+
+   /**
+    * The maximum warm-up time property name ({@value}).
+    */
+   public static final String MAX_TIME_PROPERTY = "maxTime";
+
+   /**
+    * The default maximum warm-up time ({@value}).
+    */
+   public static final String DEFAULT_MAX_TIME = "30s";
+
+   /**
+    * The requests.
+    */
+   public final ImmutableList<String> requests;
+
+   /**
+    * Headers added to every request.
+    */
+   public final ImmutableMap<String, String> headers;
+
+   /**
+    * The number of times the set of requests is sent.
+    */
+   public final int iterations;
+
+   /**
+    * The number of threads sending requests.
+    */
+   public final int threads;
+
+   /**
+    * The maximum warm-up time.
+    */
+   public final long maxTimeMillis;
+}
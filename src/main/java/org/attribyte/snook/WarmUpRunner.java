@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.servlet.ServletRequest;
+import org.attribyte.api.Logger;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.LocalConnector;
+import org.eclipse.jetty.util.Attributes;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends warm-up requests through a local connector when started.
+ * <p>
+ *    Added as a bean of the server after the handler, so it starts after the handlers are started
+ *    and before the server starts its connectors.
+ * </p>
+ * <p>
+ *    Warm-up requests have the attribute {@link #WARM_UP_ATTRIBUTE}, so request logs, rate limits
+ *    and traffic statistics can ignore them.
+ * </p>
+ */
+public class WarmUpRunner extends AbstractLifeCycle {
+
+   /**
+    * Creates the runner.
+    * @param server The server.
+    * @param warmUp The warm-up configuration.
+    * @param logger The logger.
+    */
+   public WarmUpRunner(final org.eclipse.jetty.server.Server server, final WarmUp warmUp, final Logger logger) {
+      this.server = server;
+      this.warmUp = warmUp;
+      this.logger = logger;
+   }
+
+   @Override
+   protected void doStart() throws Exception {
+      final ImmutableList<String> rawRequests = warmUp.rawRequests();
+      final long startNanos = System.nanoTime();
+      final long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(warmUp.maxTimeMillis);
+      final AtomicInteger remainingIterations = new AtomicInteger(warmUp.iterations);
+
+      LocalConnector connector = new LocalConnector(server, new HttpConnectionFactory(httpConfiguration()));
+      connector.start();
+      ExecutorService executor = Executors.newFixedThreadPool(warmUp.threads,
+              new ThreadFactoryBuilder().setNameFormat("warmup-%d").setDaemon(true).build());
+      try {
+         for(int i = 0; i < warmUp.threads; i++) {
+            executor.execute(() -> {
+               while(remainingIterations.getAndDecrement() > 0 && System.nanoTime() < deadlineNanos) {
+                  for(String rawRequest : rawRequests) {
+                     send(connector, rawRequest);
+                  }
+               }
+            });
+         }
+         executor.shutdown();
+         if(!executor.awaitTermination(warmUp.maxTimeMillis + STOP_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+         }
+      } finally {
+         connector.stop();
+      }
+
+      this.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+      logger.info(String.format("Warm-up sent %d requests in %d ms (%d errors)",
+              requestCount.get(), elapsedMillis, errorCount.get()));
+      super.doStart();
+   }
+
+   /**
+    * Creates the configuration for the local connector, adding the warm-up attribute to every request.
+    * @return The configuration.
+    */
+   private static HttpConfiguration httpConfiguration() {
+      HttpConfiguration httpConfig = new HttpConfiguration();
+      httpConfig.addCustomizer((request, responseHeaders) -> {
+         request.setAttribute(WARM_UP_ATTRIBUTE, Boolean.TRUE);
+         return request;
+      });
+      return httpConfig;
+   }
+
+   /**
+    * Is a request a warm-up request?
+    * @param request The request.
+    * @return {@code true} if sent by a warm-up runner.
+    */
+   public static boolean isWarmUp(final ServletRequest request) {
+      return request.getAttribute(WARM_UP_ATTRIBUTE) != null;
+   }
+
+   /**
+    * Is a request a warm-up request?
+    * @param request The request (or other attributes).
+    * @return {@code true} if sent by a warm-up runner.
+    */
+   public static boolean isWarmUp(final Attributes request) {
+      return request.getAttribute(WARM_UP_ATTRIBUTE) != null;
+   }
+
+   /**
+    * Sends a request.
+    * @param connector The connector.
+    * @param rawRequest The request.
+    */
+   private void send(final LocalConnector connector, final String rawRequest) {
+      requestCount.incrementAndGet();
+      try {
+         String response = connector.getResponse(rawRequest, REQUEST_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+         if(status(response) >= 500) {
+            if(errorCount.incrementAndGet() == 1) {
+               logger.warn(String.format("Warm-up request failed: %s", rawRequest.substring(0, rawRequest.indexOf('\r'))));
+            }
+         }
+      } catch(Exception e) {
+         if(errorCount.incrementAndGet() == 1) {
+            logger.warn("Warm-up request failed", e);
+         }
+      }
+   }
+
+   /**
+    * Gets the status from a raw response.
+    * @param response The response.
+    * @return The status or {@code 500} if the response is missing or invalid.
+    */
+   static int status(final String response) {
+      if(response == null || response.length() < 12 || !response.startsWith("HTTP/")) {
+         return 500;
+      }
+      int start = response.indexOf(' ');
+      try {
+         return Integer.parseInt(response.substring(start + 1, start + 4));
+      } catch(NumberFormatException | IndexOutOfBoundsException e) {
+         return 500;
+      }
+   }
+
+   /**
+    * Gets the time taken by warm-up.
+    * @return The time in milliseconds.
+    */
+   public long getElapsedMillis() {
+      return elapsedMillis;
+   }
+
+   /**
+    * Gets the number of requests sent.
+    * @return The number of requests.
+    */
+   public int getRequestCount() {
+      return requestCount.get();
+   }
+
+   /**
+    * Gets the number of requests that failed.
+    * @return The number of failed requests.
+    */
+   public int getErrorCount() {
+      return errorCount.get();
+   }
+
+   /**
+    * The request attribute set for warm-up requests ({@value}).
+    */
+   public static final String WARM_UP_ATTRIBUTE = "org.attribyte.snook.warmUp";
+
+   /**
+    * The maximum time to wait for a single response ({@value}).
+    */
+   private static final long REQUEST_TIMEOUT_MILLIS = 10000L;
+
+   /**
+    * The additional time to wait for threads to finish after the maximum warm-up time ({@value}).
+    */
+   private static final long STOP_WAIT_MILLIS = 5000L;
+
+   private final org.eclipse.jetty.server.Server server;
+   private final WarmUp warmUp;
+   private final Logger logger;
+   private final AtomicInteger requestCount = new AtomicInteger();
+   private final AtomicInteger errorCount = new AtomicInteger();
+   private volatile long elapsedMillis;
+}
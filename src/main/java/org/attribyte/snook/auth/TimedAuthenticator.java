@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.auth;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.attribyte.snook.log.RequestTiming;
+
+/**
+ * An authenticator that records the time spent authenticating, and the authorized username,
+ * for the JSON request log.
+ * <p>
+ *    Timing is recorded only if request timing is enabled. Otherwise, the delegate is called directly.
+ * </p>
+ * @param <T> The authorization type.
+ */
+public class TimedAuthenticator<T> implements Authenticator<T> {
+
+   /**
+    * Creates the authenticator.
+    * @param delegate The authenticator to time.
+    */
+   public TimedAuthenticator(final Authenticator<T> delegate) {
+      this.delegate = delegate;
+   }
+
+   @Override
+   public String credentials(final HttpServletRequest request) {
+      return delegate.credentials(request);
+   }
+
+   @Override
+   public String authorizedUsername(final HttpServletRequest request) {
+      RequestTiming timing = RequestTiming.get(request);
+      if(timing == null) {
+         return delegate.authorizedUsername(request);
+      }
+      long startNanos = System.nanoTime();
+      String username = delegate.authorizedUsername(request);
+      timing.recordAuth(System.nanoTime() - startNanos, username);
+      return username;
+   }
+
+   @Override
+   public String schemeName() {
+      return delegate.schemeName();
+   }
+
+   @Override
+   public T authorized(final HttpServletRequest request) {
+      RequestTiming timing = RequestTiming.get(request);
+      if(timing == null) {
+         return delegate.authorized(request);
+      }
+      long startNanos = System.nanoTime();
+      T authorized = delegate.authorized(request);
+      timing.recordAuth(System.nanoTime() - startNanos, null);
+      return authorized;
+   }
+
+   /**
+    * The authenticator being timed.
+    */
+   private final Authenticator<T> delegate;
+}
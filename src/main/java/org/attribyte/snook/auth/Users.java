@@ -437,16 +437,67 @@ public class Users {
     */
    public static final int MIN_TOKEN_LENGTH = 16;
 
+   /**
+    * Gets a BCrypt hash generated for a random password.
+    * <p>
+    *    The hash is computed when this class is loaded, because the deprecated constants are initialized with it.
+    *    {@code Server} loads this class on a background thread when constructed.
+    * </p>
+    * @return The hash.
+    */
+   public static String randomBCryptString() {
+      return RandomBCrypt.STRING;
+   }
+
+   /**
+    * Gets a BCrypt hash code generated for a random password.
+    * <p>
+    *    The hash is computed when this class is loaded, because the deprecated constants are initialized with it.
+    *    {@code Server} loads this class on a background thread when constructed.
+    * </p>
+    * @return The hash code.
+    */
+   public static HashCode randomBCryptHash() {
+      return RandomBCrypt.HASH;
+   }
+
    /**
     * A BCrypt hash generated for a random password.
+    * <p>
+    *    Retained for compatibility. Initializing this field forces the hash to be computed
+    *    when this class is loaded. It will be removed in the next release.
+    * </p>
+    * @deprecated Use {@link #randomBCryptString()}.
     */
-   public static final String RANDOM_BCRYPT_STRING =
-           BCrypt.hashpw(randomString(MIN_PASSWORD_LENGTH), BCrypt.gensalt(DEFAULT_BCRYPT_ROUNDS));
+   @Deprecated
+   public static final String RANDOM_BCRYPT_STRING = RandomBCrypt.STRING;
 
    /**
     * A BCrypt hash code generated for a random password.
+    * <p>
+    *    Retained for compatibility. Initializing this field forces the hash to be computed
+    *    when this class is loaded. It will be removed in the next release.
+    * </p>
+    * @deprecated Use {@link #randomBCryptHash()}.
+    */
+   @Deprecated
+   public static final HashCode RANDOM_BCRYPT_HASH = RandomBCrypt.HASH;
+
+   /**
+    * Holds the random BCrypt hash. Once the deprecated constants are removed, the hash is computed when first used.
     */
-   public static final HashCode RANDOM_BCRYPT_HASH = HashCode.fromBytes(RANDOM_BCRYPT_STRING.getBytes(StandardCharsets.US_ASCII));
+   private static final class RandomBCrypt {
+
+      /**
+       * A BCrypt hash generated for a random password.
+       */
+      static final String STRING = BCrypt.hashpw(randomString(MIN_PASSWORD_LENGTH), BCrypt.gensalt(DEFAULT_BCRYPT_ROUNDS));
+
+      /**
+       * A BCrypt hash code generated for a random password.
+       */
+      static final HashCode HASH = HashCode.fromBytes(STRING.getBytes(StandardCharsets.US_ASCII));
+   }
 
    /**
     * Splits lines for records.
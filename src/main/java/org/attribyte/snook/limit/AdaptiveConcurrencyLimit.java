@@ -0,0 +1,294 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A concurrency limit that adapts to observed latency.
+ * <p>
+ *    The limit is adjusted with a gradient: the ratio of long-term (baseline) latency to the latency
+ *    of each completed request. While latency stays near the baseline and the limit is in use, the limit grows by
+ *    about its square root. As latency rises above the baseline, the limit shrinks, by at most half per sample
+ *    before smoothing. Requests that fail, or are rejected downstream as overloaded,
+ *    reduce the limit multiplicatively.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimit {
+
+   /**
+    * Builds a limit.
+    */
+   public static class Builder {
+
+      /**
+       * Sets the initial limit.
+       * @param initialLimit The initial limit.
+       * @return A self-reference.
+       */
+      public Builder setInitialLimit(final int initialLimit) {
+         this.initialLimit = initialLimit;
+         return this;
+      }
+
+      /**
+       * Sets the minimum limit.
+       * @param minLimit The minimum limit.
+       * @return A self-reference.
+       */
+      public Builder setMinLimit(final int minLimit) {
+         this.minLimit = minLimit;
+         return this;
+      }
+
+      /**
+       * Sets the maximum limit.
+       * @param maxLimit The maximum limit.
+       * @return A self-reference.
+       */
+      public Builder setMaxLimit(final int maxLimit) {
+         this.maxLimit = maxLimit;
+         return this;
+      }
+
+      /**
+       * Sets the smoothing factor applied to each new limit.
+       * @param smoothing The smoothing factor in {@code (0, 1]}.
+       * @return A self-reference.
+       */
+      public Builder setSmoothing(final double smoothing) {
+         this.smoothing = smoothing;
+         return this;
+      }
+
+      /**
+       * Sets the latency tolerance. Latency may rise to this multiple of the baseline before the limit is reduced.
+       * @param tolerance The tolerance, {@code >= 1}.
+       * @return A self-reference.
+       */
+      public Builder setTolerance(final double tolerance) {
+         this.tolerance = tolerance;
+         return this;
+      }
+
+      /**
+       * Sets the number of samples averaged for the baseline latency.
+       * @param baselineWindow The number of samples.
+       * @return A self-reference.
+       */
+      public Builder setBaselineWindow(final int baselineWindow) {
+         this.baselineWindow = baselineWindow;
+         return this;
+      }
+
+      /**
+       * Sets the ratio applied to the limit when a request fails or is dropped.
+       * @param backoffRatio The ratio in {@code (0, 1)}.
+       * @return A self-reference.
+       */
+      public Builder setBackoffRatio(final double backoffRatio) {
+         this.backoffRatio = backoffRatio;
+         return this;
+      }
+
+      /**
+       * Builds the limit.
+       * @return The limit.
+       * @throws IllegalArgumentException on invalid configuration.
+       */
+      public AdaptiveConcurrencyLimit build() {
+         if(minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(String.format("Expecting 1 <= minLimit (%d) <= initialLimit (%d) <= maxLimit (%d)",
+                    minLimit, initialLimit, maxLimit));
+         }
+         if(smoothing <= 0.0 || smoothing > 1.0 || tolerance < 1.0 || backoffRatio <= 0.0 || backoffRatio >= 1.0 || baselineWindow < 1) {
+            throw new IllegalArgumentException("Invalid smoothing, tolerance, backoff ratio or baseline window");
+         }
+         return new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, smoothing, tolerance, baselineWindow, backoffRatio);
+      }
+
+      private int initialLimit = 20;
+      private int minLimit = 10;
+      private int maxLimit = 1000;
+      private double smoothing = 0.2;
+      private double tolerance = 1.5;
+      private int baselineWindow = 600;
+      private double backoffRatio = 0.9;
+   }
+
+   /**
+    * Creates a builder with defaults.
+    * @return The builder.
+    */
+   public static Builder builder() {
+      return new Builder();
+   }
+
+   private AdaptiveConcurrencyLimit(final int initialLimit, final int minLimit, final int maxLimit,
+                                    final double smoothing, final double tolerance,
+                                    final int baselineWindow, final double backoffRatio) {
+      this.minLimit = minLimit;
+      this.maxLimit = maxLimit;
+      this.smoothing = smoothing;
+      this.tolerance = tolerance;
+      this.baselineAlpha = 2.0 / (baselineWindow + 1);
+      this.backoffRatio = backoffRatio;
+      this.initialLimit = initialLimit;
+      this.estimatedLimit = initialLimit;
+      this.limit = initialLimit;
+   }
+
+   /**
+    * Restores the initial limit and discards the baseline latency.
+    * <p>
+    *    Requests in-flight are not changed.
+    * </p>
+    */
+   public synchronized void reset() {
+      estimatedLimit = initialLimit;
+      limit = initialLimit;
+      baselineLatency = 0.0;
+   }
+
+   /**
+    * Acquires a permit if the number in-flight is below the limit.
+    * @return Was a permit acquired?
+    */
+   public boolean tryAcquire() {
+      if(inFlight.incrementAndGet() > limit) {
+         inFlight.decrementAndGet();
+         return false;
+      }
+      return true;
+   }
+
+   /**
+    * Releases a permit and adjusts the limit with the request latency.
+    * @param latencyNanos The request latency in nanoseconds.
+    * @param dropped Did the request fail or was it rejected as overloaded?
+    */
+   public void release(final long latencyNanos, final boolean dropped) {
+      int inFlightBefore = inFlight.getAndDecrement();
+      update(Math.max(1L, latencyNanos), inFlightBefore, dropped);
+   }
+
+   /**
+    * Releases a permit without adjusting the limit.
+    */
+   public void release() {
+      inFlight.decrementAndGet();
+   }
+
+   /**
+    * Adjusts the limit for a sample.
+    * @param latencyNanos The latency.
+    * @param inFlight The number in-flight when the request completed, including this request.
+    * @param dropped Was the request dropped?
+    */
+   private synchronized void update(final long latencyNanos, final int inFlight, final boolean dropped) {
+      double newLimit;
+      if(dropped) {
+         newLimit = estimatedLimit * backoffRatio;
+      } else {
+         double latency = (double)latencyNanos;
+         baselineLatency = baselineLatency == 0.0 ? latency : baselineLatency + (latency - baselineLatency) * baselineAlpha;
+         if(baselineLatency / latency > 2.0) {
+            baselineLatency = baselineLatency * 0.95; //Let the baseline recover quickly from a latency spike.
+         }
+
+         if(inFlight < estimatedLimit / 2.0) {
+            return; //Limit is not in use, so latency says nothing about it.
+         }
+
+         double gradient = Math.max(0.5, Math.min(1.0, tolerance * baselineLatency / latency));
+         newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+         newLimit = estimatedLimit * (1.0 - smoothing) + newLimit * smoothing;
+      }
+
+      estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+      limit = (int)estimatedLimit;
+   }
+
+   /**
+    * Gets the current limit.
+    * @return The limit.
+    */
+   public int getLimit() {
+      return limit;
+   }
+
+   /**
+    * Gets the number of requests in-flight.
+    * @return The number in-flight.
+    */
+   public int getInFlight() {
+      return inFlight.get();
+   }
+
+   /**
+    * Gets the baseline latency in nanoseconds.
+    * @return The baseline latency.
+    */
+   public synchronized double getBaselineLatencyNanos() {
+      return baselineLatency;
+   }
+
+   @Override
+   public String toString() {
+      return MoreObjects.toStringHelper(this)
+              .add("limit", limit)
+              .add("inFlight", inFlight.get())
+              .add("minLimit", minLimit)
+              .add("maxLimit", maxLimit)
+              .add("smoothing", smoothing)
+              .add("tolerance", tolerance)
+              .add("backoffRatio", backoffRatio)
+              .toString();
+   }
+
+   private final int initialLimit;
+   private final int minLimit;
+   private final int maxLimit;
+   private final double smoothing;
+   private final double tolerance;
+   private final double baselineAlpha;
+   private final double backoffRatio;
+
+   /**
+    * The number of requests in-flight.
+    */
+   private final AtomicInteger inFlight = new AtomicInteger(0);
+
+   /**
+    * The current limit, read without locking.
+    */
+   private volatile int limit;
+
+   /**
+    * The unrounded limit. Guarded by {@code this}.
+    */
+   private double estimatedLimit;
+
+   /**
+    * The exponentially weighted baseline latency. Guarded by {@code this}.
+    */
+   private double baselineLatency = 0.0;
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import org.attribyte.snook.WarmUpRunner;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sheds load with {@code 503} when in-flight requests exceed an adaptive concurrency limit.
+ * <p>
+ *    Warm-up requests are not limited and their latency is not sampled.
+ * </p>
+ */
+public class AdaptiveLimitHandler extends Handler.Wrapper implements MetricSet {
+
+   /**
+    * Creates the handler.
+    * @param limit The adaptive limit.
+    */
+   public AdaptiveLimitHandler(final AdaptiveConcurrencyLimit limit) {
+      this.limit = limit;
+   }
+
+   @Override
+   public boolean handle(final Request request, final Response response, final Callback callback) throws Exception {
+
+      if(WarmUpRunner.isWarmUp(request)) {
+         return super.handle(request, response, callback);
+      }
+
+      if(!limit.tryAcquire()) {
+         rejected.mark();
+         response.getHeaders().put(HttpHeader.RETRY_AFTER, "1");
+         Response.writeError(request, response, callback, HttpStatus.SERVICE_UNAVAILABLE_503);
+         return true;
+      }
+
+      final long startNanos = System.nanoTime();
+      final AtomicBoolean released = new AtomicBoolean(false);
+      final Callback releaseCallback = new Callback.Nested(callback) {
+         @Override
+         public void succeeded() {
+            if(released.compareAndSet(false, true)) {
+               limit.release(System.nanoTime() - startNanos, response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE_503);
+            }
+            super.succeeded();
+         }
+
+         @Override
+         public void failed(final Throwable x) {
+            if(released.compareAndSet(false, true)) {
+               limit.release(System.nanoTime() - startNanos, true);
+            }
+            super.failed(x);
+         }
+      };
+
+      try {
+         boolean handled = super.handle(request, response, releaseCallback);
+         if(!handled && released.compareAndSet(false, true)) {
+            limit.release();
+         }
+         return handled;
+      } catch(Throwable t) {
+         if(released.compareAndSet(false, true)) {
+            limit.release(System.nanoTime() - startNanos, true);
+         }
+         throw t;
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.of(
+              "limit", (Gauge<Integer>)limit::getLimit,
+              "in-flight", (Gauge<Integer>)limit::getInFlight,
+              "rejected", rejected
+      );
+   }
+
+   /**
+    * The limit.
+    */
+   private final AdaptiveConcurrencyLimit limit;
+
+   /**
+    * Meters rejected requests.
+    */
+   private final Meter rejected = new Meter();
+}
@@ -0,0 +1,379 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.thread.Scheduler;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Limits concurrent requests with per-path lanes that have their own limits, wait queues and priorities.
+ * <p>
+ *    A request runs immediately if both its lane and the server have capacity. Otherwise, it waits
+ *    in its lane's queue until a permit is released, or is rejected with {@code 503} and
+ *    a {@code Retry-After} header if the queue is full or the wait exceeds the lane's maximum.
+ *    When a permit is released, waiting requests in lanes with higher priority are resumed first.
+ * </p>
+ */
+public class QoSHandler extends Handler.Wrapper implements MetricSet {
+
+   /**
+    * Creates the handler.
+    * @param maxConcurrent The maximum concurrent requests across all lanes. If {@code 0}, only lane limits apply.
+    * @param lanes The lanes. If no lane is named {@code default}, a default lane with no limit is added.
+    */
+   public QoSHandler(final int maxConcurrent, final Collection<QoSLane> lanes) {
+      this.maxConcurrent = maxConcurrent > 0 ? maxConcurrent : Integer.MAX_VALUE;
+      List<Lane> matchLanes = Lists.newArrayListWithExpectedSize(lanes.size());
+      Lane defaultLane = null;
+      for(QoSLane config : lanes) {
+         if(config.name.equals(QoSLane.DEFAULT_LANE_NAME)) {
+            defaultLane = new Lane(config);
+         } else {
+            matchLanes.add(new Lane(config));
+         }
+      }
+      this.defaultLane = defaultLane != null ? defaultLane : new Lane(QoSLane.defaultLane());
+      matchLanes.sort(Comparator.comparingInt((Lane lane) -> lane.config.priority).reversed());
+      this.matchLanes = ImmutableList.copyOf(matchLanes);
+      List<Lane> allLanes = Lists.newArrayList(matchLanes);
+      allLanes.add(this.defaultLane);
+      allLanes.sort(Comparator.comparingInt((Lane lane) -> lane.config.priority).reversed());
+      this.priorityLanes = ImmutableList.copyOf(allLanes);
+   }
+
+   @Override
+   public boolean handle(final Request request, final Response response, final Callback callback) throws Exception {
+      final Lane lane = lane(Request.getPathInContext(request));
+      final boolean acquired;
+      Waiting waiting = null;
+      synchronized(lock) {
+         if(lane.waiting.isEmpty() && hasCapacity(lane)) {
+            acquire(lane);
+            acquired = true;
+         } else {
+            acquired = false;
+            if(lane.waiting.size() < lane.config.maxQueued && lane.config.maxSuspendMillis > 0L) {
+               waiting = new Waiting(lane, request, response, callback);
+               lane.waiting.add(waiting);
+            }
+         }
+      }
+
+      if(acquired) {
+         return process(lane, request, response, callback);
+      }
+
+      if(waiting == null) {
+         lane.rejected.mark();
+         reject(lane, request, response, callback);
+         return true;
+      }
+
+      final Waiting scheduled = waiting;
+      Scheduler scheduler = request.getComponents().getScheduler();
+      scheduled.timeout = scheduler.schedule(() -> expire(scheduled), lane.config.maxSuspendMillis, TimeUnit.MILLISECONDS);
+      return true;
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      ImmutableMap.Builder<String, Metric> metrics = ImmutableMap.builder();
+      metrics.put("active", (Gauge<Integer>)() -> {
+         synchronized(lock) {
+            return active;
+         }
+      });
+      for(Lane lane : priorityLanes) {
+         String prefix = lane.config.name + ".";
+         metrics.put(prefix + "active", (Gauge<Integer>)() -> {
+            synchronized(lock) {
+               return lane.active;
+            }
+         });
+         metrics.put(prefix + "queued", (Gauge<Integer>)() -> {
+            synchronized(lock) {
+               return lane.waiting.size();
+            }
+         });
+         metrics.put(prefix + "rejected", lane.rejected);
+         metrics.put(prefix + "expired", lane.expired);
+      }
+      return metrics.build();
+   }
+
+   /**
+    * Selects the lane for a path.
+    * @param path The path.
+    * @return The lane.
+    */
+   private Lane lane(final String path) {
+      for(Lane lane : matchLanes) {
+         if(lane.config.matches(path)) {
+            return lane;
+         }
+      }
+      return defaultLane;
+   }
+
+   /**
+    * Processes a request that holds a permit, releasing the permit when the request completes.
+    * @param lane The lane.
+    * @param request The request.
+    * @param response The response.
+    * @param callback The callback.
+    * @return Was the request handled?
+    * @throws Exception on handler error.
+    */
+   private boolean process(final Lane lane, final Request request, final Response response,
+                           final Callback callback) throws Exception {
+      final AtomicBoolean released = new AtomicBoolean(false);
+      final Runnable release = () -> {
+         if(released.compareAndSet(false, true)) {
+            release(lane);
+         }
+      };
+
+      final Callback releaseCallback = new Callback.Nested(callback) {
+         @Override
+         public void succeeded() {
+            release.run();
+            super.succeeded();
+         }
+
+         @Override
+         public void failed(final Throwable x) {
+            release.run();
+            super.failed(x);
+         }
+      };
+
+      try {
+         boolean handled = super.handle(request, response, releaseCallback);
+         if(!handled) {
+            release.run();
+         }
+         return handled;
+      } catch(Throwable t) {
+         release.run();
+         throw t;
+      }
+   }
+
+   /**
+    * Resumes a request that waited for a permit.
+    * @param waiting The waiting request.
+    */
+   private void resume(final Waiting waiting) {
+      if(waiting.timeout != null) {
+         waiting.timeout.cancel();
+      }
+      waiting.request.getContext().execute(() -> {
+         try {
+            if(!process(waiting.lane, waiting.request, waiting.response, waiting.callback)) {
+               Response.writeError(waiting.request, waiting.response, waiting.callback, HttpStatus.NOT_FOUND_404);
+            }
+         } catch(Throwable t) {
+            Response.writeError(waiting.request, waiting.response, waiting.callback, t);
+         }
+      });
+   }
+
+   /**
+    * Rejects a request that waited too long.
+    * @param waiting The waiting request.
+    */
+   private void expire(final Waiting waiting) {
+      synchronized(lock) {
+         if(!waiting.lane.waiting.remove(waiting)) {
+            return; //Already resumed
+         }
+      }
+      waiting.lane.expired.mark();
+      reject(waiting.lane, waiting.request, waiting.response, waiting.callback);
+   }
+
+   /**
+    * Sends {@code 503} with {@code Retry-After}.
+    * @param lane The lane.
+    * @param request The request.
+    * @param response The response.
+    * @param callback The callback.
+    */
+   private void reject(final Lane lane, final Request request, final Response response, final Callback callback) {
+      response.getHeaders().put(HttpHeader.RETRY_AFTER, Long.toString(lane.config.retryAfterSeconds));
+      Response.writeError(request, response, callback, HttpStatus.SERVICE_UNAVAILABLE_503);
+   }
+
+   /**
+    * Releases a permit, then resumes waiting requests, highest priority first, while capacity is available.
+    * @param lane The lane that held the permit.
+    */
+   private void release(final Lane lane) {
+      List<Waiting> resumed = null;
+      synchronized(lock) {
+         lane.active--;
+         active--;
+         for(Lane priorityLane : priorityLanes) {
+            while(!priorityLane.waiting.isEmpty() && hasCapacity(priorityLane)) {
+               acquire(priorityLane);
+               if(resumed == null) {
+                  resumed = Lists.newArrayListWithExpectedSize(2);
+               }
+               resumed.add(priorityLane.waiting.poll());
+            }
+         }
+      }
+
+      if(resumed != null) {
+         resumed.forEach(this::resume);
+      }
+   }
+
+   /**
+    * Do the lane and the server have capacity? Must hold the lock.
+    * @param lane The lane.
+    * @return Is there capacity?
+    */
+   private boolean hasCapacity(final Lane lane) {
+      return active < maxConcurrent && lane.active < lane.maxConcurrent;
+   }
+
+   /**
+    * Acquires a permit. Must hold the lock.
+    * @param lane The lane.
+    */
+   private void acquire(final Lane lane) {
+      lane.active++;
+      active++;
+   }
+
+   /**
+    * The runtime state for a lane.
+    */
+   private static final class Lane {
+
+      Lane(final QoSLane config) {
+         this.config = config;
+         this.maxConcurrent = config.maxConcurrent > 0 ? config.maxConcurrent : Integer.MAX_VALUE;
+      }
+
+      /**
+       * The configuration.
+       */
+      final QoSLane config;
+
+      /**
+       * The maximum concurrent requests.
+       */
+      final int maxConcurrent;
+
+      /**
+       * The number of active requests. Guarded by the handler lock.
+       */
+      int active;
+
+      /**
+       * Requests waiting for a permit. Guarded by the handler lock.
+       */
+      final ArrayDeque<Waiting> waiting = new ArrayDeque<>();
+
+      /**
+       * Meters requests rejected because the queue was full.
+       */
+      final Meter rejected = new Meter();
+
+      /**
+       * Meters requests rejected after waiting too long.
+       */
+      final Meter expired = new Meter();
+   }
+
+   /**
+    * A request waiting for a permit.
+    */
+   private static final class Waiting {
+
+      Waiting(final Lane lane, final Request request, final Response response, final Callback callback) {
+         this.lane = lane;
+         this.request = request;
+         this.response = response;
+         this.callback = callback;
+      }
+
+      final Lane lane;
+      final Request request;
+      final Response response;
+      final Callback callback;
+
+      /**
+       * The scheduled expiration.
+       */
+      volatile Scheduler.Task timeout;
+   }
+
+   /**
+    * The lock that guards permit counts and queues.
+    */
+   private final Object lock = new Object();
+
+   /**
+    * The maximum concurrent requests across all lanes.
+    */
+   private final int maxConcurrent;
+
+   /**
+    * The number of active requests across all lanes. Guarded by the lock.
+    */
+   private int active;
+
+   /**
+    * Lanes selected by path, in priority order.
+    */
+   private final ImmutableList<Lane> matchLanes;
+
+   /**
+    * The lane for requests that match no other lane.
+    */
+   private final Lane defaultLane;
+
+   /**
+    * All lanes in priority order.
+    */
+   private final ImmutableList<Lane> priorityLanes;
+}
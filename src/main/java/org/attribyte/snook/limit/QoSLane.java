@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import org.attribyte.api.InitializationException;
+import org.attribyte.snook.PathPattern;
+import org.attribyte.util.InitUtil;
+
+import java.util.Properties;
+
+/**
+ * Configuration for a QoS lane: a set of paths that share a concurrency limit, a wait queue and a priority.
+ */
+public class QoSLane {
+
+   /**
+    * Creates a lane.
+    * @param name The lane name.
+    * @param paths The paths that select this lane.
+    * @param maxConcurrent The maximum concurrent requests. If {@code 0}, only the server limit applies.
+    * @param maxQueued The maximum number of requests waiting for a permit.
+    * @param maxSuspendMillis The maximum time a request waits before it is rejected.
+    * @param priority The priority. Waiting requests in lanes with higher priority are resumed first.
+    * @param retryAfterSeconds The {@code Retry-After} value sent with rejections.
+    */
+   public QoSLane(final String name, final ImmutableList<PathPattern> paths,
+                  final int maxConcurrent, final int maxQueued, final long maxSuspendMillis,
+                  final int priority, final long retryAfterSeconds) {
+      this.name = name;
+      this.paths = paths;
+      this.maxConcurrent = maxConcurrent;
+      this.maxQueued = maxQueued;
+      this.maxSuspendMillis = maxSuspendMillis;
+      this.priority = priority;
+      this.retryAfterSeconds = retryAfterSeconds;
+   }
+
+   /**
+    * Creates a lane from properties.
+    * @param name The lane name.
+    * @param props The properties.
+    * @throws InitializationException on invalid configuration.
+    */
+   public QoSLane(final String name, final Properties props) throws InitializationException {
+      InitUtil init = new InitUtil("", props, true);
+      this.name = name;
+      this.paths = PathPattern.parseList(init.getProperty(PATHS_PROPERTY, ""));
+      if(this.paths.isEmpty() && !name.equals(DEFAULT_LANE_NAME)) {
+         throw new InitializationException(String.format("The 'paths' must be specified for QoS lane, '%s'", name));
+      }
+      this.maxConcurrent = init.getIntProperty(MAX_CONCURRENT_PROPERTY, 0);
+      this.maxQueued = init.getIntProperty(MAX_QUEUED_PROPERTY, DEFAULT_MAX_QUEUED);
+      this.maxSuspendMillis = InitUtil.millisFromTime(init.getProperty(MAX_SUSPEND_PROPERTY, DEFAULT_MAX_SUSPEND));
+      this.priority = init.getIntProperty(PRIORITY_PROPERTY, 0);
+      this.retryAfterSeconds = Math.max(1L, InitUtil.millisFromTime(init.getProperty(RETRY_AFTER_PROPERTY, DEFAULT_RETRY_AFTER)) / 1000L);
+   }
+
+   /**
+    * Creates the default lane used for requests that match no other lane.
+    * @return The default lane.
+    */
+   static QoSLane defaultLane() {
+      return new QoSLane(DEFAULT_LANE_NAME, ImmutableList.of(), 0, DEFAULT_MAX_QUEUED,
+              InitUtil.millisFromTime(DEFAULT_MAX_SUSPEND), 0,
+              InitUtil.millisFromTime(DEFAULT_RETRY_AFTER) / 1000L);
+   }
+
+   /**
+    * Does a path select this lane?
+    * @param path The path.
+    * @return Does the path match?
+    */
+   public boolean matches(final String path) {
+      return PathPattern.anyMatches(paths, path);
+   }
+
+   @Override
+   public String toString() {
+      return MoreObjects.toStringHelper(this)
+              .add("name", name)
+              .add("paths", paths)
+              .add("maxConcurrent", maxConcurrent)
+              .add("maxQueued", maxQueued)
+              .add("maxSuspendMillis", maxSuspendMillis)
+              .add("priority", priority)
+              .add("retryAfterSeconds", retryAfterSeconds)
+              .toString();
+   }
+
+   /**
+    * The name of the lane for requests that match no other lane ({@value}).
+    * <p>
+    *    Paths are ignored for this lane.
+    * </p>
+    */
+   public static final String DEFAULT_LANE_NAME = "default";
+
+   /**
+    * The property name for a comma-separated list of paths ({@value}).
+    */
+   public static final String PATHS_PROPERTY = "paths";
+
+   /**
+    * The maximum concurrent requests property name ({@value}).
+    */
+   public static final String MAX_CONCURRENT_PROPERTY = "maxConcurrent";
+
+   /**
+    * The maximum waiting requests property name ({@value}).
+    */
+   public static final String MAX_QUEUED_PROPERTY = "maxQueued";
+
+   /**
+    * The default maximum waiting requests ({@value}).
+    */
+   public static final int DEFAULT_MAX_QUEUED = 100;
+
+   /**
+    * The maximum wait time property name ({@value}).
+    */
+   public static final String MAX_SUSPEND_PROPERTY = "maxSuspend";
+
+   /**
+    * The default maximum wait time ({@value}).
+    */
+   public static final String DEFAULT_MAX_SUSPEND = "5s";
+
+   /**
+    * The priority property name ({@value}).
+    */
+   public static final String PRIORITY_PROPERTY = "priority";
+
+   /**
+    * The {@code Retry-After} time property name ({@value}).
+    */
+   public static final String RETRY_AFTER_PROPERTY = "retryAfter";
+
+   /**
+    * The default {@code Retry-After} time ({@value}).
+    */
+   public static final String DEFAULT_RETRY_AFTER = "1s";
+
+   /**
+    * The lane name.
+    */
+   public final String name;
+
+   /**
+    * The paths that select this lane.
+    */
+   public final ImmutableList<PathPattern> paths;
+
+   /**
+    * The maximum concurrent requests, or {@code 0} if only the server limit applies.
+    */
+   public final int maxConcurrent;
+
+   /**
+    * The maximum number of requests waiting for a permit.
+    */
+   public final int maxQueued;
+
+   /**
+    * The maximum time in milliseconds a request waits before it is rejected.
+    */
+   public final long maxSuspendMillis;
+
+   /**
+    * The priority. Higher values are resumed first.
+    */
+   public final int priority;
+
+   /**
+    * The {@code Retry-After} value in seconds sent with rejections.
+    */
+   public final long retryAfterSeconds;
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import org.attribyte.api.InitializationException;
+import org.attribyte.snook.PathPattern;
+import org.attribyte.util.InitUtil;
+
+import java.util.Properties;
+
+/**
+ * Configuration for a request rate limit applied to a set of paths.
+ */
+public class RateLimit {
+
+   /**
+    * Identifies the client a rate limit applies to.
+    */
+   public enum Key {
+
+      /**
+       * The remote address. If the forwarded request customizer is enabled, this is the forwarded client address.
+       */
+      IP,
+
+      /**
+       * The username authorized by an authenticator. Unauthorized requests are keyed by remote address.
+       */
+      USER,
+
+      /**
+       * The value of a request header. Requests without the header are keyed by remote address.
+       */
+      HEADER;
+
+      /**
+       * Gets a key from a string.
+       * @param str The string.
+       * @return The key.
+       * @throws InitializationException if the key is invalid.
+       */
+      public static Key fromString(final String str) throws InitializationException {
+         switch(Strings.nullToEmpty(str).trim().toLowerCase()) {
+            case "":
+            case "ip":
+               return IP;
+            case "user":
+               return USER;
+            case "header":
+               return HEADER;
+            default:
+               throw new InitializationException(String.format("Invalid rate limit key, '%s'", str));
+         }
+      }
+   }
+
+   /**
+    * Creates a rate limit.
+    * @param name The name.
+    * @param paths The paths the limit applies to.
+    * @param permitsPerSecond The sustained requests per second allowed for each key.
+    * @param burst The maximum requests allowed at once for each key.
+    * @param key The key type.
+    * @param header The header name if the key type is {@code HEADER}.
+    * @param maxKeys The maximum number of keys tracked.
+    */
+   public RateLimit(final String name, final ImmutableList<PathPattern> paths,
+                    final double permitsPerSecond, final int burst,
+                    final Key key, final String header, final int maxKeys) {
+      this.name = name;
+      this.paths = paths;
+      this.permitsPerSecond = permitsPerSecond;
+      this.burst = burst;
+      this.key = key;
+      this.header = Strings.nullToEmpty(header);
+      this.maxKeys = maxKeys;
+   }
+
+   /**
+    * Creates a rate limit from properties.
+    * @param name The name.
+    * @param props The properties.
+    * @throws InitializationException on invalid configuration.
+    */
+   public RateLimit(final String name, final Properties props) throws InitializationException {
+      InitUtil init = new InitUtil("", props, true);
+      this.name = name;
+      this.paths = PathPattern.parseList(init.getProperty(PATHS_PROPERTY, ""));
+      if(this.paths.isEmpty()) {
+         throw new InitializationException(String.format("The 'paths' must be specified for rate limit, '%s'", name));
+      }
+      try {
+         this.permitsPerSecond = Double.parseDouble(init.getProperty(RATE_PROPERTY, "0").trim());
+      } catch(NumberFormatException nfe) {
+         throw new InitializationException(String.format("Invalid '%s' for rate limit, '%s'", RATE_PROPERTY, name));
+      }
+      if(this.permitsPerSecond <= 0.0) {
+         throw new InitializationException(String.format("The '%s' must be positive for rate limit, '%s'", RATE_PROPERTY, name));
+      }
+      this.burst = init.getIntProperty(BURST_PROPERTY, (int)Math.max(1.0, Math.ceil(permitsPerSecond)));
+      this.key = Key.fromString(init.getProperty(KEY_PROPERTY, "ip"));
+      this.header = init.getProperty(HEADER_PROPERTY, "").trim();
+      if(this.key == Key.HEADER && this.header.isEmpty()) {
+         throw new InitializationException(String.format("The '%s' must be specified for rate limit, '%s'", HEADER_PROPERTY, name));
+      }
+      this.maxKeys = init.getIntProperty(MAX_KEYS_PROPERTY, DEFAULT_MAX_KEYS);
+      if(this.burst < 1 || this.maxKeys < 1) {
+         throw new InitializationException(String.format("The '%s' and '%s' must be positive for rate limit, '%s'",
+                 BURST_PROPERTY, MAX_KEYS_PROPERTY, name));
+      }
+   }
+
+   /**
+    * Does the limit apply to a path?
+    * @param path The path.
+    * @return Does the path match?
+    */
+   public boolean matches(final String path) {
+      return PathPattern.anyMatches(paths, path);
+   }
+
+   @Override
+   public String toString() {
+      return MoreObjects.toStringHelper(this)
+              .add("name", name)
+              .add("paths", paths)
+              .add("permitsPerSecond", permitsPerSecond)
+              .add("burst", burst)
+              .add("key", key)
+              .add("header", header)
+              .add("maxKeys", maxKeys)
+              .toString();
+   }
+
+   /**
+    * The property name for a comma-separated list of paths ({@value}).
+    */
+   public static final String PATHS_PROPERTY = "paths";
+
+   /**
+    * The sustained requests per second property name ({@value}).
+    */
+   public static final String RATE_PROPERTY = "rate";
+
+   /**
+    * The burst size property name ({@value}).
+    * <p>
+    *    If unspecified, the burst is the rate, rounded up.
+    * </p>
+    */
+   public static final String BURST_PROPERTY = "burst";
+
+   /**
+    * The key type property name ({@value}).
+    * <p>
+    *    One of {@code ip}, {@code user} or {@code header}.
+    * </p>
+    */
+   public static final String KEY_PROPERTY = "key";
+
+   /**
+    * The key header name property name ({@value}).
+    */
+   public static final String HEADER_PROPERTY = "header";
+
+   /**
+    * The maximum number of tracked keys property name ({@value}).
+    */
+   public static final String MAX_KEYS_PROPERTY = "maxKeys";
+
+   /**
+    * The default maximum number of tracked keys ({@value}).
+    */
+   public static final int DEFAULT_MAX_KEYS = 100000;
+
+   /**
+    * The name.
+    */
+   public final String name;
+
+   /**
+    * The paths the limit applies to.
+    */
+   public final ImmutableList<PathPattern> paths;
+
+   /**
+    * The sustained requests per second allowed for each key.
+    */
+   public final double permitsPerSecond;
+
+   /**
+    * The maximum requests allowed at once for each key.
+    */
+   public final int burst;
+
+   /**
+    * The key type.
+    */
+   public final Key key;
+
+   /**
+    * The header name if the key type is {@code HEADER}, otherwise empty.
+    */
+   public final String header;
+
+   /**
+    * The maximum number of keys tracked.
+    */
+   public final int maxKeys;
+}
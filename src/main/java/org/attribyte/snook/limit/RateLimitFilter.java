@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.attribyte.snook.HTTPUtil;
+import org.attribyte.snook.WarmUpRunner;
+import org.attribyte.snook.auth.Authenticator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A filter that rejects requests with {@code 429} and a {@code Retry-After} header
+ * when a client exceeds a rate limit.
+ * <p>
+ *    Warm-up requests are not limited.
+ * </p>
+ */
+public class RateLimitFilter implements Filter, MetricSet {
+
+   /**
+    * Creates the filter.
+    * @param limit The limit.
+    * @param authenticator The authenticator used to identify users. Required if the limit is keyed by user.
+    * @throws IllegalArgumentException if the limit is keyed by user and the authenticator is {@code null}.
+    */
+   public RateLimitFilter(final RateLimit limit, final Authenticator<?> authenticator) {
+      if(limit.key == RateLimit.Key.USER && authenticator == null) {
+         throw new IllegalArgumentException(String.format("An authenticator is required for rate limit, '%s'", limit.name));
+      }
+      this.limit = limit;
+      this.authenticator = authenticator;
+      this.buckets = new TokenBuckets(limit.permitsPerSecond, limit.burst, limit.maxKeys);
+   }
+
+   @Override
+   public void doFilter(final ServletRequest request, final ServletResponse response,
+                        final FilterChain chain) throws IOException, ServletException {
+      HttpServletRequest httpRequest = (HttpServletRequest)request;
+      if(WarmUpRunner.isWarmUp(httpRequest) || !limit.matches(HTTPUtil.pathInContext(httpRequest))) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      long waitNanos = buckets.acquire(key(httpRequest));
+      if(waitNanos == 0L) {
+         chain.doFilter(request, response);
+         return;
+      }
+
+      rejected.mark();
+      HttpServletResponse httpResponse = (HttpServletResponse)response;
+      long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1L) - 1L) / TimeUnit.SECONDS.toNanos(1L));
+      httpResponse.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+      httpResponse.sendError(TOO_MANY_REQUESTS_429);
+   }
+
+   /**
+    * Gets the key for a request.
+    * @param request The request.
+    * @return The key.
+    */
+   private String key(final HttpServletRequest request) {
+      switch(limit.key) {
+         case USER: {
+            String username = authenticator.authorizedUsername(request);
+            return username != null ? "u:" + username : request.getRemoteAddr();
+         }
+         case HEADER: {
+            String value = request.getHeader(limit.header);
+            return !Strings.isNullOrEmpty(value) ? "h:" + value : request.getRemoteAddr();
+         }
+         default:
+            return request.getRemoteAddr();
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.of(
+              "rejected", rejected,
+              "keys", (Gauge<Integer>)buckets::size,
+              "overflow", (Gauge<Long>)buckets::overflowCount,
+              "evicted", (Gauge<Long>)buckets::evictedCount
+      );
+   }
+
+   /**
+    * The status sent when a request is rejected ({@value}).
+    */
+   public static final int TOO_MANY_REQUESTS_429 = 429;
+
+   /**
+    * The limit.
+    */
+   public final RateLimit limit;
+
+   /**
+    * The authenticator, if any.
+    */
+   private final Authenticator<?> authenticator;
+
+   /**
+    * A bucket for each key.
+    */
+   private final TokenBuckets buckets;
+
+   /**
+    * Meters rejected requests.
+    */
+   private final Meter rejected = new Meter();
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded table of token buckets, one for each key.
+ * <p>
+ *    Each bucket is a single {@code AtomicLong} that holds the time its tokens will be full again
+ *    (the generic cell rate algorithm), so acquiring a permit is a lock-free compare-and-set.
+ *    The table is a {@code ConcurrentHashMap}, which stripes updates across bins.
+ *    A bucket that is full is indistinguishable from a missing bucket, so idle buckets are evicted
+ *    periodically without changing any limit. If the table is full, new keys share a single overflow bucket.
+ * </p>
+ */
+public class TokenBuckets {
+
+   /**
+    * Creates the table.
+    * @param permitsPerSecond The rate at which tokens are added to each bucket.
+    * @param burst The maximum number of tokens in a bucket.
+    * @param maxKeys The maximum number of buckets.
+    */
+   public TokenBuckets(final double permitsPerSecond, final int burst, final int maxKeys) {
+      if(permitsPerSecond <= 0.0 || burst < 1 || maxKeys < 1) {
+         throw new IllegalArgumentException("The 'permitsPerSecond', 'burst' and 'maxKeys' must be positive");
+      }
+      this.permitsPerSecond = permitsPerSecond;
+      this.burst = burst;
+      this.maxKeys = maxKeys;
+      this.intervalNanos = Math.max(1L, (long)(TimeUnit.SECONDS.toNanos(1L) / permitsPerSecond));
+      this.toleranceNanos = intervalNanos * (burst - 1);
+      this.sweepIntervalNanos = Math.max(TimeUnit.SECONDS.toNanos(1L), intervalNanos * burst);
+      this.nextSweepNanos = new AtomicLong(System.nanoTime() + sweepIntervalNanos);
+   }
+
+   /**
+    * Acquires a permit for a key.
+    * @param key The key.
+    * @return {@code 0} if a permit was acquired, otherwise the nanoseconds until a permit is available.
+    */
+   public long acquire(final String key) {
+      return acquire(key, System.nanoTime());
+   }
+
+   /**
+    * Acquires a permit for a key at a time.
+    * @param key The key.
+    * @param nowNanos The current time.
+    * @return {@code 0} if a permit was acquired, otherwise the nanoseconds until a permit is available.
+    */
+   long acquire(final String key, final long nowNanos) {
+      long nextSweep = nextSweepNanos.get();
+      if(nowNanos >= nextSweep && nextSweepNanos.compareAndSet(nextSweep, nowNanos + sweepIntervalNanos)) {
+         evictIdle(nowNanos);
+      }
+      return acquire(bucket(key), nowNanos);
+   }
+
+   /**
+    * Acquires a permit from a bucket.
+    * @param bucket The bucket.
+    * @param nowNanos The current time.
+    * @return {@code 0} if a permit was acquired, otherwise the nanoseconds until a permit is available.
+    */
+   private long acquire(final AtomicLong bucket, final long nowNanos) {
+      while(true) {
+         long fullAt = bucket.get();
+         long start = Math.max(fullAt, nowNanos);
+         long wait = start - nowNanos - toleranceNanos;
+         if(wait > 0L) {
+            return wait;
+         }
+         if(bucket.compareAndSet(fullAt, start + intervalNanos)) {
+            return 0L;
+         }
+      }
+   }
+
+   /**
+    * Gets the bucket for a key, creating it if the table is not full.
+    * @param key The key.
+    * @return The bucket or the overflow bucket.
+    */
+   private AtomicLong bucket(final String key) {
+      AtomicLong bucket = buckets.get(key);
+      if(bucket != null) {
+         return bucket;
+      }
+      if(buckets.size() >= maxKeys) {
+         overflowCount.incrementAndGet();
+         return overflow;
+      }
+      return buckets.computeIfAbsent(key, k -> new AtomicLong(Long.MIN_VALUE));
+   }
+
+   /**
+    * Removes buckets that are full.
+    * <p>
+    *    A permit acquired concurrently with removal may be forgotten, allowing at most one extra request.
+    * </p>
+    * @param nowNanos The current time.
+    * @return The number of buckets removed.
+    */
+   int evictIdle(final long nowNanos) {
+      int removed = 0;
+      for(Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+         if(entry.getValue().get() <= nowNanos && buckets.remove(entry.getKey(), entry.getValue())) {
+            removed++;
+         }
+      }
+      evictedCount.addAndGet(removed);
+      return removed;
+   }
+
+   /**
+    * Gets the number of buckets.
+    * @return The number of buckets.
+    */
+   public int size() {
+      return buckets.size();
+   }
+
+   /**
+    * Gets the number of requests for new keys that used the overflow bucket because the table was full.
+    * @return The overflow count.
+    */
+   public long overflowCount() {
+      return overflowCount.get();
+   }
+
+   /**
+    * Gets the number of idle buckets evicted.
+    * @return The eviction count.
+    */
+   public long evictedCount() {
+      return evictedCount.get();
+   }
+
+   @Override
+   public String toString() {
+      return MoreObjects.toStringHelper(this)
+              .add("permitsPerSecond", permitsPerSecond)
+              .add("burst", burst)
+              .add("maxKeys", maxKeys)
+              .add("size", buckets.size())
+              .toString();
+   }
+
+   private final double permitsPerSecond;
+   private final int burst;
+   private final int maxKeys;
+
+   /**
+    * The time between tokens.
+    */
+   private final long intervalNanos;
+
+   /**
+    * How far ahead of now a bucket's full time may be while still having a token.
+    */
+   private final long toleranceNanos;
+
+   /**
+    * The minimum time between evictions.
+    */
+   private final long sweepIntervalNanos;
+
+   /**
+    * The time of the next eviction.
+    */
+   private final AtomicLong nextSweepNanos;
+
+   /**
+    * The buckets: the time at which each is full.
+    */
+   private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+   /**
+    * The bucket shared by new keys when the table is full.
+    */
+   private final AtomicLong overflow = new AtomicLong(Long.MIN_VALUE);
+
+   private final AtomicLong overflowCount = new AtomicLong();
+   private final AtomicLong evictedCount = new AtomicLong();
+}
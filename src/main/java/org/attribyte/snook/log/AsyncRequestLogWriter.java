@@ -0,0 +1,391 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.attribyte.api.Logger;
+import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.util.component.AbstractLifeCycle;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A request log writer that queues entries in a ring buffer and writes them in batches on a single thread.
+ * <p>
+ *    Request threads never wait for disk I/O unless the overflow policy is {@code BLOCK} and the queue is full.
+ *    Files are rotated daily, named {@code <base>-yyyy_MM_dd.request.log}. Rotated files may be gzip-compressed
+ *    in the background. Files older than the retention period are deleted.
+ * </p>
+ */
+public class AsyncRequestLogWriter extends AbstractLifeCycle implements RequestLog.Writer, MetricSet {
+
+   /**
+    * What to do when the queue is full.
+    */
+   public enum OverflowPolicy {
+
+      /**
+       * Drop the entry and count it.
+       */
+      DROP,
+
+      /**
+       * Wait for space in the queue.
+       */
+      BLOCK;
+
+      /**
+       * Gets a policy from a string.
+       * @param str The string.
+       * @return The policy. {@code DROP} if the string is not {@code block}.
+       */
+      public static OverflowPolicy fromString(final String str) {
+         return Strings.nullToEmpty(str).trim().equalsIgnoreCase("block") ? BLOCK : DROP;
+      }
+   }
+
+   /**
+    * Creates the writer.
+    * @param directory The log directory.
+    * @param baseName The base file name.
+    * @param zoneId The time zone used to determine the date for rotation.
+    * @param retainDays The number of days to retain log files. If {@code 0}, files are retained forever.
+    * @param queueSize The maximum number of entries waiting to be written.
+    * @param overflowPolicy The overflow policy.
+    * @param compressRotated Should rotated files be gzip-compressed?
+    * @param logger A logger for write errors. May be {@code null}.
+    */
+   public AsyncRequestLogWriter(final File directory, final String baseName, final ZoneId zoneId,
+                                final int retainDays, final int queueSize,
+                                final OverflowPolicy overflowPolicy, final boolean compressRotated,
+                                final Logger logger) {
+      this.directory = directory;
+      this.baseName = baseName;
+      this.zoneId = zoneId;
+      this.retainDays = retainDays;
+      this.buffer = new RingBuffer<>(queueSize);
+      this.overflowPolicy = overflowPolicy;
+      this.compressRotated = compressRotated;
+      this.logger = logger;
+   }
+
+   @Override
+   public void write(final String entry) {
+      if(buffer.offer(entry)) {
+         return;
+      }
+
+      if(overflowPolicy == OverflowPolicy.BLOCK) {
+         while(isRunning()) {
+            LockSupport.parkNanos(BLOCK_WAIT_NANOS);
+            if(buffer.offer(entry)) {
+               return;
+            }
+         }
+      }
+      dropped.mark();
+   }
+
+   @Override
+   protected void doStart() throws Exception {
+      if(!directory.exists() && !directory.mkdirs()) {
+         throw new IOException(String.format("Unable to create request log directory, '%s'", directory.getAbsolutePath()));
+      }
+      this.compressExecutor = Executors.newSingleThreadExecutor(
+              new ThreadFactoryBuilder().setNameFormat("request-log-compress-%d").setDaemon(true).build());
+      this.running = true;
+      this.writerThread = new Thread(this::run, "request-log-writer");
+      this.writerThread.start();
+      compressExecutor.execute(this::deleteExpired);
+      super.doStart();
+   }
+
+   @Override
+   protected void doStop() throws Exception {
+      running = false;
+      if(writerThread != null) {
+         writerThread.join(TimeUnit.SECONDS.toMillis(STOP_WAIT_SECONDS));
+      }
+      if(compressExecutor != null) {
+         compressExecutor.shutdown();
+         compressExecutor.awaitTermination(STOP_WAIT_SECONDS, TimeUnit.SECONDS);
+      }
+      super.doStop();
+   }
+
+   /**
+    * Writes queued entries until stopped and the queue is empty.
+    */
+   private void run() {
+      int batch = 0;
+      while(running || buffer.size() > 0) {
+         String entry = buffer.poll();
+         if(entry == null) {
+            if(batch > 0) {
+               flush();
+               batch = 0;
+            }
+            LockSupport.parkNanos(IDLE_WAIT_NANOS);
+            continue;
+         }
+
+         try {
+            Writer writer = currentWriter();
+            writer.write(entry);
+            writer.write('\n');
+            written.mark();
+            if(++batch >= MAX_BATCH_SIZE) {
+               flush();
+               batch = 0;
+            }
+         } catch(IOException ioe) {
+            writeErrors.mark();
+            logError("Request log write failed", ioe);
+            closeCurrent();
+         }
+      }
+      flush();
+      closeCurrent();
+   }
+
+   /**
+    * Gets the writer for the current day, rotating if the day has changed.
+    * @return The writer.
+    * @throws IOException if the file could not be opened.
+    */
+   private Writer currentWriter() throws IOException {
+      if(currentWriter != null && System.currentTimeMillis() < nextRotationMillis) {
+         return currentWriter;
+      }
+
+      File rotated = currentFile;
+      closeCurrent();
+      LocalDate today = LocalDate.now(zoneId);
+      currentFile = new File(directory, fileName(today));
+      currentWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(currentFile, true), StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+      nextRotationMillis = today.plusDays(1).atStartOfDay(zoneId).toInstant().toEpochMilli();
+      if(rotated != null && !rotated.equals(currentFile)) {
+         compressExecutor.execute(() -> {
+            if(compressRotated) {
+               compress(rotated);
+            }
+            deleteExpired();
+         });
+      }
+      return currentWriter;
+   }
+
+   /**
+    * Flushes the current writer.
+    */
+   private void flush() {
+      if(currentWriter != null) {
+         try {
+            currentWriter.flush();
+         } catch(IOException ioe) {
+            writeErrors.mark();
+            logError("Request log flush failed", ioe);
+            closeCurrent();
+         }
+      }
+   }
+
+   /**
+    * Closes the current writer, if open.
+    */
+   private void closeCurrent() {
+      if(currentWriter != null) {
+         try {
+            currentWriter.close();
+         } catch(IOException ioe) {
+            logError("Request log close failed", ioe);
+         }
+         currentWriter = null;
+      }
+   }
+
+   /**
+    * Compresses a rotated file, then deletes it.
+    * @param file The file.
+    */
+   private void compress(final File file) {
+      File compressed = new File(file.getParentFile(), file.getName() + ".gz");
+      try(InputStream is = new FileInputStream(file);
+          OutputStream os = new GZIPOutputStream(new FileOutputStream(compressed), WRITE_BUFFER_SIZE)) {
+         ByteStreams.copy(is, os);
+      } catch(IOException ioe) {
+         logError(String.format("Unable to compress request log, '%s'", file.getAbsolutePath()), ioe);
+         compressed.delete();
+         return;
+      }
+      if(!file.delete()) {
+         logError(String.format("Unable to delete compressed request log, '%s'", file.getAbsolutePath()));
+      }
+   }
+
+   /**
+    * Deletes log files older than the retention period.
+    */
+   private void deleteExpired() {
+      if(retainDays < 1) {
+         return;
+      }
+      String oldest = fileName(LocalDate.now(zoneId).minusDays(retainDays));
+      String prefix = baseName + "-";
+      File[] files = directory.listFiles((dir, name) -> name.startsWith(prefix) &&
+              (name.endsWith(FILE_SUFFIX) || name.endsWith(FILE_SUFFIX + ".gz")));
+      if(files == null) {
+         return;
+      }
+      for(File file : files) {
+         //Names sort by date.
+         if(file.getName().compareTo(oldest) < 0 && !file.delete()) {
+            logError(String.format("Unable to delete expired request log, '%s'", file.getAbsolutePath()));
+         }
+      }
+   }
+
+   /**
+    * Gets the file name for a date.
+    * @param date The date.
+    * @return The file name.
+    */
+   private String fileName(final LocalDate date) {
+      return baseName + "-" + FILE_DATE_FORMAT.format(date) + FILE_SUFFIX;
+   }
+
+   private void logError(final String message) {
+      if(logger != null) {
+         logger.error(message);
+      } else {
+         System.err.println(message);
+      }
+   }
+
+   private void logError(final String message, final Throwable t) {
+      if(logger != null) {
+         logger.error(message, t);
+      } else {
+         System.err.println(message);
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.of(
+              "queue-depth", (Gauge<Integer>)buffer::size,
+              "queue-capacity", (Gauge<Integer>)buffer::capacity,
+              "written", written,
+              "dropped", dropped,
+              "write-errors", writeErrors
+      );
+   }
+
+   /**
+    * The suffix for log files ({@value}).
+    */
+   public static final String FILE_SUFFIX = ".request.log";
+
+   /**
+    * The format for the date in file names.
+    */
+   private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy_MM_dd");
+
+   /**
+    * The maximum entries written before a flush ({@value}).
+    */
+   private static final int MAX_BATCH_SIZE = 1024;
+
+   /**
+    * The size of the file write buffer ({@value}).
+    */
+   private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+   /**
+    * The time the writer waits when the queue is empty.
+    */
+   private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(5L);
+
+   /**
+    * The time a request thread waits for space when blocking.
+    */
+   private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100L);
+
+   /**
+    * The maximum time to wait for queued entries to be written on stop ({@value}).
+    */
+   private static final long STOP_WAIT_SECONDS = 10L;
+
+   private final File directory;
+   private final String baseName;
+   private final ZoneId zoneId;
+   private final int retainDays;
+   private final RingBuffer<String> buffer;
+   private final OverflowPolicy overflowPolicy;
+   private final boolean compressRotated;
+   private final Logger logger;
+
+   private final Meter written = new Meter();
+   private final Meter dropped = new Meter();
+   private final Meter writeErrors = new Meter();
+
+   private volatile boolean running;
+   private Thread writerThread;
+   private ExecutorService compressExecutor;
+
+   /**
+    * The current file. Accessed only by the writer thread.
+    */
+   private File currentFile;
+
+   /**
+    * The current writer. Accessed only by the writer thread.
+    */
+   private Writer currentWriter;
+
+   /**
+    * The time at which the current file is rotated. Accessed only by the writer thread.
+    */
+   private long nextRotationMillis;
+}
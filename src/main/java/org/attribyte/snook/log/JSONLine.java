@@ -0,0 +1,153 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+/**
+ * Builds a single-line JSON object in a reusable buffer.
+ * <p>
+ *    Fields are appended directly with no intermediate objects or format strings.
+ *    Instances are not thread-safe and are intended to be reused, one per thread.
+ * </p>
+ */
+public final class JSONLine {
+
+   /**
+    * Creates a line with an initial buffer capacity.
+    * @param capacity The initial capacity.
+    */
+   public JSONLine(final int capacity) {
+      this.buf = new StringBuilder(capacity);
+   }
+
+   /**
+    * Clears the buffer and starts a new object.
+    * @return A self-reference.
+    */
+   public JSONLine start() {
+      buf.setLength(0);
+      buf.append('{');
+      return this;
+   }
+
+   /**
+    * Adds a string field. If the value is {@code null}, the field is omitted.
+    * @param name The field name. Must not require escaping.
+    * @param value The value.
+    * @return A self-reference.
+    */
+   public JSONLine field(final String name, final CharSequence value) {
+      if(value != null) {
+         name(name);
+         buf.append('"');
+         appendEscaped(buf, value);
+         buf.append('"');
+      }
+      return this;
+   }
+
+   /**
+    * Adds a numeric field.
+    * @param name The field name. Must not require escaping.
+    * @param value The value.
+    * @return A self-reference.
+    */
+   public JSONLine field(final String name, final long value) {
+      name(name);
+      buf.append(value);
+      return this;
+   }
+
+   /**
+    * Adds a numeric field if the value is not negative.
+    * @param name The field name. Must not require escaping.
+    * @param value The value.
+    * @return A self-reference.
+    */
+   public JSONLine fieldIfKnown(final String name, final long value) {
+      return value < 0L ? this : field(name, value);
+   }
+
+   /**
+    * Ends the object.
+    * @return The line.
+    */
+   public String end() {
+      buf.append('}');
+      return buf.toString();
+   }
+
+   /**
+    * Gets the current buffer capacity.
+    * @return The capacity.
+    */
+   public int capacity() {
+      return buf.capacity();
+   }
+
+   private void name(final String name) {
+      if(buf.length() > 1) {
+         buf.append(',');
+      }
+      buf.append('"').append(name).append("\":");
+   }
+
+   /**
+    * Appends a JSON-escaped string.
+    * @param buf The buffer.
+    * @param str The string.
+    */
+   static void appendEscaped(final StringBuilder buf, final CharSequence str) {
+      for(int i = 0; i < str.length(); i++) {
+         char ch = str.charAt(i);
+         switch(ch) {
+            case '"':
+               buf.append("\\\"");
+               break;
+            case '\\':
+               buf.append("\\\\");
+               break;
+            case '\n':
+               buf.append("\\n");
+               break;
+            case '\r':
+               buf.append("\\r");
+               break;
+            case '\t':
+               buf.append("\\t");
+               break;
+            default:
+               //Control characters and line/paragraph separators are escaped so each entry stays on one line.
+               if(ch < 0x20 || ch == 0x2028 || ch == 0x2029) {
+                  buf.append("\\u");
+                  buf.append(HEX[(ch >> 12) & 0xF]).append(HEX[(ch >> 8) & 0xF]);
+                  buf.append(HEX[(ch >> 4) & 0xF]).append(HEX[ch & 0xF]);
+               } else {
+                  buf.append(ch);
+               }
+         }
+      }
+   }
+
+   private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+   /**
+    * The buffer.
+    */
+   private final StringBuilder buf;
+}
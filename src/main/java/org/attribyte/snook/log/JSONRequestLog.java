@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import org.attribyte.api.Logger;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.component.ContainerLifeCycle;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request log that writes one JSON object per line.
+ * <p>
+ *    Each entry has the request start time ({@code ts}, epoch millis), method, URI, protocol, status, remote address,
+ *    content bytes in and out, and the total time in microseconds. If {@link RequestTimingHandler} is installed,
+ *    entries also have time to first byte ({@code ttfb_us}), authentication time ({@code auth_us}),
+ *    handler time ({@code handler_us}), the username recorded by {@link org.attribyte.snook.auth.TimedAuthenticator}
+ *    and the request id. Extended entries add the referrer and user agent.
+ * </p>
+ * <p>
+ *    Entries are built in a reused per-thread buffer.
+ * </p>
+ */
+public class JSONRequestLog extends ContainerLifeCycle implements RequestLog {
+
+   /**
+    * Creates the log.
+    * @param writer The writer.
+    * @param extended Should the referrer and user agent be logged?
+    * @param logger A logger for write errors. May be {@code null}.
+    */
+   public JSONRequestLog(final RequestLog.Writer writer, final boolean extended, final Logger logger) {
+      this.writer = writer;
+      this.extended = extended;
+      this.logger = logger;
+      addBean(writer);
+   }
+
+   @Override
+   public void log(final Request request, final Response response) {
+      long nowNanos = System.nanoTime();
+      JSONLine line = LINE.get();
+      line.start()
+              .field("ts", Request.getTimeStamp(request))
+              .field("method", request.getMethod())
+              .field("uri", request.getHttpURI().getPathQuery())
+              .field("protocol", request.getConnectionMetaData().getProtocol())
+              .field("status", response.getStatus())
+              .field("remote", Request.getRemoteAddr(request))
+              .field("bytes_in", Request.getContentBytesRead(request))
+              .field("bytes_out", Response.getContentBytesWritten(response))
+              .field("total_us", micros(nowNanos - request.getBeginNanoTime()));
+
+      Object attribute = request.getAttribute(RequestTiming.ATTRIBUTE);
+      if(attribute instanceof RequestTiming) {
+         RequestTiming timing = (RequestTiming)attribute;
+         if(timing.firstByteNanos() != 0L) {
+            line.field("ttfb_us", micros(timing.firstByteNanos() - request.getBeginNanoTime()));
+         }
+         line.field("auth_us", micros(timing.authNanos()));
+         long handlerNanos = timing.handlerNanos();
+         line.fieldIfKnown("handler_us", handlerNanos < 0L ? -1L : micros(handlerNanos));
+         line.field("user", timing.username());
+         line.field("request_id", timing.requestId());
+      }
+
+      if(extended) {
+         line.field("referrer", request.getHeaders().get(HttpHeader.REFERER));
+         line.field("user_agent", request.getHeaders().get(HttpHeader.USER_AGENT));
+      }
+
+      String entry = line.end();
+      if(line.capacity() > MAX_RETAINED_CAPACITY) {
+         LINE.remove();
+      }
+
+      try {
+         writer.write(entry);
+      } catch(IOException ioe) {
+         if(logger != null) {
+            logger.error("Request log write failed", ioe);
+         }
+      }
+   }
+
+   private static long micros(final long nanos) {
+      return TimeUnit.NANOSECONDS.toMicros(nanos);
+   }
+
+   /**
+    * The initial per-thread buffer capacity ({@value}).
+    */
+   private static final int INITIAL_CAPACITY = 512;
+
+   /**
+    * The maximum buffer capacity retained by a thread after an unusually long entry ({@value}).
+    */
+   private static final int MAX_RETAINED_CAPACITY = 8 * 1024;
+
+   private static final ThreadLocal<JSONLine> LINE = ThreadLocal.withInitial(() -> new JSONLine(INITIAL_CAPACITY));
+
+   private final RequestLog.Writer writer;
+   private final boolean extended;
+   private final Logger logger;
+}
@@ -27,6 +27,7 @@ import org.apache.logging.log4j.core.config.builder.api.LayoutComponentBuilder;
 import org.apache.logging.log4j.core.config.builder.api.LoggerComponentBuilder;
 import org.apache.logging.log4j.core.config.builder.api.ComponentBuilder;
 import org.apache.logging.log4j.core.config.builder.impl.BuiltConfiguration;
+import org.attribyte.api.InitializationException;
 import org.attribyte.util.InitUtil;
 
 import java.util.Map;
@@ -76,6 +77,35 @@ public class Log4jConfigurator {
     */
    static final String DEFAULT_MAX_FILE_SIZE = "250 MB";
 
+   /**
+    * Verifies that properties configure log4j2 without error.
+    * <p>
+    *    Use before {@link #configure(Properties)} when the configuration must be applied completely or not at all,
+    *    as when configuration is reloaded.
+    * </p>
+    * @param props The properties.
+    * @throws InitializationException if no {@code logger.*} properties are present or a level is invalid.
+    */
+   public static void validate(final Properties props) throws InitializationException {
+      InitUtil loggerInit = new InitUtil("logger.", props, false);
+      Map<String, Properties> loggerConfigs = loggerInit.split();
+      if(loggerConfigs.isEmpty()) {
+         throw new InitializationException("No 'logger.' properties are configured");
+      }
+
+      String rootLevel = props.getProperty("log.rootLevel", DEFAULT_ROOT_LEVEL).trim();
+      if(Level.getLevel(rootLevel.toUpperCase()) == null) {
+         throw new InitializationException(String.format("Invalid 'log.rootLevel', '%s'", rootLevel));
+      }
+
+      for(Map.Entry<String, Properties> entry : loggerConfigs.entrySet()) {
+         String level = entry.getValue().getProperty("level", "INFO").trim();
+         if(Level.getLevel(level.toUpperCase()) == null) {
+            throw new InitializationException(String.format("Invalid 'level' for logger, '%s': '%s'", entry.getKey(), level));
+         }
+      }
+   }
+
    /**
     * Configures log4j2 from properties.
     * @param props The properties.
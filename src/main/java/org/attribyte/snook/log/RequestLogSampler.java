@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import org.attribyte.api.InitializationException;
+import org.attribyte.snook.PathPattern;
+import org.attribyte.util.InitUtil;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides which requests are written to the request log.
+ * <p>
+ *    Errors and slow requests are always logged. Otherwise, requests for excluded paths are not logged,
+ *    and other requests are logged at the rate of the first matching sample rule, checked in name order,
+ *    or the default rate if none match.
+ * </p>
+ */
+public class RequestLogSampler {
+
+   /**
+    * A sample rate for a set of paths.
+    */
+   public static class Rule {
+
+      /**
+       * Creates a rule.
+       * @param name The rule name.
+       * @param paths The paths.
+       * @param rate The fraction of requests logged, in [0, 1].
+       */
+      public Rule(final String name, final ImmutableList<PathPattern> paths, final double rate) {
+         this.name = name;
+         this.paths = paths;
+         this.rate = rate;
+      }
+
+      @Override
+      public String toString() {
+         return MoreObjects.toStringHelper(this)
+                 .add("name", name)
+                 .add("paths", paths)
+                 .add("rate", rate)
+                 .toString();
+      }
+
+      /**
+       * The rule name.
+       */
+      public final String name;
+
+      /**
+       * The paths.
+       */
+      public final ImmutableList<PathPattern> paths;
+
+      /**
+       * The fraction of requests logged.
+       */
+      public final double rate;
+   }
+
+   /**
+    * Creates a sampler.
+    * @param rules The sample rules, in the order checked.
+    * @param excludePaths Paths that are not logged unless the request is an error or slow.
+    * @param defaultRate The rate for requests that match no rule.
+    * @param errorStatus Requests with status at or above this are always logged.
+    * @param slowMillis Requests that take at least this long are always logged. If {@code 0}, no requests are slow.
+    */
+   public RequestLogSampler(final ImmutableList<Rule> rules, final ImmutableList<PathPattern> excludePaths,
+                            final double defaultRate, final int errorStatus, final long slowMillis) {
+      this.rules = rules;
+      this.excludePaths = excludePaths;
+      this.defaultRate = defaultRate;
+      this.errorStatus = errorStatus;
+      this.slowMillis = slowMillis;
+   }
+
+   /**
+    * Creates a sampler from properties.
+    * @param props The properties.
+    * @throws InitializationException on invalid configuration.
+    */
+   public RequestLogSampler(final Properties props) throws InitializationException {
+      InitUtil init = new InitUtil("", props, false);
+      this.excludePaths = PathPattern.parseList(init.getProperty(EXCLUDE_PROPERTY, ""));
+      this.defaultRate = rate(SAMPLE_RATE_PROPERTY, init.getProperty(SAMPLE_RATE_PROPERTY, "1.0"));
+      this.errorStatus = init.getIntProperty(ERROR_STATUS_PROPERTY, DEFAULT_ERROR_STATUS);
+      this.slowMillis = InitUtil.millisFromTime(init.getProperty(SLOW_PROPERTY, DEFAULT_SLOW));
+
+      Map<String, Properties> ruleProps = new TreeMap<>(new InitUtil(SAMPLE_PREFIX, props, false).split());
+      ImmutableList.Builder<Rule> rules = ImmutableList.builder();
+      for(Map.Entry<String, Properties> entry : ruleProps.entrySet()) {
+         InitUtil ruleInit = new InitUtil("", entry.getValue(), false);
+         ImmutableList<PathPattern> paths = PathPattern.parseList(ruleInit.getProperty(RULE_PATHS_PROPERTY, ""));
+         if(paths.isEmpty()) {
+            throw new InitializationException(String.format("The 'paths' must be specified for request log sample, '%s'", entry.getKey()));
+         }
+         rules.add(new Rule(entry.getKey(), paths, rate(SAMPLE_PREFIX + entry.getKey() + "." + RULE_RATE_PROPERTY,
+                 ruleInit.getProperty(RULE_RATE_PROPERTY, "1.0"))));
+      }
+      this.rules = rules.build();
+   }
+
+   /**
+    * Parses a rate.
+    * @param property The property name, for error messages.
+    * @param value The value.
+    * @return The rate.
+    * @throws InitializationException if the rate is not a number in [0, 1].
+    */
+   private static double rate(final String property, final String value) throws InitializationException {
+      try {
+         double rate = Double.parseDouble(value.trim());
+         if(rate >= 0.0 && rate <= 1.0) {
+            return rate;
+         }
+      } catch(NumberFormatException nfe) {
+         //Fall through...
+      }
+      throw new InitializationException(String.format("The '%s' must be a number in [0, 1]", property));
+   }
+
+   /**
+    * Does this sampler ever skip requests?
+    * @return {@code true} if any requests may be skipped.
+    */
+   public boolean isSampling() {
+      return !excludePaths.isEmpty() || defaultRate < 1.0 || rules.stream().anyMatch(rule -> rule.rate < 1.0);
+   }
+
+   /**
+    * Should a request be logged?
+    * @param path The request path.
+    * @param status The response status.
+    * @param elapsedMillis The time taken.
+    * @return {@code true} if the request should be logged.
+    */
+   public boolean shouldLog(final String path, final int status, final long elapsedMillis) {
+      return shouldLog(path, status, elapsedMillis, ThreadLocalRandom.current().nextDouble());
+   }
+
+   /**
+    * Should a request be logged?
+    * @param path The request path.
+    * @param status The response status.
+    * @param elapsedMillis The time taken.
+    * @param random A random number in [0, 1).
+    * @return {@code true} if the request should be logged.
+    */
+   boolean shouldLog(final String path, final int status, final long elapsedMillis, final double random) {
+      if(status >= errorStatus || (slowMillis > 0L && elapsedMillis >= slowMillis)) {
+         return true;
+      }
+      if(PathPattern.anyMatches(excludePaths, path)) {
+         return false;
+      }
+      return random < rate(path);
+   }
+
+   /**
+    * Gets the sample rate for a path.
+    * @param path The path.
+    * @return The rate.
+    */
+   private double rate(final String path) {
+      for(Rule rule : rules) {
+         if(PathPattern.anyMatches(rule.paths, path)) {
+            return rule.rate;
+         }
+      }
+      return defaultRate;
+   }
+
+   @Override
+   public String toString() {
+      return MoreObjects.toStringHelper(this)
+              .add("rules", rules)
+              .add("excludePaths", excludePaths)
+              .add("defaultRate", defaultRate)
+              .add("errorStatus", errorStatus)
+              .add("slowMillis", slowMillis)
+              .toString();
+   }
+
+   /**
+    * The comma-separated paths that are not logged property name ({@value}).
+    */
+   public static final String EXCLUDE_PROPERTY = "requestLogExclude";
+
+   /**
+    * The rate for requests that match no sample rule property name ({@value}).
+    */
+   public static final String SAMPLE_RATE_PROPERTY = "requestLogSampleRate";
+
+   /**
+    * The prefix for sample rules ({@value}).
+    * <p>
+    *    For example, {@code requestLogSample.assets.paths=/css/*,/js/*} and {@code requestLogSample.assets.rate=0.01}.
+    * </p>
+    */
+   public static final String SAMPLE_PREFIX = "requestLogSample.";
+
+   /**
+    * The comma-separated paths for a sample rule property name ({@value}).
+    */
+   public static final String RULE_PATHS_PROPERTY = "paths";
+
+   /**
+    * The sample rate for a rule property name ({@value}).
+    */
+   public static final String RULE_RATE_PROPERTY = "rate";
+
+   /**
+    * The status at or above which requests are always logged property name ({@value}).
+    */
+   public static final String ERROR_STATUS_PROPERTY = "requestLogErrorStatus";
+
+   /**
+    * The default error status ({@value}).
+    */
+   public static final int DEFAULT_ERROR_STATUS = 500;
+
+   /**
+    * The time at or above which requests are always logged property name ({@value}).
+    */
+   public static final String SLOW_PROPERTY = "requestLogSlow";
+
+   /**
+    * The default slow request time ({@value}).
+    */
+   public static final String DEFAULT_SLOW = "1s";
+
+   /**
+    * The sample rules, in the order checked.
+    */
+   public final ImmutableList<Rule> rules;
+
+   /**
+    * Paths that are not logged unless the request is an error or slow.
+    */
+   public final ImmutableList<PathPattern> excludePaths;
+
+   /**
+    * The rate for requests that match no rule.
+    */
+   public final double defaultRate;
+
+   /**
+    * Requests with status at or above this are always logged.
+    */
+   public final int errorStatus;
+
+   /**
+    * Requests that take at least this long are always logged.
+    */
+   public final long slowMillis;
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import jakarta.servlet.ServletRequest;
+
+/**
+ * Per-request timing recorded for the JSON request log.
+ * <p>
+ *    An instance is attached to each request as the attribute {@link #ATTRIBUTE} by {@link RequestTimingHandler}.
+ *    All times are from {@link System#nanoTime()}.
+ * </p>
+ */
+public final class RequestTiming {
+
+   /**
+    * Creates timing for a request.
+    * @param requestId The request id.
+    * @param handlerStartNanos The time the request entered the handler.
+    */
+   RequestTiming(final String requestId, final long handlerStartNanos) {
+      this.requestId = requestId;
+      this.handlerStartNanos = handlerStartNanos;
+   }
+
+   /**
+    * Gets the timing for a request.
+    * @param request The request.
+    * @return The timing or {@code null} if timing is not enabled.
+    */
+   public static RequestTiming get(final ServletRequest request) {
+      Object timing = request.getAttribute(ATTRIBUTE);
+      return timing instanceof RequestTiming ? (RequestTiming)timing : null;
+   }
+
+   /**
+    * Adds time spent authenticating the request.
+    * @param nanos The elapsed nanoseconds.
+    * @param username The authenticated username, or {@code null} if not authenticated.
+    */
+   public void recordAuth(final long nanos, final String username) {
+      authNanos += nanos;
+      if(username != null) {
+         this.username = username;
+      }
+   }
+
+   /**
+    * Records the first response write, if not already recorded.
+    * @param nanos The time.
+    */
+   void recordFirstByte(final long nanos) {
+      if(firstByteNanos == 0L) {
+         firstByteNanos = nanos;
+      }
+   }
+
+   /**
+    * Records the time the handler completed, if not already recorded.
+    * @param nanos The time.
+    */
+   void recordComplete(final long nanos) {
+      if(completeNanos == 0L) {
+         completeNanos = nanos;
+      }
+   }
+
+   /**
+    * Gets the time the request entered the handler.
+    * @return The time.
+    */
+   public long handlerStartNanos() {
+      return handlerStartNanos;
+   }
+
+   /**
+    * Gets the time of the first response write.
+    * @return The time or {@code 0} if nothing has been written.
+    */
+   public long firstByteNanos() {
+      return firstByteNanos;
+   }
+
+   /**
+    * Gets the total time spent authenticating.
+    * @return The time in nanoseconds.
+    */
+   public long authNanos() {
+      return authNanos;
+   }
+
+   /**
+    * Gets the time spent in the handler, excluding authentication.
+    * <p>
+    *    Measured from handler entry to the first response write or, if nothing was written, to completion.
+    * </p>
+    * @return The time in nanoseconds or {@code -1} if unknown.
+    */
+   public long handlerNanos() {
+      long endNanos = firstByteNanos != 0L ? firstByteNanos : completeNanos;
+      return endNanos == 0L ? -1L : Math.max(0L, endNanos - handlerStartNanos - authNanos);
+   }
+
+   /**
+    * Gets the authenticated username.
+    * @return The username or {@code null} if none.
+    */
+   public String username() {
+      return username;
+   }
+
+   /**
+    * Gets the request id.
+    * @return The request id.
+    */
+   public String requestId() {
+      return requestId;
+   }
+
+   /**
+    * The request attribute name ({@value}).
+    */
+   public static final String ATTRIBUTE = "org.attribyte.snook.log.RequestTiming";
+
+   private final String requestId;
+   private final long handlerStartNanos;
+   private volatile long firstByteNanos;
+   private volatile long completeNanos;
+   private volatile long authNanos;
+   private volatile String username;
+}
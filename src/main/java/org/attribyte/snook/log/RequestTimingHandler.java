@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import com.google.common.base.Strings;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.Callback;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Attaches {@link RequestTiming} to each request and records the time of the first response write and completion.
+ * <p>
+ *    The request id is taken from a configured request header, if present, otherwise generated.
+ *    The id is echoed in the response with the same header.
+ * </p>
+ */
+public class RequestTimingHandler extends Handler.Wrapper {
+
+   /**
+    * Creates the handler.
+    * @param requestIdHeader The request id header name.
+    */
+   public RequestTimingHandler(final String requestIdHeader) {
+      this.requestIdHeader = requestIdHeader;
+      this.idPrefix = Long.toString(ThreadLocalRandom.current().nextLong() >>> 24, 36) + "-";
+   }
+
+   @Override
+   public boolean handle(final Request request, final Response response, final Callback callback) throws Exception {
+      String requestId = request.getHeaders().get(requestIdHeader);
+      if(Strings.isNullOrEmpty(requestId) || requestId.length() > MAX_REQUEST_ID_LENGTH) {
+         requestId = idPrefix + Long.toString(nextId.incrementAndGet(), 36);
+      }
+      response.getHeaders().put(requestIdHeader, requestId);
+
+      final RequestTiming timing = new RequestTiming(requestId, System.nanoTime());
+      request.setAttribute(RequestTiming.ATTRIBUTE, timing);
+
+      Response timedResponse = new Response.Wrapper(request, response) {
+         @Override
+         public void write(final boolean last, final ByteBuffer content, final Callback writeCallback) {
+            timing.recordFirstByte(System.nanoTime());
+            super.write(last, content, writeCallback);
+         }
+      };
+
+      Callback timedCallback = new Callback.Nested(callback) {
+         @Override
+         public void succeeded() {
+            timing.recordComplete(System.nanoTime());
+            super.succeeded();
+         }
+
+         @Override
+         public void failed(final Throwable x) {
+            timing.recordComplete(System.nanoTime());
+            super.failed(x);
+         }
+      };
+
+      return super.handle(request, timedResponse, timedCallback);
+   }
+
+   /**
+    * The default request id header ({@value}).
+    */
+   public static final String DEFAULT_REQUEST_ID_HEADER = "X-Request-Id";
+
+   /**
+    * The maximum length of a request id accepted from a client ({@value}).
+    */
+   private static final int MAX_REQUEST_ID_LENGTH = 128;
+
+   private final String requestIdHeader;
+
+   /**
+    * A random prefix that distinguishes ids generated by this instance.
+    */
+   private final String idPrefix;
+
+   /**
+    * The next generated id.
+    */
+   private final AtomicLong nextId = new AtomicLong();
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer for many producers and a single consumer.
+ * <p>
+ *    Producers claim a slot with a compare-and-set on the tail, then publish the element to the slot.
+ *    The consumer takes elements in order, clearing each slot before advancing the head.
+ * </p>
+ * @param <E> The element type.
+ */
+public class RingBuffer<E> {
+
+   /**
+    * Creates a ring buffer.
+    * @param capacity The minimum capacity. Rounded up to a power of two.
+    */
+   public RingBuffer(final int capacity) {
+      if(capacity < 1 || capacity > (1 << 30)) {
+         throw new IllegalArgumentException("The 'capacity' must be in [1, 2^30]");
+      }
+      int size = Integer.highestOneBit(capacity);
+      if(size < capacity) {
+         size = size << 1;
+      }
+      this.slots = new AtomicReferenceArray<>(size);
+      this.mask = size - 1;
+   }
+
+   /**
+    * Adds an element if there is space.
+    * @param element The element.
+    * @return Was the element added?
+    */
+   public boolean offer(final E element) {
+      if(element == null) {
+         throw new NullPointerException("The 'element' must not be null");
+      }
+      long claimed;
+      do {
+         claimed = tail.get();
+         if(claimed - head.get() >= slots.length()) {
+            return false;
+         }
+      } while(!tail.compareAndSet(claimed, claimed + 1));
+      slots.set((int)(claimed & mask), element);
+      return true;
+   }
+
+   /**
+    * Removes the next element. Must only be called by the consumer.
+    * @return The element or {@code null} if the buffer is empty.
+    */
+   public E poll() {
+      long current = head.get();
+      int index = (int)(current & mask);
+      E element = slots.get(index);
+      if(element == null) {
+         if(current == tail.get()) {
+            return null;
+         }
+         //A producer has claimed the slot but not yet published.
+         do {
+            Thread.onSpinWait();
+            element = slots.get(index);
+         } while(element == null);
+      }
+      slots.set(index, null);
+      head.set(current + 1);
+      return element;
+   }
+
+   /**
+    * Gets the number of elements in the buffer.
+    * @return The size.
+    */
+   public int size() {
+      return (int)Math.max(0L, tail.get() - head.get());
+   }
+
+   /**
+    * Gets the capacity.
+    * @return The capacity.
+    */
+   public int capacity() {
+      return slots.length();
+   }
+
+   /**
+    * The slots.
+    */
+   private final AtomicReferenceArray<E> slots;
+
+   /**
+    * Maps a sequence to a slot.
+    */
+   private final int mask;
+
+   /**
+    * The sequence of the next element to take.
+    */
+   private final AtomicLong head = new AtomicLong();
+
+   /**
+    * The sequence of the next slot to claim.
+    */
+   private final AtomicLong tail = new AtomicLong();
+}
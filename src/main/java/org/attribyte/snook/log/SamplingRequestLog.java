@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.collect.ImmutableMap;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.component.ContainerLifeCycle;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A request log that writes only the requests selected by a {@link RequestLogSampler}.
+ */
+public class SamplingRequestLog extends ContainerLifeCycle implements RequestLog, MetricSet {
+
+   /**
+    * Creates the log.
+    * @param delegate The log that writes selected requests.
+    * @param sampler The sampler.
+    */
+   public SamplingRequestLog(final RequestLog delegate, final RequestLogSampler sampler) {
+      this.delegate = delegate;
+      this.sampler = sampler;
+      addBean(delegate);
+   }
+
+   @Override
+   public void log(final Request request, final Response response) {
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - request.getBeginNanoTime());
+      if(sampler.shouldLog(request.getHttpURI().getDecodedPath(), response.getStatus(), elapsedMillis)) {
+         logged.mark();
+         delegate.log(request, response);
+      } else {
+         skipped.mark();
+      }
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      return ImmutableMap.of(
+              "logged", logged,
+              "skipped", skipped
+      );
+   }
+
+   private final RequestLog delegate;
+   private final RequestLogSampler sampler;
+   private final Meter logged = new Meter();
+   private final Meter skipped = new Meter();
+}
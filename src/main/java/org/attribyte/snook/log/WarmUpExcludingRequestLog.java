@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import org.attribyte.snook.WarmUpRunner;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.RequestLog;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.component.ContainerLifeCycle;
+
+/**
+ * A request log that does not write warm-up requests.
+ */
+public class WarmUpExcludingRequestLog extends ContainerLifeCycle implements RequestLog {
+
+   /**
+    * Creates the log.
+    * @param delegate The log that writes all other requests.
+    */
+   public WarmUpExcludingRequestLog(final RequestLog delegate) {
+      this.delegate = delegate;
+      addBean(delegate);
+   }
+
+   @Override
+   public void log(final Request request, final Response response) {
+      if(!WarmUpRunner.isWarmUp(request)) {
+         delegate.log(request, response);
+      }
+   }
+
+   private final RequestLog delegate;
+}
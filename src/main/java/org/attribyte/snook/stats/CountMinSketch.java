@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.stats;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A thread-safe count-min sketch: approximate counts for any number of keys in constant memory.
+ * <p>
+ *    Estimates are never less than the true count. With width {@code w}, the overestimate is at most
+ *    {@code e/w} of the total count with probability {@code 1 - e^-depth}.
+ * </p>
+ */
+public class CountMinSketch {
+
+   /**
+    * Creates a sketch.
+    * @param width The number of counters in each row.
+    * @param depth The number of rows.
+    */
+   public CountMinSketch(final int width, final int depth) {
+      if(width < 1 || depth < 1) {
+         throw new IllegalArgumentException("The 'width' and 'depth' must be positive");
+      }
+      this.width = width;
+      this.depth = depth;
+      this.counters = new AtomicLongArray(width * depth);
+   }
+
+   /**
+    * Adds one to the count for a key.
+    * @param key The key.
+    * @return The new estimated count.
+    */
+   public long add(final String key) {
+      ByteBuffer hash = ByteBuffer.wrap(hashFunction.hashString(key, StandardCharsets.UTF_8).asBytes());
+      long h1 = hash.getLong(0);
+      long h2 = hash.getLong(8);
+      long estimate = Long.MAX_VALUE;
+      for(int row = 0; row < depth; row++) {
+         estimate = Math.min(estimate, counters.incrementAndGet(index(row, h1, h2)));
+      }
+      total.incrementAndGet();
+      return estimate;
+   }
+
+   /**
+    * Estimates the count for a key.
+    * @param key The key.
+    * @return The estimated count.
+    */
+   public long estimate(final String key) {
+      ByteBuffer hash = ByteBuffer.wrap(hashFunction.hashString(key, StandardCharsets.UTF_8).asBytes());
+      long h1 = hash.getLong(0);
+      long h2 = hash.getLong(8);
+      long estimate = Long.MAX_VALUE;
+      for(int row = 0; row < depth; row++) {
+         estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+      }
+      return estimate;
+   }
+
+   /**
+    * Halves all counts.
+    * <p>
+    *    Counts added concurrently may be halved or not.
+    * </p>
+    */
+   public void decay() {
+      for(int i = 0; i < counters.length(); i++) {
+         counters.updateAndGet(i, count -> count >> 1);
+      }
+      total.updateAndGet(count -> count >> 1);
+   }
+
+   /**
+    * Gets the total count for all keys.
+    * @return The total count.
+    */
+   public long total() {
+      return total.get();
+   }
+
+   /**
+    * Gets the counter index for a row.
+    * @param row The row.
+    * @param h1 The first hash.
+    * @param h2 The second hash.
+    * @return The index.
+    */
+   private int index(final int row, final long h1, final long h2) {
+      return row * width + (int)Math.floorMod(h1 + row * h2, (long)width);
+   }
+
+   /**
+    * The hash function.
+    */
+   private static final HashFunction hashFunction = Hashing.murmur3_128();
+
+   private final int width;
+   private final int depth;
+
+   /**
+    * The counters, row by row.
+    */
+   private final AtomicLongArray counters;
+
+   /**
+    * The total count.
+    */
+   private final AtomicLong total = new AtomicLong();
+}
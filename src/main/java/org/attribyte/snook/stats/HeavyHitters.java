@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.stats;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the keys with the highest counts in constant memory.
+ * <p>
+ *    Counts are estimated with a count-min sketch. The top keys are kept as a set of at most {@code k} candidates.
+ *    A new key replaces the candidate with the lowest estimate when its own estimate is higher. Counting a key that is
+ *    already a candidate is lock-free. All counts are halved at the end of each decay window,
+ *    so the top keys reflect recent traffic.
+ * </p>
+ */
+public class HeavyHitters {
+
+   /**
+    * A key and its estimated count.
+    */
+   public static class Entry {
+
+      Entry(final String key, final long count) {
+         this.key = key;
+         this.count = count;
+      }
+
+      @Override
+      public String toString() {
+         return MoreObjects.toStringHelper(this)
+                 .add("key", key)
+                 .add("count", count)
+                 .toString();
+      }
+
+      /**
+       * The key.
+       */
+      public final String key;
+
+      /**
+       * The estimated count.
+       */
+      public final long count;
+   }
+
+   /**
+    * Creates a tracker.
+    * @param k The number of top keys tracked.
+    * @param width The sketch width.
+    * @param depth The sketch depth.
+    * @param decayWindowNanos The time between halving all counts. If {@code 0}, counts never decay.
+    */
+   public HeavyHitters(final int k, final int width, final int depth, final long decayWindowNanos) {
+      if(k < 1) {
+         throw new IllegalArgumentException("The 'k' must be positive");
+      }
+      this.k = k;
+      this.sketch = new CountMinSketch(width, depth);
+      this.decayWindowNanos = decayWindowNanos;
+      this.nextDecayNanos = new AtomicLong(System.nanoTime() + decayWindowNanos);
+   }
+
+   /**
+    * Counts a key.
+    * @param key The key.
+    */
+   public void add(final String key) {
+      add(key, System.nanoTime());
+   }
+
+   /**
+    * Counts a key at a time.
+    * @param key The key.
+    * @param nowNanos The current time.
+    */
+   void add(final String key, final long nowNanos) {
+      if(decayWindowNanos > 0L) {
+         long nextDecay = nextDecayNanos.get();
+         if(nowNanos >= nextDecay && nextDecayNanos.compareAndSet(nextDecay, nowNanos + decayWindowNanos)) {
+            sketch.decay();
+            minCandidateCount = 0L;
+         }
+      }
+
+      long estimate = sketch.add(key);
+      if(candidates.contains(key) || (candidates.size() >= k && estimate <= minCandidateCount)) {
+         return;
+      }
+
+      synchronized(this) {
+         if(candidates.contains(key)) {
+            return;
+         }
+         if(candidates.size() < k) {
+            candidates.add(key);
+            if(candidates.size() == k) {
+               minCandidateCount = minCandidate().count;
+            }
+            return;
+         }
+         Entry min = minCandidate();
+         if(estimate > min.count) {
+            candidates.remove(min.key);
+            candidates.add(key);
+            minCandidateCount = minCandidate().count;
+         } else {
+            minCandidateCount = min.count;
+         }
+      }
+   }
+
+   /**
+    * Finds the candidate with the lowest estimate. Must hold the lock.
+    * @return The candidate.
+    */
+   private Entry minCandidate() {
+      String minKey = null;
+      long minCount = Long.MAX_VALUE;
+      for(String candidate : candidates) {
+         long count = sketch.estimate(candidate);
+         if(count < minCount) {
+            minKey = candidate;
+            minCount = count;
+         }
+      }
+      return new Entry(minKey, minCount);
+   }
+
+   /**
+    * Gets the top keys.
+    * @return The keys with the highest estimated counts, highest first.
+    */
+   public ImmutableList<Entry> top() {
+      List<Entry> top = Lists.newArrayListWithExpectedSize(candidates.size());
+      for(String candidate : candidates) {
+         long count = sketch.estimate(candidate);
+         if(count > 0L) {
+            top.add(new Entry(candidate, count));
+         }
+      }
+      top.sort(Comparator.comparingLong((Entry entry) -> entry.count).reversed());
+      return ImmutableList.copyOf(top);
+   }
+
+   /**
+    * Gets the (decayed) total count for all keys.
+    * @return The total count.
+    */
+   public long total() {
+      return sketch.total();
+   }
+
+   /**
+    * The number of top keys tracked.
+    */
+   private final int k;
+
+   /**
+    * The sketch.
+    */
+   private final CountMinSketch sketch;
+
+   /**
+    * The time between halving counts.
+    */
+   private final long decayWindowNanos;
+
+   /**
+    * The time of the next decay.
+    */
+   private final AtomicLong nextDecayNanos;
+
+   /**
+    * The candidate keys. Modified only while holding the lock.
+    */
+   private final Set<String> candidates = ConcurrentHashMap.newKeySet();
+
+   /**
+    * The lowest estimate for a candidate when last checked.
+    * A new key that does not exceed this count can't become a candidate.
+    */
+   private volatile long minCandidateCount = 0L;
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.stats;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Metric;
+import com.codahale.metrics.MetricSet;
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.attribyte.api.InitializationException;
+import org.attribyte.snook.HTTPUtil;
+import org.attribyte.snook.WarmUpRunner;
+import org.attribyte.snook.auth.Authenticator;
+import org.attribyte.util.InitUtil;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A filter that tracks the clients and paths generating the most traffic.
+ * <p>
+ *    Warm-up requests are not tracked.
+ * </p>
+ */
+public class HeavyHittersFilter implements Filter, MetricSet {
+
+   /**
+    * A request attribute that is tracked.
+    */
+   public enum Dimension {
+
+      /**
+       * The remote address.
+       */
+      IP,
+
+      /**
+       * The authorized username.
+       */
+      USER,
+
+      /**
+       * The path within the context.
+       */
+      PATH;
+
+      /**
+       * The name used in properties, metrics and reports.
+       * @return The name.
+       */
+      public String key() {
+         return name().toLowerCase();
+      }
+   }
+
+   /**
+    * Creates the filter from properties.
+    * @param namePrefix A prefix to be applied to names in the properties {@code heavyHitters.} for example.
+    * @param props The properties.
+    * @param authenticator The authenticator that identifies users. Required if users are tracked.
+    * @throws InitializationException on invalid configuration.
+    */
+   public HeavyHittersFilter(final String namePrefix, final Properties props,
+                             final Authenticator<?> authenticator) throws InitializationException {
+      InitUtil init = new InitUtil(namePrefix, props, true);
+      this.k = init.getIntProperty(TOP_K_PROPERTY, DEFAULT_TOP_K);
+      int width = init.getIntProperty(SKETCH_WIDTH_PROPERTY, DEFAULT_SKETCH_WIDTH);
+      int depth = init.getIntProperty(SKETCH_DEPTH_PROPERTY, DEFAULT_SKETCH_DEPTH);
+      long windowMillis = InitUtil.millisFromTime(init.getProperty(WINDOW_PROPERTY, DEFAULT_WINDOW));
+      if(k < 1 || width < 1 || depth < 1) {
+         throw new InitializationException(String.format("The '%s', '%s' and '%s' must be positive",
+                 TOP_K_PROPERTY, SKETCH_WIDTH_PROPERTY, SKETCH_DEPTH_PROPERTY));
+      }
+
+      ImmutableMap.Builder<Dimension, HeavyHitters> trackers = ImmutableMap.builder();
+      for(String name : Splitter.on(',').omitEmptyStrings().trimResults().split(init.getProperty(DIMENSIONS_PROPERTY, DEFAULT_DIMENSIONS))) {
+         final Dimension dimension;
+         try {
+            dimension = Dimension.valueOf(name.toUpperCase());
+         } catch(IllegalArgumentException iae) {
+            throw new InitializationException(String.format("Invalid heavy hitter dimension, '%s'", name));
+         }
+         if(dimension == Dimension.USER && authenticator == null) {
+            throw new InitializationException("Heavy hitters for 'user' require an authenticator");
+         }
+         trackers.put(dimension, new HeavyHitters(k, width, depth, TimeUnit.MILLISECONDS.toNanos(windowMillis)));
+      }
+      this.trackers = trackers.buildKeepingLast();
+      if(this.trackers.isEmpty()) {
+         throw new InitializationException(String.format("At least one '%s' must be specified", DIMENSIONS_PROPERTY));
+      }
+      this.authenticator = authenticator;
+   }
+
+   @Override
+   public void doFilter(final ServletRequest request, final ServletResponse response,
+                        final FilterChain chain) throws IOException, ServletException {
+      HttpServletRequest httpRequest = (HttpServletRequest)request;
+      if(WarmUpRunner.isWarmUp(httpRequest)) {
+         chain.doFilter(request, response);
+         return;
+      }
+      for(Map.Entry<Dimension, HeavyHitters> entry : trackers.entrySet()) {
+         String key = key(entry.getKey(), httpRequest);
+         if(key != null) {
+            entry.getValue().add(key);
+         }
+      }
+      chain.doFilter(request, response);
+   }
+
+   /**
+    * Gets the key for a dimension.
+    * @param dimension The dimension.
+    * @param request The request.
+    * @return The key or {@code null} if none.
+    */
+   private String key(final Dimension dimension, final HttpServletRequest request) {
+      switch(dimension) {
+         case USER:
+            return authenticator.authorizedUsername(request);
+         case PATH:
+            return HTTPUtil.pathInContext(request);
+         default:
+            return request.getRemoteAddr();
+      }
+   }
+
+   /**
+    * Gets the top keys for each tracked dimension.
+    * @return A map of top keys, highest count first, vs dimension name.
+    */
+   public ImmutableMap<String, ImmutableList<HeavyHitters.Entry>> top() {
+      ImmutableMap.Builder<String, ImmutableList<HeavyHitters.Entry>> top = ImmutableMap.builder();
+      trackers.forEach((dimension, tracker) -> top.put(dimension.key(), tracker.top()));
+      return top.build();
+   }
+
+   @Override
+   public Map<String, Metric> getMetrics() {
+      ImmutableMap.Builder<String, Metric> metrics = ImmutableMap.builder();
+      trackers.forEach((dimension, tracker) -> {
+         String prefix = dimension.key() + ".";
+         metrics.put(prefix + "total", (Gauge<Long>)tracker::total);
+         metrics.put(prefix + "top-count", (Gauge<Long>)() -> {
+            ImmutableList<HeavyHitters.Entry> top = tracker.top();
+            return top.isEmpty() ? 0L : top.get(0).count;
+         });
+         metrics.put(prefix + "top-share", (Gauge<Double>)() -> {
+            ImmutableList<HeavyHitters.Entry> top = tracker.top();
+            long total = tracker.total();
+            return top.isEmpty() || total == 0L ? 0.0 : (double)top.get(0).count / (double)total;
+         });
+      });
+      return metrics.build();
+   }
+
+   /**
+    * The property that enables tracking ({@value}).
+    */
+   public static final String ENABLED_PROPERTY = "enabled";
+
+   /**
+    * The comma-separated dimensions to track property name ({@value}).
+    * <p>
+    *    Any of {@code ip}, {@code user} or {@code path}.
+    * </p>
+    */
+   public static final String DIMENSIONS_PROPERTY = "dimensions";
+
+   /**
+    * The default dimensions ({@value}).
+    */
+   public static final String DEFAULT_DIMENSIONS = "ip,path";
+
+   /**
+    * The number of top keys tracked for each dimension property name ({@value}).
+    */
+   public static final String TOP_K_PROPERTY = "topK";
+
+   /**
+    * The default number of top keys ({@value}).
+    */
+   public static final int DEFAULT_TOP_K = 20;
+
+   /**
+    * The time between halving all counts property name ({@value}).
+    */
+   public static final String WINDOW_PROPERTY = "window";
+
+   /**
+    * The default decay window ({@value}).
+    */
+   public static final String DEFAULT_WINDOW = "1m";
+
+   /**
+    * The sketch width property name ({@value}).
+    */
+   public static final String SKETCH_WIDTH_PROPERTY = "sketchWidth";
+
+   /**
+    * The default sketch width ({@value}).
+    */
+   public static final int DEFAULT_SKETCH_WIDTH = 2048;
+
+   /**
+    * The sketch depth property name ({@value}).
+    */
+   public static final String SKETCH_DEPTH_PROPERTY = "sketchDepth";
+
+   /**
+    * The default sketch depth ({@value}).
+    */
+   public static final int DEFAULT_SKETCH_DEPTH = 4;
+
+   /**
+    * The number of top keys tracked.
+    */
+   public final int k;
+
+   /**
+    * The tracker for each dimension.
+    */
+   private final ImmutableMap<Dimension, HeavyHitters> trackers;
+
+   /**
+    * The authenticator, if any.
+    */
+   private final Authenticator<?> authenticator;
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.stats;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.Gson;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports the top keys for each dimension tracked by a heavy hitters filter as JSON.
+ * <p>
+ *    For example: {@code {"ip":[{"key":"10.0.0.1","count":1200}],"path":[...]}}
+ * </p>
+ */
+@SuppressWarnings("serial")
+public class HeavyHittersServlet extends HttpServlet {
+
+   private static final Gson GSON = new Gson();
+
+   /**
+    * Creates the servlet.
+    * @param filter The filter.
+    */
+   public HeavyHittersServlet(final HeavyHittersFilter filter) {
+      this.filter = filter;
+   }
+
+   @Override
+   protected void doGet(final HttpServletRequest request,
+                        final HttpServletResponse response) throws IOException {
+      Map<String, ImmutableList<HeavyHitters.Entry>> top = new LinkedHashMap<>(filter.top());
+      response.setStatus(200);
+      response.setContentType("application/json;charset=UTF-8");
+      response.setHeader("Cache-Control", "no-cache");
+      PrintWriter writer = response.getWriter();
+      writer.write(GSON.toJson(top));
+      writer.flush();
+   }
+
+   private final HeavyHittersFilter filter;
+}
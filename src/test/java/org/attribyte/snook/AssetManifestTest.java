@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the fingerprinted asset manifest.
+ */
+public class AssetManifestTest {
+
+   public AssetManifestTest() throws Exception {
+      this.dir = Files.createTempDirectory("manifest").toRealPath();
+      Files.createDirectories(dir.resolve("js"));
+      Files.write(dir.resolve("js/app.js"), "console.log('a');".getBytes(StandardCharsets.UTF_8));
+      Files.write(dir.resolve("LICENSE"), "license".getBytes(StandardCharsets.UTF_8));
+      this.manifest = new AssetManifest(new StaticAssetResolver(dir, false)).build();
+   }
+
+   private static String waitForChange(final AssetManifest manifest, final String path, final String url) throws Exception {
+      long deadline = System.currentTimeMillis() + 5000L;
+      while(System.currentTimeMillis() < deadline) {
+         String current = manifest.url(path);
+         if(!current.equals(url)) {
+            return current;
+         }
+         Thread.sleep(20L);
+      }
+      return url;
+   }
+
+   @Test
+   public void fingerprintedPath() {
+      assertEquals("/js/app.abcd1234.js", AssetManifest.fingerprintedPath("/js/app.js", "abcd1234"));
+      assertEquals("/js/app.min.abcd1234.js", AssetManifest.fingerprintedPath("/js/app.min.js", "abcd1234"));
+      assertEquals("/LICENSE.abcd1234", AssetManifest.fingerprintedPath("/LICENSE", "abcd1234"));
+      assertEquals("/v1.0/LICENSE.abcd1234", AssetManifest.fingerprintedPath("/v1.0/LICENSE", "abcd1234"));
+      assertEquals("/.htaccess.abcd1234", AssetManifest.fingerprintedPath("/.htaccess", "abcd1234"));
+   }
+
+   @Test
+   public void url() throws Exception {
+      String url = manifest.url("/js/app.js");
+      assertTrue(url.matches("/js/app\\.[0-9a-f]{" + AssetManifest.HASH_LENGTH + "}\\.js"));
+      assertEquals("/js/other.js", manifest.url("/js/other.js"));
+      assertTrue(manifest.url("/LICENSE").startsWith("/LICENSE."));
+      assertEquals(2, manifest.mappings().size());
+
+      AssetManifest.Asset asset = manifest.forFingerprintedPath(url);
+      assertNotNull(asset);
+      assertEquals("/js/app.js", asset.path);
+      assertNull(manifest.forFingerprintedPath("/js/app.js"));
+      assertNull(manifest.forFingerprintedPath("/js/app.00000000.js"));
+   }
+
+   @Test
+   public void buildInBackground() throws Exception {
+      AssetManifest manifest = new AssetManifest(new StaticAssetResolver(dir, false));
+      assertEquals("/js/app.js", manifest.url("/js/app.js"));
+      manifest.start();
+      try {
+         assertEquals(this.manifest.url("/js/app.js"), waitForChange(manifest, "/js/app.js", "/js/app.js"));
+      } finally {
+         manifest.stop();
+      }
+   }
+
+   @Test
+   public void maxFileSize() throws Exception {
+      AssetManifest manifest = new AssetManifest(new StaticAssetResolver(dir, false), 17L).build();
+      assertEquals("/js/app.js", manifest.url("/js/app.js"));
+      assertTrue(manifest.url("/LICENSE").startsWith("/LICENSE."));
+   }
+
+   @Test
+   public void changed() throws Exception {
+      manifest.start();
+      try {
+         String before = manifest.url("/js/app.js");
+         Files.write(dir.resolve("js/app.js"), "console.log('b');".getBytes(StandardCharsets.UTF_8));
+         Files.write(dir.resolve("js/new.js"), "console.log('c');".getBytes(StandardCharsets.UTF_8));
+         manifest.changed(ImmutableSet.of("/js/app.js", "/js/new.js"));
+         String after = waitForChange(manifest, "/js/app.js", before);
+         assertNotEquals(before, after);
+         assertNotEquals("/js/new.js", waitForChange(manifest, "/js/new.js", "/js/new.js"));
+         assertNull(manifest.forFingerprintedPath(before));
+         assertNotNull(manifest.forFingerprintedPath(after));
+
+         String newUrl = manifest.url("/js/new.js");
+         Files.delete(dir.resolve("js/new.js"));
+         manifest.changed(ImmutableSet.of("/js"));
+         assertEquals("/js/new.js", waitForChange(manifest, "/js/new.js", newUrl));
+         assertNull(manifest.forPath("/js/new.js"));
+         assertNotNull(manifest.forPath("/js/app.js"));
+      } finally {
+         manifest.stop();
+      }
+   }
+
+   @Test
+   public void staleWithoutWatch() throws Exception {
+      String before = manifest.url("/js/app.js");
+      Path file = dir.resolve("js/app.js");
+      Files.write(file, "console.log('changed');".getBytes(StandardCharsets.UTF_8));
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 10000L));
+      AssetManifest.Asset asset = manifest.forFingerprintedPath(before);
+      assertNotNull(asset);
+      assertFalse(manifest.isCurrent(asset));
+      assertEquals(before, manifest.url("/js/app.js")); //Not hashed on the calling thread.
+      manifest.start();
+      try {
+         assertFalse(manifest.isCurrent(asset));
+         assertNotEquals(before, waitForChange(manifest, "/js/app.js", before));
+         assertNull(manifest.forFingerprintedPath(before));
+      } finally {
+         manifest.stop();
+      }
+   }
+
+   private final Path dir;
+   private final AssetManifest manifest;
+}
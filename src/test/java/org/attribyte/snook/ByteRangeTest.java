@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for range header parsing.
+ */
+public class ByteRangeTest {
+
+   @Test
+   public void single() {
+      assertEquals(ImmutableList.of(new ByteRange(0L, 99L)), ByteRange.parse("bytes=0-99", 1000L, 16));
+      assertEquals(ImmutableList.of(new ByteRange(500L, 999L)), ByteRange.parse("bytes=500-", 1000L, 16));
+      assertEquals(ImmutableList.of(new ByteRange(900L, 999L)), ByteRange.parse("bytes=-100", 1000L, 16));
+      assertEquals(ImmutableList.of(new ByteRange(0L, 999L)), ByteRange.parse("bytes=-2000", 1000L, 16));
+      assertEquals(ImmutableList.of(new ByteRange(900L, 999L)), ByteRange.parse("bytes=900-5000", 1000L, 16));
+      assertEquals("bytes 0-99/1000", new ByteRange(0L, 99L).contentRange(1000L));
+      assertEquals(100L, new ByteRange(0L, 99L).length());
+   }
+
+   @Test
+   public void multiple() {
+      assertEquals(ImmutableList.of(new ByteRange(0L, 9L), new ByteRange(100L, 109L)),
+              ByteRange.parse("bytes=100-109, 0-9", 1000L, 16));
+   }
+
+   @Test
+   public void coalesce() {
+      assertEquals(ImmutableList.of(new ByteRange(0L, 19L)), ByteRange.parse("bytes=0-9,10-19", 1000L, 16));
+      assertEquals(ImmutableList.of(new ByteRange(0L, 50L)), ByteRange.parse("bytes=0-50,5-10", 1000L, 16));
+   }
+
+   @Test
+   public void unsatisfiable() {
+      assertTrue(ByteRange.parse("bytes=1000-", 1000L, 16).isEmpty());
+      assertTrue(ByteRange.parse("bytes=-0", 1000L, 16).isEmpty());
+      assertTrue(ByteRange.parse("bytes=0-", 0L, 16).isEmpty());
+   }
+
+   @Test
+   public void ignored() {
+      assertNull(ByteRange.parse("items=0-9", 1000L, 16));
+      assertNull(ByteRange.parse("bytes=9-0", 1000L, 16));
+      assertNull(ByteRange.parse("bytes=a-b", 1000L, 16));
+      assertNull(ByteRange.parse("bytes=5", 1000L, 16));
+      assertNull(ByteRange.parse("bytes=", 1000L, 16));
+      assertNull(ByteRange.parse("bytes=-1-2", 1000L, 16));
+      assertNull(ByteRange.parse("bytes=0-1,2-3,4-5", 1000L, 2));
+   }
+}
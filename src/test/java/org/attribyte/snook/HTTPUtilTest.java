@@ -18,6 +18,7 @@
 
 package org.attribyte.snook;
 
+import com.google.common.collect.ImmutableList;
 import org.attribyte.snook.test.TestHttpServletRequest;
 import org.eclipse.jetty.http.HttpHeader;
 import org.junit.Test;
@@ -25,6 +26,7 @@ import org.junit.Test;
 import jakarta.servlet.http.HttpServletRequest;
 
 import static junit.framework.TestCase.assertTrue;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
 /**
@@ -55,4 +57,44 @@ public class HTTPUtilTest {
       };
       assertFalse(HTTPUtil.clientAcceptsHTML(request));
    }
+
+   @Test
+   public void acceptsGzip() {
+      assertTrue(HTTPUtil.acceptsGzip("gzip, deflate, br"));
+      assertTrue(HTTPUtil.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+      assertTrue(HTTPUtil.acceptsGzip("*"));
+      assertFalse(HTTPUtil.acceptsGzip("gzip;q=0"));
+      assertFalse(HTTPUtil.acceptsGzip("*;q=1, gzip;q=0"));
+      assertTrue(HTTPUtil.acceptsGzip("*;q=0, gzip;q=0.5"));
+      assertFalse(HTTPUtil.acceptsGzip("*;q=0"));
+      assertFalse(HTTPUtil.acceptsGzip("br, identity"));
+      assertFalse(HTTPUtil.acceptsGzip(null));
+   }
+
+   @Test
+   public void acceptedEncodings() {
+      ImmutableList<ContentEncoding> available = ImmutableList.of(ContentEncoding.BROTLI, ContentEncoding.ZSTD, ContentEncoding.GZIP);
+      assertEquals(available, HTTPUtil.acceptedEncodings("gzip, deflate, br, zstd", available));
+      assertEquals(ImmutableList.of(ContentEncoding.GZIP, ContentEncoding.BROTLI),
+              HTTPUtil.acceptedEncodings("br;q=0.5, gzip", available));
+      assertEquals(ImmutableList.of(ContentEncoding.BROTLI, ContentEncoding.GZIP),
+              HTTPUtil.acceptedEncodings("*, zstd;q=0", available));
+      assertEquals(ImmutableList.of(ContentEncoding.GZIP),
+              HTTPUtil.acceptedEncodings("gzip, br", ImmutableList.of(ContentEncoding.GZIP)));
+      assertEquals(ImmutableList.of(), HTTPUtil.acceptedEncodings("identity", available));
+      assertEquals(ImmutableList.of(), HTTPUtil.acceptedEncodings(null, available));
+   }
+
+   @Test
+   public void matchesETag() {
+      assertTrue(HTTPUtil.matchesETag("\"abc\"", "W/\"abc\""));
+      assertTrue(HTTPUtil.matchesETag("\"xyz\", W/\"abc\"", "W/\"abc\""));
+      assertTrue(HTTPUtil.matchesETag("*", "\"abc\""));
+      assertFalse(HTTPUtil.matchesETag("\"xyz\"", "\"abc\""));
+   }
+
+   @Test
+   public void httpDate() {
+      assertTrue(HTTPUtil.httpDate(784111777000L).equals("Sun, 06 Nov 1994 08:49:37 GMT"));
+   }
 }
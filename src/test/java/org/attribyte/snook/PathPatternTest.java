@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for path patterns.
+ */
+public class PathPatternTest {
+
+   @Test
+   public void all() {
+      assertTrue(new PathPattern("/").matches("/a/b"));
+      assertTrue(new PathPattern("/*").matches("/"));
+      assertFalse(new PathPattern("/*").matches(null));
+   }
+
+   @Test
+   public void prefix() {
+      PathPattern pattern = new PathPattern("/api/*");
+      assertTrue(pattern.matches("/api"));
+      assertTrue(pattern.matches("/api/"));
+      assertTrue(pattern.matches("/api/a/b"));
+      assertFalse(pattern.matches("/apix"));
+      assertFalse(pattern.matches("/other/api"));
+   }
+
+   @Test
+   public void suffix() {
+      PathPattern pattern = new PathPattern("*.js");
+      assertTrue(pattern.matches("/a/b.js"));
+      assertFalse(pattern.matches("/a/b.json"));
+   }
+
+   @Test
+   public void exact() {
+      PathPattern pattern = new PathPattern("/health");
+      assertTrue(pattern.matches("/health"));
+      assertFalse(pattern.matches("/health/x"));
+   }
+
+   @Test
+   public void list() {
+      List<PathPattern> patterns = PathPattern.parseList(" /a/*, *.css ,,/b");
+      assertEquals(3, patterns.size());
+      assertTrue(PathPattern.anyMatches(patterns, "/a/x"));
+      assertTrue(PathPattern.anyMatches(patterns, "/x/y.css"));
+      assertTrue(PathPattern.anyMatches(patterns, "/b"));
+      assertFalse(PathPattern.anyMatches(patterns, "/c"));
+   }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for background precompression.
+ */
+public class PrecompressorTest {
+
+   private static final Function<String, String> MIME_TYPES = name ->
+           name.endsWith(".css") ? "text/css" : name.endsWith(".png") ? "image/png" : null;
+
+   private static String repeat(final String str, final int count) {
+      StringBuilder buf = new StringBuilder();
+      for(int i = 0; i < count; i++) {
+         buf.append(str);
+      }
+      return buf.toString();
+   }
+
+   private static Path waitForVariant(final Precompressor precompressor, final StaticAssetResolver resolver,
+                                      final String path) throws Exception {
+      return waitForVariant(precompressor, resolver, path, ContentEncoding.GZIP);
+   }
+
+   private static Path waitForVariant(final Precompressor precompressor, final StaticAssetResolver resolver,
+                                      final String path, final ContentEncoding encoding) throws Exception {
+      long deadline = System.currentTimeMillis() + 5000L;
+      while(System.currentTimeMillis() < deadline) {
+         Path source = resolver.resolve(path);
+         BasicFileAttributes attributes = resolver.attributes(source);
+         Path variant = precompressor.variant(path, source, attributes, encoding);
+         if(variant != null) {
+            return variant;
+         }
+         Thread.sleep(20L);
+      }
+      return null;
+   }
+
+   private static String gunzip(final Path file) throws Exception {
+      return decompress(new GZIPInputStream(Files.newInputStream(file)));
+   }
+
+   private static String decompress(final InputStream compressed) throws Exception {
+      try(InputStream is = compressed) {
+         ByteArrayOutputStream baos = new ByteArrayOutputStream();
+         is.transferTo(baos);
+         return baos.toString(StandardCharsets.UTF_8);
+      }
+   }
+
+   @Test
+   public void compress() throws Exception {
+      Path root = Files.createTempDirectory("assets_");
+      Path variants = Files.createTempDirectory("variants_");
+      String css = repeat("body { color: red; }\n", 200);
+      Files.createDirectories(root.resolve("css"));
+      Files.write(root.resolve("css/app.css"), css.getBytes(StandardCharsets.UTF_8));
+      Files.write(root.resolve("small.css"), "a{}".getBytes(StandardCharsets.UTF_8));
+      Files.write(root.resolve("image.png"), repeat("x", 4096).getBytes(StandardCharsets.UTF_8));
+
+      StaticAssetResolver resolver = new StaticAssetResolver(root, false);
+      Precompressor precompressor = new Precompressor(resolver, variants, 1024L, MIME_TYPES, null);
+      precompressor.start();
+      try {
+         Path variant = waitForVariant(precompressor, resolver, "/css/app.css");
+         assertNotNull(variant);
+         assertEquals(css, gunzip(variant));
+         assertTrue(Files.size(variant) < css.length());
+         assertEquals(Files.getLastModifiedTime(root.resolve("css/app.css")), Files.getLastModifiedTime(variant));
+         assertFalse(Files.exists(variants.resolve("small.css.gz")));
+         assertFalse(Files.exists(variants.resolve("image.png.gz")));
+
+         String changed = repeat("body { color: blue; }\n", 200);
+         Path source = root.resolve("css/app.css");
+         Files.write(source, changed.getBytes(StandardCharsets.UTF_8));
+         Files.setLastModifiedTime(source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 2000L));
+         assertNull(precompressor.variant("/css/app.css", source, resolver.attributes(source)));
+         precompressor.changed(ImmutableSet.of("/css/app.css"));
+         variant = waitForVariant(precompressor, resolver, "/css/app.css");
+         assertNotNull(variant);
+         assertEquals(changed, gunzip(variant));
+      } finally {
+         precompressor.stop();
+      }
+   }
+
+   @Test
+   public void encodings() throws Exception {
+      Path root = Files.createTempDirectory("assets_");
+      Path variants = Files.createTempDirectory("variants_");
+      String css = repeat("body { color: red; }\n", 200);
+      Files.write(root.resolve("app.css"), css.getBytes(StandardCharsets.UTF_8));
+
+      ImmutableList<ContentEncoding> encodings = ImmutableList.copyOf(
+              Arrays.stream(ContentEncoding.values()).filter(ContentEncoding::isAvailable).iterator());
+      StaticAssetResolver resolver = new StaticAssetResolver(root, false);
+      Precompressor precompressor = new Precompressor(resolver, variants, 1024L, encodings, MIME_TYPES, null);
+      precompressor.start();
+      try {
+         for(ContentEncoding encoding : encodings) {
+            Path variant = waitForVariant(precompressor, resolver, "/app.css", encoding);
+            assertNotNull(variant);
+            assertEquals("app.css" + encoding.extension, variant.getFileName().toString());
+            assertTrue(Files.size(variant) < css.length());
+            switch(encoding) {
+               case BROTLI:
+                  assertEquals(css, decompress(new com.aayushatharva.brotli4j.decoder.BrotliInputStream(Files.newInputStream(variant))));
+                  break;
+               case ZSTD:
+                  assertEquals(css, decompress(new com.github.luben.zstd.ZstdInputStream(Files.newInputStream(variant))));
+                  break;
+               default:
+                  assertEquals(css, gunzip(variant));
+            }
+         }
+
+         Files.delete(root.resolve("app.css"));
+         precompressor.changed(ImmutableSet.of("/app.css"));
+         long deadline = System.currentTimeMillis() + 5000L;
+         while(Files.exists(variants.resolve("app.css.gz")) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20L);
+         }
+         for(ContentEncoding encoding : ContentEncoding.values()) {
+            assertFalse(Files.exists(variants.resolve("app.css" + encoding.extension)));
+         }
+      } finally {
+         precompressor.stop();
+      }
+   }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for properties comparison.
+ */
+public class PropertiesDiffTest {
+
+   private static Properties props(final String... nameValues) {
+      Properties props = new Properties();
+      for(int i = 0; i < nameValues.length; i += 2) {
+         props.setProperty(nameValues[i], nameValues[i + 1]);
+      }
+      return props;
+   }
+
+   @Test
+   public void unchanged() {
+      PropertiesDiff diff = PropertiesDiff.of(props("a", "1", "b", "2"), props("b", "2", "a", "1"));
+      assertTrue(diff.isEmpty());
+   }
+
+   @Test
+   public void changed() {
+      PropertiesDiff diff = PropertiesDiff.of(
+              props("logger.a.level", "INFO", "server.httpPort", "8080", "removed", "x"),
+              props("logger.a.level", "DEBUG", "server.httpPort", "8081", "added", "y"));
+      assertEquals(ImmutableList.of("added", "logger.a.level", "removed", "server.httpPort"), diff.changed.asList());
+   }
+
+   @Test
+   public void prefixes() {
+      PropertiesDiff diff = PropertiesDiff.of(
+              props("logger.a.level", "INFO", "server.httpPort", "8080"),
+              props("logger.a.level", "DEBUG", "server.httpPort", "8081"));
+      assertTrue(diff.anyChanged(ImmutableList.of("log.", "logger.")));
+      assertFalse(diff.anyChanged(ImmutableList.of("assets.")));
+      assertEquals(ImmutableList.of("server.httpPort"), diff.changedExcept(ImmutableList.of("logger.")).asList());
+   }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for startup timing.
+ */
+public class StartupTimerTest {
+
+   private static long millis(final long millis) {
+      return TimeUnit.MILLISECONDS.toNanos(millis);
+   }
+
+   @Test
+   public void phases() {
+      StartupTimer timer = new StartupTimer(0L);
+      timer.mark("properties", millis(10L));
+      timer.mark("logging", millis(15L));
+      timer.mark("handlers", millis(40L));
+      assertEquals(ImmutableList.of("properties", "logging", "handlers"), timer.phaseMillis().keySet().asList());
+      assertEquals(10L, timer.phaseMillis().get("properties").longValue());
+      assertEquals(5L, timer.phaseMillis().get("logging").longValue());
+      assertEquals(25L, timer.phaseMillis().get("handlers").longValue());
+      assertEquals(40L, timer.totalMillis());
+   }
+
+   @Test
+   public void repeatedPhase() {
+      StartupTimer timer = new StartupTimer(0L);
+      timer.mark("a", millis(10L));
+      timer.mark("b", millis(20L));
+      timer.mark("a", millis(25L));
+      assertEquals(15L, timer.phaseMillis().get("a").longValue());
+      assertEquals(25L, timer.totalMillis());
+   }
+
+   @Test
+   public void report() {
+      StartupTimer timer = new StartupTimer(0L);
+      timer.mark("properties", millis(10L));
+      String report = timer.report();
+      assertTrue(report.contains("properties"));
+      assertTrue(report.contains("total"));
+   }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.codahale.metrics.Counter;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the static asset cache.
+ */
+public class StaticAssetCacheTest {
+
+   private static final Function<String, String> MIME_TYPES = name ->
+           name.endsWith(".css") ? "text/css" : name.endsWith(".png") ? "image/png" : null;
+
+   private final Path root;
+
+   public StaticAssetCacheTest() throws Exception {
+      this.root = Files.createTempDirectory("assets_");
+      this.root.toFile().deleteOnExit();
+   }
+
+   private Path write(final String name, final String content) throws Exception {
+      Path file = root.resolve(name);
+      Files.createDirectories(file.getParent());
+      Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+      file.toFile().deleteOnExit();
+      return file;
+   }
+
+   private StaticAssetCache cache(final long maxBytes, final int maxEntries, final long checkIntervalNanos) {
+      return new StaticAssetCache(root, maxBytes, maxEntries, 1024L * 1024L,
+              true, true, checkIntervalNanos, false, null);
+   }
+
+   @Test
+   public void hit() throws Exception {
+      write("css/app.css", "body { color: red; }");
+      StaticAssetCache cache = cache(1024L * 1024L, 10, 0L);
+      StaticAssetCache.Entry entry = cache.get("/css/app.css", MIME_TYPES);
+      assertNotNull(entry);
+      assertEquals("text/css", entry.contentType);
+      assertEquals("body { color: red; }", new String(entry.content, StandardCharsets.UTF_8));
+      assertTrue(entry.etag.startsWith("W/\""));
+      assertSame(entry, cache.get("/css/app.css", MIME_TYPES));
+      assertEquals(1, cache.size());
+      assertEquals(entry.weight(), cache.bytes());
+   }
+
+   @Test
+   public void notCacheable() throws Exception {
+      write("css/app.css", "body { color: red; }");
+      StaticAssetCache cache = cache(1024L * 1024L, 10, 0L);
+      assertNull(cache.get("/css/missing.css", MIME_TYPES));
+      assertNull(cache.get("/css/", MIME_TYPES));
+      assertNull(cache.get("/css", MIME_TYPES));
+      assertNull(cache.get("/../outside.css", MIME_TYPES));
+      assertEquals(0, cache.size());
+   }
+
+   @Test
+   public void evictLeastRecentlyUsed() throws Exception {
+      write("a.css", "a");
+      write("b.css", "b");
+      write("c.css", "c");
+      StaticAssetCache cache = cache(1024L * 1024L, 2, 0L);
+      assertNotNull(cache.get("/a.css", MIME_TYPES));
+      assertNotNull(cache.get("/b.css", MIME_TYPES));
+      cache.get("/a.css", MIME_TYPES);
+      assertNotNull(cache.get("/c.css", MIME_TYPES));
+      assertEquals(2, cache.size());
+      assertEquals(1L, ((Counter)cache.getMetrics().get("evictions")).getCount());
+      StaticAssetCache.Entry a = cache.get("/a.css", MIME_TYPES);
+      assertSame(a, cache.get("/a.css", MIME_TYPES));
+   }
+
+   @Test
+   public void maxBytes() throws Exception {
+      write("a.png", "0123456789");
+      write("b.png", "0123456789");
+      StaticAssetCache cache = cache(15L, 10, 0L);
+      assertNotNull(cache.get("/a.png", MIME_TYPES));
+      assertNotNull(cache.get("/b.png", MIME_TYPES));
+      assertEquals(1, cache.size());
+      assertEquals(10L, cache.bytes());
+   }
+
+   @Test
+   public void gzip() throws Exception {
+      StringBuilder buf = new StringBuilder();
+      for(int i = 0; i < 100; i++) {
+         buf.append("body { color: red; }\n");
+      }
+      write("app.css", buf.toString());
+      StaticAssetCache.Entry entry = cache(1024L * 1024L, 10, 0L).get("/app.css", MIME_TYPES);
+      assertNotNull(entry.gzipContent);
+      assertTrue(entry.gzipContent.length < entry.content.length);
+      try(GZIPInputStream gzis = new GZIPInputStream(new ByteArrayInputStream(entry.gzipContent))) {
+         assertArrayEquals(entry.content, gzis.readAllBytes());
+      }
+   }
+
+   @Test
+   public void changed() throws Exception {
+      Path file = write("app.css", "old");
+      StaticAssetCache cache = cache(1024L * 1024L, 10, 1L);
+      StaticAssetCache.Entry entry = cache.get("/app.css", MIME_TYPES);
+      Files.write(file, "new content".getBytes(StandardCharsets.UTF_8));
+      StaticAssetCache.Entry changed = cache.get("/app.css", MIME_TYPES);
+      assertEquals("new content", new String(changed.content, StandardCharsets.UTF_8));
+      assertFalse(entry.etag.equals(changed.etag));
+   }
+
+   @Test
+   public void changedWhileLoading() throws Exception {
+      Path file = write("app.css", "old");
+      StaticAssetCache cache = cache(1024L * 1024L, 10, 0L);
+      //The MIME type is resolved after the content is read, so the change happens mid-load.
+      StaticAssetCache.Entry entry = cache.get("/app.css", name -> {
+         try {
+            Files.write(file, "new content".getBytes(StandardCharsets.UTF_8));
+         } catch(Exception e) {
+            throw new AssertionError(e);
+         }
+         cache.changed(ImmutableSet.of("/app.css"));
+         return MIME_TYPES.apply(name);
+      });
+      assertEquals("old", new String(entry.content, StandardCharsets.UTF_8));
+      assertEquals(0, cache.size());
+      StaticAssetCache.Entry changed = cache.get("/app.css", MIME_TYPES);
+      assertEquals("new content", new String(changed.content, StandardCharsets.UTF_8));
+      assertSame(changed, cache.get("/app.css", MIME_TYPES));
+   }
+
+   @Test
+   public void watchedChanges() throws Exception {
+      write("css/app.css", "app");
+      write("css/site.css", "site");
+      write("js/app.js", "js");
+      StaticAssetCache cache = cache(1024L * 1024L, 10, 0L);
+      cache.get("/css/app.css", MIME_TYPES);
+      cache.get("/css/site.css", MIME_TYPES);
+      cache.get("/js/app.js", MIME_TYPES);
+      assertEquals(3, cache.size());
+      cache.changed(ImmutableSet.of("/js/app.js.gz"));
+      assertEquals(2, cache.size());
+      cache.changed(ImmutableSet.of("/css"));
+      assertEquals(0, cache.size());
+      assertEquals(0L, cache.bytes());
+   }
+
+   @Test
+   public void normalPaths() throws Exception {
+      write("css/app.css", "app");
+      StaticAssetCache cache = cache(1024L * 1024L, 10, 0L);
+      assertNull(cache.get("/css//app.css", MIME_TYPES));
+      assertNull(cache.get("/css/./app.css", MIME_TYPES));
+      assertNull(cache.get("/js/../css/app.css", MIME_TYPES));
+      assertNotNull(cache.get("/css/app.css", MIME_TYPES));
+   }
+
+   @Test
+   public void relativePath() {
+      Path dir = Path.of("/var/www");
+      assertEquals("/css/app.css", DirectoryWatcher.relativePath(dir, dir.resolve("css/app.css")));
+      assertEquals("/", DirectoryWatcher.relativePath(dir, dir));
+   }
+
+   @Test
+   public void compressible() {
+      assertTrue(StaticAssetCache.isCompressible("text/css"));
+      assertTrue(StaticAssetCache.isCompressible("application/javascript; charset=utf-8"));
+      assertTrue(StaticAssetCache.isCompressible("application/ld+json"));
+      assertFalse(StaticAssetCache.isCompressible("image/png"));
+      assertFalse(StaticAssetCache.isCompressible(null));
+   }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import org.eclipse.jetty.http.HttpTester;
+import org.eclipse.jetty.server.LocalConnector;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests that rate limits apply to static assets served by filters.
+ */
+public class StaticAssetRateLimitTest {
+
+   private static class TestServer extends Server {
+
+      TestServer(final Properties props) throws Exception {
+         super(Server.builder(props));
+      }
+
+      @Override
+      protected void shutdown() {
+      }
+   }
+
+   @Test
+   public void limitCachedAsset() throws Exception {
+      Path dir = Files.createTempDirectory("snook-assets");
+      Files.createDirectories(dir.resolve("static"));
+      Files.writeString(dir.resolve("static/a.css"), "body { color: red; }", StandardCharsets.UTF_8);
+
+      Properties props = new Properties();
+      props.setProperty("server.httpPort", "0");
+      props.setProperty("assets.test.resource.Dir", dir.toString());
+      props.setProperty("assets.test.paths", "/static/*");
+      props.setProperty("assets.test." + StaticAssetsConfig.CACHE_MAX_BYTES_PROPERTY, "1000000");
+      props.setProperty("ratelimit.test.paths", "/*");
+      props.setProperty("ratelimit.test.rate", "0.001");
+      props.setProperty("ratelimit.test.burst", "1");
+      props.setProperty("ratelimit.test.key", "header");
+      props.setProperty("ratelimit.test.header", "X-Client");
+
+      TestServer server = new TestServer(props);
+      LocalConnector connector = new LocalConnector(server.httpServer);
+      server.httpServer.addConnector(connector);
+      server.start();
+      try {
+         String request = "GET /static/a.css HTTP/1.1\r\nHost: localhost\r\nX-Client: a\r\nConnection: close\r\n\r\n";
+         HttpTester.Response first = HttpTester.parseResponse(connector.getResponse(request));
+         assertEquals(200, first.getStatus());
+         assertEquals("body { color: red; }", first.getContent());
+         HttpTester.Response second = HttpTester.parseResponse(connector.getResponse(request));
+         assertEquals(429, second.getStatus());
+         String other = "GET /static/a.css HTTP/1.1\r\nHost: localhost\r\nX-Client: b\r\nConnection: close\r\n\r\n";
+         assertEquals(200, HttpTester.parseResponse(connector.getResponse(other)).getStatus());
+      } finally {
+         server.stop();
+      }
+   }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.attribyte.api.InitializationException;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for warm-up configuration.
+ */
+public class WarmUpTest {
+
+   @Test
+   public void rawRequests() throws Exception {
+      WarmUp warmUp = new WarmUp(ImmutableList.of("/status", "post /api/echo"),
+              ImmutableMap.of("Authorization", "Bearer x"), 10, 1, 1000L);
+      assertTrue(warmUp.isEnabled());
+      ImmutableList<String> raw = warmUp.rawRequests();
+      assertEquals("GET /status HTTP/1.1\r\nHost: localhost\r\nAuthorization: Bearer x\r\n\r\n", raw.get(0));
+      assertEquals("POST /api/echo HTTP/1.1\r\nHost: localhost\r\nAuthorization: Bearer x\r\nContent-Length: 0\r\n\r\n", raw.get(1));
+   }
+
+   @Test(expected = InitializationException.class)
+   public void invalidPath() throws Exception {
+      new WarmUp(ImmutableList.of("GET status"), ImmutableMap.of(), 10, 1, 1000L).rawRequests();
+   }
+
+   @Test
+   public void disabled() {
+      assertFalse(new WarmUp(ImmutableList.of(), ImmutableMap.of(), 10, 1, 1000L).isEnabled());
+   }
+}
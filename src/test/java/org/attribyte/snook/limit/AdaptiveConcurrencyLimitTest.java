@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the adaptive concurrency limit.
+ */
+public class AdaptiveConcurrencyLimitTest {
+
+   private static final long ONE_MS = TimeUnit.MILLISECONDS.toNanos(1L);
+
+   @Test
+   public void rejectAboveLimit() {
+      AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.builder()
+              .setInitialLimit(2).setMinLimit(1).setMaxLimit(10).build();
+      assertTrue(limit.tryAcquire());
+      assertTrue(limit.tryAcquire());
+      assertFalse(limit.tryAcquire());
+      assertEquals(2, limit.getInFlight());
+      limit.release();
+      assertEquals(1, limit.getInFlight());
+      assertTrue(limit.tryAcquire());
+   }
+
+   @Test
+   public void growWithStableLatency() {
+      AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.builder()
+              .setInitialLimit(20).setMinLimit(1).setMaxLimit(100).build();
+      for(int round = 0; round < 5; round++) {
+         saturate(limit, ONE_MS);
+      }
+      assertTrue(limit.getLimit() > 20);
+      assertTrue(limit.getLimit() <= 100);
+   }
+
+   @Test
+   public void shrinkWithRisingLatency() {
+      AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.builder()
+              .setInitialLimit(50).setMinLimit(1).setMaxLimit(100).build();
+      saturate(limit, ONE_MS);
+      int before = limit.getLimit();
+      saturate(limit, 10 * ONE_MS);
+      assertTrue(limit.getLimit() < before);
+   }
+
+   @Test
+   public void ignoreWhenNotInUse() {
+      AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.builder()
+              .setInitialLimit(20).setMinLimit(1).setMaxLimit(100).build();
+      for(int i = 0; i < 100; i++) {
+         assertTrue(limit.tryAcquire());
+         limit.release(100 * ONE_MS, false);
+      }
+      assertEquals(20, limit.getLimit());
+   }
+
+   @Test
+   public void backoffOnDrop() {
+      AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.builder()
+              .setInitialLimit(20).setMinLimit(15).setMaxLimit(100).setBackoffRatio(0.5).build();
+      assertTrue(limit.tryAcquire());
+      limit.release(ONE_MS, true);
+      assertEquals(15, limit.getLimit());
+   }
+
+   @Test
+   public void reset() {
+      AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.builder()
+              .setInitialLimit(20).setMinLimit(1).setMaxLimit(100).build();
+      saturate(limit, ONE_MS);
+      saturate(limit, 10 * ONE_MS);
+      assertTrue(limit.getLimit() != 20);
+      assertTrue(limit.getBaselineLatencyNanos() > 0.0);
+      limit.reset();
+      assertEquals(20, limit.getLimit());
+      assertEquals(0.0, limit.getBaselineLatencyNanos(), 0.0);
+      assertEquals(0, limit.getInFlight());
+   }
+
+   @Test(expected = IllegalArgumentException.class)
+   public void invalidLimits() {
+      AdaptiveConcurrencyLimit.builder().setInitialLimit(5).setMinLimit(10).build();
+   }
+
+   /**
+    * Acquires all permits, then releases them with the same latency.
+    * @param limit The limit.
+    * @param latencyNanos The latency.
+    */
+   private static void saturate(final AdaptiveConcurrencyLimit limit, final long latencyNanos) {
+      int acquired = 0;
+      while(limit.tryAcquire()) {
+         acquired++;
+      }
+      for(int i = 0; i < acquired; i++) {
+         limit.release(latencyNanos, false);
+      }
+   }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import com.google.common.collect.ImmutableList;
+import org.attribyte.snook.PathPattern;
+import org.attribyte.snook.WarmUpRunner;
+import org.attribyte.snook.test.TestHttpServletRequest;
+import org.attribyte.snook.test.TestHttpServletResponse;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the rate limit filter.
+ */
+public class RateLimitFilterTest {
+
+   @Test
+   public void limitClient() throws Exception {
+      RateLimitFilter filter = new RateLimitFilter(limit(), null);
+      AtomicInteger passed = new AtomicInteger();
+      TestHttpServletResponse response = new TestHttpServletResponse();
+      filter.doFilter(request(false), response, (req, resp) -> passed.incrementAndGet());
+      filter.doFilter(request(false), response, (req, resp) -> passed.incrementAndGet());
+      assertEquals(1, passed.get());
+      assertEquals(RateLimitFilter.TOO_MANY_REQUESTS_429, response.getStatus());
+   }
+
+   @Test
+   public void ignoreWarmUp() throws Exception {
+      RateLimitFilter filter = new RateLimitFilter(limit(), null);
+      AtomicInteger passed = new AtomicInteger();
+      for(int i = 0; i < 10; i++) {
+         filter.doFilter(request(true), new TestHttpServletResponse(), (req, resp) -> passed.incrementAndGet());
+      }
+      assertEquals(10, passed.get());
+      filter.doFilter(request(false), new TestHttpServletResponse(), (req, resp) -> passed.incrementAndGet());
+      assertEquals(11, passed.get());
+   }
+
+   private static RateLimit limit() {
+      return new RateLimit("test", ImmutableList.of(new PathPattern("/*")), 0.001, 1, RateLimit.Key.IP, null, 100);
+   }
+
+   private static TestHttpServletRequest request(final boolean warmUp) {
+      return new TestHttpServletRequest() {
+         @Override
+         public Object getAttribute(final String name) {
+            return warmUp && name.equals(WarmUpRunner.WARM_UP_ATTRIBUTE) ? Boolean.TRUE : null;
+         }
+
+         @Override
+         public String getServletPath() {
+            return "/index.html";
+         }
+
+         @Override
+         public String getRemoteAddr() {
+            return "127.0.0.1";
+         }
+      };
+   }
+}
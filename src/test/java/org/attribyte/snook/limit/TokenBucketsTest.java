@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.limit;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for token buckets.
+ */
+public class TokenBucketsTest {
+
+   private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+   @Test
+   public void burst() {
+      TokenBuckets buckets = new TokenBuckets(10.0, 5, 100);
+      long now = 0L;
+      for(int i = 0; i < 5; i++) {
+         assertEquals(0L, buckets.acquire("a", now));
+      }
+      long wait = buckets.acquire("a", now);
+      assertEquals(ONE_SECOND / 10, wait);
+      assertEquals(0L, buckets.acquire("b", now));
+   }
+
+   @Test
+   public void refill() {
+      TokenBuckets buckets = new TokenBuckets(10.0, 1, 100);
+      assertEquals(0L, buckets.acquire("a", 0L));
+      assertTrue(buckets.acquire("a", ONE_SECOND / 20) > 0L);
+      assertEquals(0L, buckets.acquire("a", ONE_SECOND / 10));
+   }
+
+   @Test
+   public void evictIdle() {
+      TokenBuckets buckets = new TokenBuckets(10.0, 2, 100);
+      assertEquals(0L, buckets.acquire("a", 0L));
+      assertEquals(0L, buckets.acquire("b", 0L));
+      assertEquals(0L, buckets.acquire("b", 0L));
+      assertEquals(2, buckets.size());
+      assertEquals(1, buckets.evictIdle(ONE_SECOND / 10));
+      assertEquals(1, buckets.size());
+      assertEquals(1, buckets.evictIdle(ONE_SECOND / 5));
+      assertEquals(0, buckets.size());
+   }
+
+   @Test
+   public void overflow() {
+      TokenBuckets buckets = new TokenBuckets(1.0, 1, 1);
+      assertEquals(0L, buckets.acquire("a", 0L));
+      assertEquals(0L, buckets.acquire("b", 0L));
+      assertTrue(buckets.acquire("c", 0L) > 0L);
+      assertEquals(1, buckets.size());
+      assertEquals(2L, buckets.overflowCount());
+   }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook.log;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for JSON line encoding.
+ */
+public class JSONLineTest {
+
+   @Test
+   public void fields() {
+      JSONLine line = new JSONLine(16);
+      String entry = line.start()
+              .field("method", "GET")
+              .field("status", 200)
+              .field("user", (String)null)
+              .fieldIfKnown("ttfb_us", -1L)
+              .fieldIfKnown("total_us", 15L)
+              .end();
+      assertEquals("{\"method\":\"GET\",\"status\":200,\"total_us\":15}", entry);
+   }
+
+   @Test
+   public void reuse() {
+      JSONLine line = new JSONLine(16);
+      line.start().field("a", 1L).end();
+      assertEquals("{\"b\":2}", line.start().field("b", 2L).end());
+   }
+
+   @Test
+   public void escape() {
+      JSONLine line = new JSONLine(16);
+      String entry = line.start().field("uri", "/a\"b\\c\n\u0001\u2028").end();
+      assertEquals("{\"uri\":\"/a\\\"b\\\\c\\n\\u0001\\u2028\"}", entry);
+   }
+}
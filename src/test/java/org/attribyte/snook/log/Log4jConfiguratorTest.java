@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import org.attribyte.api.InitializationException;
+import org.junit.Test;
+
+import java.util.Properties;
+
+/**
+ * Tests for log4j configuration from properties.
+ */
+public class Log4jConfiguratorTest {
+
+   private static Properties props() {
+      Properties props = new Properties();
+      props.setProperty("log.rootLevel", "warn");
+      props.setProperty("logger.app.name", "app");
+      props.setProperty("logger.app.level", "DEBUG");
+      props.setProperty("logger.app.appender", "console");
+      return props;
+   }
+
+   @Test
+   public void validate() throws Exception {
+      Log4jConfigurator.validate(props());
+   }
+
+   @Test(expected = InitializationException.class)
+   public void noLoggers() throws Exception {
+      Properties props = new Properties();
+      props.setProperty("log.rootLevel", "INFO");
+      Log4jConfigurator.validate(props);
+   }
+
+   @Test(expected = InitializationException.class)
+   public void invalidRootLevel() throws Exception {
+      Properties props = props();
+      props.setProperty("log.rootLevel", "LOUD");
+      Log4jConfigurator.validate(props);
+   }
+
+   @Test(expected = InitializationException.class)
+   public void invalidLoggerLevel() throws Exception {
+      Properties props = props();
+      props.setProperty("logger.app.level", "verbose");
+      Log4jConfigurator.validate(props);
+   }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+
+package org.attribyte.snook.log;
+
+import com.google.common.collect.ImmutableList;
+import org.attribyte.snook.PathPattern;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for request log sampling.
+ */
+public class RequestLogSamplerTest {
+
+   private static RequestLogSampler sampler() {
+      return new RequestLogSampler(
+              ImmutableList.of(new RequestLogSampler.Rule("assets", PathPattern.parseList("/css/*,*.js"), 0.01)),
+              PathPattern.parseList("/health"), 0.5, 500, 1000L);
+   }
+
+   @Test
+   public void errorsAndSlowAlwaysLogged() {
+      RequestLogSampler sampler = sampler();
+      assertTrue(sampler.shouldLog("/health", 503, 1L, 0.99));
+      assertTrue(sampler.shouldLog("/css/site.css", 500, 1L, 0.99));
+      assertTrue(sampler.shouldLog("/health", 200, 1000L, 0.99));
+   }
+
+   @Test
+   public void excluded() {
+      RequestLogSampler sampler = sampler();
+      assertFalse(sampler.shouldLog("/health", 200, 1L, 0.0));
+      assertFalse(sampler.shouldLog("/health", 404, 1L, 0.0));
+   }
+
+   @Test
+   public void rates() {
+      RequestLogSampler sampler = sampler();
+      assertTrue(sampler.shouldLog("/css/site.css", 200, 1L, 0.005));
+      assertFalse(sampler.shouldLog("/css/site.css", 200, 1L, 0.02));
+      assertFalse(sampler.shouldLog("/app/main.js", 200, 1L, 0.02));
+      assertTrue(sampler.shouldLog("/api/users", 200, 1L, 0.4));
+      assertFalse(sampler.shouldLog("/api/users", 200, 1L, 0.6));
+   }
+
+   @Test
+   public void isSampling() {
+      assertTrue(sampler().isSampling());
+      assertFalse(new RequestLogSampler(ImmutableList.of(), ImmutableList.of(), 1.0, 500, 0L).isSampling());
+   }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.log;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the ring buffer.
+ */
+public class RingBufferTest {
+
+   @Test
+   public void capacity() {
+      assertEquals(8, new RingBuffer<String>(5).capacity());
+      assertEquals(8, new RingBuffer<String>(8).capacity());
+      assertEquals(1, new RingBuffer<String>(1).capacity());
+   }
+
+   @Test
+   public void order() {
+      RingBuffer<String> buffer = new RingBuffer<>(4);
+      assertTrue(buffer.offer("a"));
+      assertTrue(buffer.offer("b"));
+      assertEquals(2, buffer.size());
+      assertEquals("a", buffer.poll());
+      assertEquals("b", buffer.poll());
+      assertEquals(null, buffer.poll());
+      assertEquals(0, buffer.size());
+   }
+
+   @Test
+   public void full() {
+      RingBuffer<Integer> buffer = new RingBuffer<>(2);
+      assertTrue(buffer.offer(1));
+      assertTrue(buffer.offer(2));
+      assertFalse(buffer.offer(3));
+      assertEquals(1, buffer.poll().intValue());
+      assertTrue(buffer.offer(3));
+      assertEquals(2, buffer.poll().intValue());
+      assertEquals(3, buffer.poll().intValue());
+   }
+
+   @Test
+   public void concurrentProducers() throws Exception {
+      final RingBuffer<Integer> buffer = new RingBuffer<>(64);
+      final int producers = 4;
+      final int perProducer = 10000;
+      Thread[] threads = new Thread[producers];
+      for(int i = 0; i < producers; i++) {
+         threads[i] = new Thread(() -> {
+            for(int j = 0; j < perProducer; j++) {
+               while(!buffer.offer(j)) {
+                  Thread.yield();
+               }
+            }
+         });
+         threads[i].start();
+      }
+
+      long sum = 0L;
+      int received = 0;
+      while(received < producers * perProducer) {
+         Integer value = buffer.poll();
+         if(value != null) {
+            sum += value;
+            received++;
+         }
+      }
+      for(Thread thread : threads) {
+         thread.join();
+      }
+      assertEquals((long)producers * perProducer * (perProducer - 1) / 2, sum);
+      assertEquals(null, buffer.poll());
+   }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Attribyte, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ *
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied.
+ *
+ * See the License for the specific language governing permissions
+ * and limitations under the License.
+ */
+
+package org.attribyte.snook.stats;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the count-min sketch and heavy hitter tracking.
+ */
+public class HeavyHittersTest {
+
+   @Test
+   public void sketchEstimate() {
+      CountMinSketch sketch = new CountMinSketch(1024, 4);
+      for(int i = 0; i < 100; i++) {
+         sketch.add("a");
+      }
+      for(int i = 0; i < 10; i++) {
+         sketch.add("b");
+      }
+      assertTrue(sketch.estimate("a") >= 100L);
+      assertTrue(sketch.estimate("b") >= 10L);
+      assertTrue(sketch.estimate("b") < 100L);
+      assertEquals(110L, sketch.total());
+   }
+
+   @Test
+   public void sketchDecay() {
+      CountMinSketch sketch = new CountMinSketch(1024, 4);
+      for(int i = 0; i < 100; i++) {
+         sketch.add("a");
+      }
+      sketch.decay();
+      assertEquals(50L, sketch.estimate("a"));
+      assertEquals(50L, sketch.total());
+   }
+
+   @Test
+   public void topKeys() {
+      HeavyHitters heavyHitters = new HeavyHitters(3, 1024, 4, 0L);
+      for(int i = 0; i < 1000; i++) {
+         heavyHitters.add("key-" + i);
+      }
+      for(int i = 0; i < 50; i++) {
+         heavyHitters.add("hot");
+      }
+      for(int i = 0; i < 30; i++) {
+         heavyHitters.add("warm");
+      }
+      List<HeavyHitters.Entry> top = heavyHitters.top();
+      assertEquals(3, top.size());
+      assertEquals("hot", top.get(0).key);
+      assertTrue(top.get(0).count >= 50L);
+      assertEquals("warm", top.get(1).key);
+   }
+
+   @Test
+   public void decayWindow() {
+      long window = TimeUnit.SECONDS.toNanos(1L);
+      HeavyHitters heavyHitters = new HeavyHitters(2, 1024, 4, window);
+      long now = System.nanoTime();
+      for(int i = 0; i < 10; i++) {
+         heavyHitters.add("a", now);
+      }
+      heavyHitters.add("a", now + 2 * window);
+      assertEquals(6L, heavyHitters.top().get(0).count);
+   }
+}